@@ -0,0 +1,83 @@
+package com.sem.btrouble.benchmarks;
+
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Floor;
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.model.Wall;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Rooms and bubbles shared by the benchmarks.
+ * Everything is created headless and from a fixed seed, so runs can be compared.
+ */
+final class BenchmarkFixtures {
+
+    static final float WIDTH = 1280;
+    static final float HEIGHT = 720;
+    static final float BORDER = 20;
+    static final long SEED = 42;
+
+    /**
+     * Utility class, should not be instantiated.
+     */
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Creates a closed room of the size of the screen.
+     * @return the room.
+     */
+    static Room createRoom() {
+        return createRoom(1);
+    }
+
+    /**
+     * Creates a closed room with walls on the sides and floors at the top and bottom.
+     * @param scale Factor by which the width and height of the screen are multiplied.
+     * @return the room.
+     */
+    static Room createRoom(float scale) {
+        float width = WIDTH * scale;
+        float height = HEIGHT * scale;
+        List<Wall> walls = new ArrayList<>();
+        walls.add(new Wall(0, 0, BORDER, height));
+        walls.add(new Wall(width - BORDER, 0, BORDER, height));
+        List<Floor> floors = new ArrayList<>();
+        floors.add(new Floor(0, 0, width, BORDER));
+        floors.add(new Floor(0, height - BORDER, width, BORDER));
+        return new Room(walls, floors, 100, 500, "background1280x720.png");
+    }
+
+    /**
+     * Creates bubbles spread randomly over the inside of a screen sized room.
+     * @param amount Amount of bubbles.
+     * @param random Source of the positions, sizes and speeds.
+     * @return the bubbles.
+     */
+    static List<Bubble> createBubbles(int amount, Random random) {
+        return createBubbles(amount, random, 1);
+    }
+
+    /**
+     * Creates bubbles spread randomly over the inside of the room.
+     * @param amount Amount of bubbles.
+     * @param random Source of the positions, sizes and speeds.
+     * @param scale Scale of the room, see createRoom.
+     * @return the bubbles.
+     */
+    static List<Bubble> createBubbles(int amount, Random random, float scale) {
+        List<Bubble> bubbles = new ArrayList<>(amount);
+        float margin = BORDER + 40;
+        for(int i = 0; i < amount; i++) {
+            int size = 1 + random.nextInt(3);
+            float x = margin + random.nextFloat() * (WIDTH * scale - 2 * margin);
+            float y = margin + random.nextFloat() * (HEIGHT * scale - 2 * margin);
+            float speedX = random.nextFloat() * 6 - 3;
+            bubbles.add(new Bubble(size, x, y, speedX, 0));
+        }
+        return bubbles;
+    }
+}
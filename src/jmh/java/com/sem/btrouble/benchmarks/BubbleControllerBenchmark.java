@@ -0,0 +1,76 @@
+package com.sem.btrouble.benchmarks;
+
+import com.sem.btrouble.controller.BubbleController;
+import com.sem.btrouble.controller.CollisionHandler;
+import com.sem.btrouble.controller.UniformGridBroadphase;
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.model.Rope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for BubbleController.update, where part of the bubbles has been hit and splits.
+ * Splitting changes the bubbles, so every invocation starts from a fresh controller.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BubbleControllerBenchmark {
+
+    @Param({"100", "1000"})
+    private int bubbles;
+
+    @Param({"10"})
+    private int hitPercentage;
+
+    private BubbleController bubbleController;
+
+    /**
+     * Creates a controller with bubbles, and hits a part of them with a rope.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        Room room = BenchmarkFixtures.createRoom();
+        bubbleController = new BubbleController(new CollisionHandler(
+                new UniformGridBroadphase(room.getBounds()), room.getBounds()));
+        bubbleController.addStaticListReference(room.getCollidablesList());
+        List<Bubble> created = BenchmarkFixtures.createBubbles(bubbles,
+                new Random(BenchmarkFixtures.SEED));
+        Rope rope = new Rope(0, 0);
+        int hitEvery = Math.max(1, 100 / hitPercentage);
+        for(int i = 0; i < created.size(); i++) {
+            if(i % hitEvery == 0) {
+                created.get(i).getCollideActions().get(Rope.class).onCollision(rope);
+            }
+        }
+        bubbleController.addBubble(created);
+    }
+
+    /**
+     * Moves and splits the bubbles, and checks the collisions of the result.
+     * @return the amount of bubbles afterwards.
+     */
+    @Benchmark
+    public int update() {
+        bubbleController.update();
+        return bubbleController.getBubblesAmount();
+    }
+}
@@ -0,0 +1,58 @@
+package com.sem.btrouble.benchmarks;
+
+import com.sem.btrouble.model.BubbleWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for a tick of the BubbleWorld: moving all bubbles and bouncing them
+ * inside the screen. A tick of ten thousand bubbles should stay well within a
+ * frame of 16 ms. The bubbles keep moving, so the world is refilled every iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BubbleWorldBenchmark {
+
+    @Param({"1000", "10000"})
+    private int bubbles;
+
+    private BubbleWorld world;
+
+    /**
+     * Fills a world with bubbles spread over the screen.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = new BubbleWorld(bubbles);
+        for(int i = 0; i < bubbles; i++) {
+            world.add(1 + i % 4, 50 + i % 1100, 50 + i % 500);
+        }
+    }
+
+    /**
+     * Simulates a single tick of all bubbles.
+     * @return the amount of bubbles afterwards.
+     */
+    @Benchmark
+    public int tick() {
+        world.update();
+        world.bounceInside(0, 0, BenchmarkFixtures.WIDTH, BenchmarkFixtures.HEIGHT);
+        return world.getCount();
+    }
+}
@@ -0,0 +1,90 @@
+package com.sem.btrouble.benchmarks;
+
+import com.sem.btrouble.controller.Broadphase;
+import com.sem.btrouble.controller.BruteForceBroadphase;
+import com.sem.btrouble.controller.CollisionHandler;
+import com.sem.btrouble.controller.SweepAndPruneBroadphase;
+import com.sem.btrouble.controller.UniformGridBroadphase;
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Room;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for CollisionHandler.checkAllCollisions with a growing amount of bubbles.
+ * The room grows with the amount of bubbles, so the density stays the same as
+ * with DENSITY bubbles on a single screen and the cost of the broadphase is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionHandlerBenchmark {
+
+    private static final int DENSITY = 50;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int collidables;
+
+    @Param({"grid", "sweep"})
+    private String broadphase;
+
+    private CollisionHandler collisionHandler;
+
+    /**
+     * Fills a room with bubbles. The bubbles are not moved,
+     * so every invocation checks the same situation.
+     */
+    @Setup
+    public void setUp() {
+        float scale = (float) Math.max(1, Math.sqrt((double) collidables / DENSITY));
+        Room room = BenchmarkFixtures.createRoom(scale);
+        collisionHandler = new CollisionHandler(createBroadphase(room), room.getBounds());
+        collisionHandler.addStaticListReference(room.getCollidablesList());
+        List<Bubble> bubbles = BenchmarkFixtures.createBubbles(collidables,
+                new Random(BenchmarkFixtures.SEED), scale);
+        collisionHandler.addListReference(bubbles);
+        collisionHandler.checkAllCollisions();
+    }
+
+    /**
+     * Creates the broadphase selected by the parameter.
+     * @param room Room the broadphase should cover.
+     * @return the broadphase.
+     */
+    private Broadphase createBroadphase(Room room) {
+        switch(broadphase) {
+            case "grid":
+                return new UniformGridBroadphase(room.getBounds());
+            case "sweep":
+                return new SweepAndPruneBroadphase();
+            case "brute":
+                return new BruteForceBroadphase();
+            default:
+                throw new IllegalArgumentException("Unknown broadphase " + broadphase);
+        }
+    }
+
+    /**
+     * Checks all collisions once.
+     */
+    @Benchmark
+    public void checkAllCollisions() {
+        collisionHandler.checkAllCollisions();
+    }
+}
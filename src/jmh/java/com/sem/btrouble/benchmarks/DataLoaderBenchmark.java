@@ -0,0 +1,84 @@
+package com.sem.btrouble.benchmarks;
+
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.tools.DataLoader;
+import com.sem.btrouble.tools.LevelCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for loading levels from the data file.
+ * Run the benchmarks from the project root, so the standard location can be found.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataLoaderBenchmark {
+
+    @Param({"0", "3"})
+    private int levelIndex;
+
+    private DataLoader dataLoader;
+    private LevelCatalog catalog;
+
+    /**
+     * Creates a loader and a catalog for the standard data file.
+     */
+    @Setup
+    public void setUp() {
+        dataLoader = new DataLoader(DataLoader.STANDARD_LOCATION);
+        catalog = LevelCatalog.load(DataLoader.STANDARD_LOCATION);
+    }
+
+    /**
+     * Loads the room of a level.
+     * @return the room.
+     */
+    @Benchmark
+    public Room loadRoom() {
+        return dataLoader.loadRoom(levelIndex);
+    }
+
+    /**
+     * Loads the bubbles of a level.
+     * @return the bubbles.
+     */
+    @Benchmark
+    public List<Bubble> loadBubbles() {
+        return dataLoader.loadBubbles(levelIndex);
+    }
+
+    /**
+     * Creates the room of a level from the catalog.
+     * @return the room.
+     */
+    @Benchmark
+    public Room createRoom() {
+        return catalog.createRoom(levelIndex);
+    }
+
+    /**
+     * Creates the bubbles of a level from the catalog.
+     * @return the bubbles.
+     */
+    @Benchmark
+    public List<Bubble> createBubbles() {
+        return catalog.createBubbles(levelIndex);
+    }
+}
@@ -0,0 +1,56 @@
+package com.sem.btrouble.benchmarks;
+
+import com.sem.btrouble.model.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for a full tick of a level, Level.moveObjects.
+ * The level is rebuilt every iteration, so the bubbles keep bouncing around the room.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int bubbles;
+
+    private com.sem.btrouble.controller.Level level;
+
+    /**
+     * Creates a level with a player and bubbles.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        level = new com.sem.btrouble.controller.Level(BenchmarkFixtures.createRoom());
+        level.addPlayer(new Player(0, 0));
+        level.addBubble(BenchmarkFixtures.createBubbles(bubbles,
+                new Random(BenchmarkFixtures.SEED)));
+        level.start();
+    }
+
+    /**
+     * Simulates a single tick.
+     */
+    @Benchmark
+    public void moveObjects() {
+        level.moveObjects();
+    }
+}
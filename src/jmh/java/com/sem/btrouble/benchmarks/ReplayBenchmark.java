@@ -0,0 +1,92 @@
+package com.sem.btrouble.benchmarks;
+
+import com.sem.btrouble.game.AbstractGame;
+import com.sem.btrouble.game.PlayerInput;
+import com.sem.btrouble.game.Replay;
+import com.sem.btrouble.game.ReplayPlayer;
+import com.sem.btrouble.tools.DataLoader;
+import com.sem.btrouble.tools.LevelCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark that plays a recorded game, so the controllers and the collision
+ * handling run on the input of a real session. Pass a recording made by the game
+ * with -p replay=replays/replay-[session]-[n].btr; without one a session with
+ * random input is played.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplayBenchmark {
+
+    private static final int RANDOM_FRAMES = 3600;
+
+    @Param({""})
+    private String replay;
+
+    private Replay recording;
+    private LevelCatalog levels;
+    private ReplayPlayer player;
+
+    /**
+     * Loads the recording and the levels.
+     * @throws IOException when the recording can't be read.
+     */
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        levels = LevelCatalog.load(DataLoader.STANDARD_LOCATION);
+        recording = replay.isEmpty() ? createRandomSession() : Replay.load(replay);
+    }
+
+    /**
+     * Sets up the recorded game before every play.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        player = new ReplayPlayer(recording, levels);
+    }
+
+    /**
+     * Plays the whole recording.
+     * @return the amount of simulated ticks.
+     */
+    @Benchmark
+    public long play() {
+        player.run();
+        return player.getGame().getSimulation().getTicks();
+    }
+
+    /**
+     * Creates a minute of a game of the first level with random input.
+     * @return the recording.
+     */
+    private static Replay createRandomSession() {
+        Random random = new Random(BenchmarkFixtures.SEED);
+        Replay session = new Replay(0, BenchmarkFixtures.SEED, false, 1);
+        for(int i = 0; i < RANDOM_FRAMES; i++) {
+            int buttons = PlayerInput.press(0, 0, random.nextInt(3) == 0,
+                    random.nextInt(3) == 0, random.nextInt(20) == 0);
+            session.addFrame(16 + random.nextInt(2), buttons,
+                    i == 0 ? AbstractGame.LEVEL_STARTED : 0);
+        }
+        return session;
+    }
+}
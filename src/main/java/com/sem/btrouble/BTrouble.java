@@ -2,6 +2,13 @@ package com.sem.btrouble;
 
 import java.util.HashMap;
 
+import com.sem.btrouble.event.Event;
+import com.sem.btrouble.event.EventBus;
+import com.sem.btrouble.tools.AssetCache;
+import com.sem.btrouble.tools.Logger;
+import com.sem.btrouble.tools.OpenAlDevice;
+import com.sem.btrouble.tools.SoundBank;
+import com.sem.btrouble.tools.SoundObserver;
 import com.sem.btrouble.view.GameState;
 import com.sem.btrouble.view.LostLevelState;
 import com.sem.btrouble.view.MenuView;
@@ -10,6 +17,8 @@ import com.sem.btrouble.view.ShopView;
 import org.newdawn.slick.AppGameContainer;
 import org.newdawn.slick.GameContainer;
 import org.newdawn.slick.SlickException;
+import org.newdawn.slick.openal.SoundStore;
+import org.newdawn.slick.opengl.renderer.Renderer;
 import org.newdawn.slick.state.StateBasedGame;
 
 import com.sem.btrouble.game.AbstractGame;
@@ -21,6 +30,7 @@ public class BTrouble extends StateBasedGame {
 
     private static HashMap<String, Boolean> preferences;
     private AbstractGame game;
+    private SoundBank sounds;
 
     /**
      * Init the Slickapp.
@@ -36,6 +46,7 @@ public class BTrouble extends StateBasedGame {
         preferences.put("versus", 
                 false);
         preferences.put("survival", false);
+        preferences.put("replays", false);
         this.game = null;
     }
 
@@ -45,6 +56,7 @@ public class BTrouble extends StateBasedGame {
      */
     public static void main(String[] args) {
         try {
+            Renderer.setRenderer(Renderer.VERTEX_ARRAY_RENDERER);
             AppGameContainer appgc;
             appgc = new AppGameContainer(new BTrouble("Bubble Trouble"));
             appgc.setDisplayMode(1280, 720, false);
@@ -60,6 +72,14 @@ public class BTrouble extends StateBasedGame {
 
     @Override
     public void initStatesList(GameContainer gameContainer) throws SlickException {
+        AssetCache assets = AssetCache.getInstance();
+        assets.loadAtlas(AssetCache.DEFAULT_ATLAS);
+        assets.preload(AssetCache.DEFAULT_MANIFEST);
+        EventBus.getInstance().subscribe(Event.class,
+                new Logger(Logger.DEFAULT_LOGGER_PATH, false));
+        SoundStore.get().init();
+        sounds = new SoundBank(new OpenAlDevice());
+        new SoundObserver(sounds).subscribe(EventBus.getInstance());
         this.addState(new MenuView());
         this.addState(new GameState());
         this.addState(new MultiPlayerGameState());
@@ -67,6 +87,26 @@ public class BTrouble extends StateBasedGame {
         this.addState(new LostLevelState());
     }
 
+    /**
+     * Plays the sound effects that were queued during the update,
+     * or drops them if the audio is off.
+     *
+     * @param container
+     *            the game container
+     * @param delta
+     *            time since the last update
+     * @throws SlickException
+     *            never thrown
+     */
+    @Override
+    protected void postUpdateState(GameContainer container, int delta) throws SlickException {
+        if(getAudioOn()) {
+            sounds.flush();
+        } else {
+            sounds.stopAll();
+        }
+    }
+
     /**
      * Getter for the game object.
      * @return The game object.
@@ -158,4 +198,23 @@ public class BTrouble extends StateBasedGame {
     public static Boolean getSurvival() {
         return preferences.get("survival");
     }
+
+    /**
+     * Sets the replays setting.
+     *
+     * @param replays
+     *            boolean to record the games, so they can be played again.
+     */
+    public static void setReplays(boolean replays) {
+        preferences.put("replays", replays);
+    }
+
+    /**
+     * Get the replays setting.
+     *
+     * @return a boolean that is true if the games are recorded.
+     */
+    public static Boolean getReplays() {
+        return preferences.get("replays");
+    }
 }
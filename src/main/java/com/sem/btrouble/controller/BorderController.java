@@ -27,8 +27,8 @@ public class BorderController extends ControllerDecorator {
         this.controller = controller;
         this.wallList = wallList;
         this.floorList = floorList;
-        controller.addListReference(this.wallList);
-        controller.addListReference(this.floorList);
+        controller.addKinematicListReference(this.wallList);
+        controller.addKinematicListReference(this.floorList);
     }
 
     /**
@@ -0,0 +1,21 @@
+package com.sem.btrouble.controller;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Strategy interface for the broadphase of the CollisionHandler.
+ * A broadphase cheaply finds the pairs of collidables that could collide,
+ * so only those pairs are tested with intersectsCollidable.
+ */
+public interface Broadphase {
+
+    /**
+     * Finds all pairs of collidables that could collide.
+     * Every unordered pair is added once, as two consecutive elements
+     * of the pairs list. Pairs that are left out can not intersect.
+     * @param collidables Collidables to be checked this tick.
+     * @param pairs List to which the pairs are added.
+     */
+    void findPairs(Collection<? extends Collidable> collidables, List<Collidable> pairs);
+}
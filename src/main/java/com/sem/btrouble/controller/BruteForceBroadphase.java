@@ -0,0 +1,32 @@
+package com.sem.btrouble.controller;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Broadphase that returns every pair of collidables.
+ * This checks every collidable against every other collidable.
+ */
+public class BruteForceBroadphase implements Broadphase {
+
+    private Collidable[] items = new Collidable[0];
+
+    /**
+     * Adds every pair of collidables to the list.
+     * @param collidables Collidables to be checked this tick.
+     * @param pairs List to which the pairs are added.
+     */
+    @Override
+    public void findPairs(Collection<? extends Collidable> collidables, List<Collidable> pairs) {
+        int count = collidables.size();
+        items = collidables.toArray(items);
+        for(int i = 0; i < count; i++) {
+            for(int j = i + 1; j < count; j++) {
+                pairs.add(items[i]);
+                pairs.add(items[j]);
+            }
+        }
+        Arrays.fill(items, null);
+    }
+}
@@ -1,11 +1,12 @@
 package com.sem.btrouble.controller;
 
 import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.tools.SpriteBatch;
 import org.newdawn.slick.Graphics;
+import org.newdawn.slick.SlickException;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This class handles all the logic for the bubbles.
@@ -13,8 +14,9 @@ import java.util.concurrent.CopyOnWriteArrayList;
  */
 public class BubbleController extends ControllerDecorator {
 
-    private List<Bubble> bubbleList;
+    private EntityList<Bubble> bubbleList;
     private Controller controller;
+    private SpriteBatch batch;
 
     /**
      * Constructor for bubble controller.
@@ -23,7 +25,8 @@ public class BubbleController extends ControllerDecorator {
     public BubbleController(Controller controller) {
         super(controller);
         this.controller = controller;
-        this.bubbleList = new CopyOnWriteArrayList<>();
+        this.batch = new SpriteBatch();
+        this.bubbleList = new EntityList<>();
         this.controller.addListReference(this.bubbleList);
     }
 
@@ -76,6 +79,7 @@ public class BubbleController extends ControllerDecorator {
      * to the list.
      */
     public void update() {
+        bubbleList.flush();
         for(Bubble bubble : bubbleList) {
             bubble.move();
             if(bubble.getCollidedStatus()) {
@@ -92,9 +96,14 @@ public class BubbleController extends ControllerDecorator {
      */
     @Override
     public void draw(Graphics graphics) {
-        for(Bubble bubble : bubbleList) {
-            bubble.draw(graphics);
+        try {
+            for(Bubble bubble : bubbleList) {
+                bubble.draw(batch, getInterpolation());
+            }
+        } catch(SlickException e) {
+            e.printStackTrace();
         }
+        batch.flush();
         controller.draw(graphics);
     }
 }
@@ -0,0 +1,150 @@
+package com.sem.btrouble.controller;
+
+import java.util.Arrays;
+
+/**
+ * Cells of a uniform grid, shared by the grid based collision structures.
+ * Every cell holds the indices of the collidables that overlap it.
+ * Positions outside the grid are clamped to the nearest border cells.
+ */
+class CellGrid {
+
+    private static final int INITIAL_CELL_CAPACITY = 4;
+
+    private final float originX;
+    private final float originY;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+
+    private int[][] cells;
+    private int[] cellSizes;
+
+    /**
+     * Constructor for the cells of a grid.
+     * @param x X position of the left side of the area.
+     * @param y Y position of the top of the area.
+     * @param width Width of the area.
+     * @param height Height of the area.
+     * @param cellSize Width and height of a single cell.
+     */
+    CellGrid(float x, float y, float width, float height, float cellSize) {
+        if(cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size should be positive");
+        }
+        this.originX = x;
+        this.originY = y;
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cells = new int[columns * rows][INITIAL_CELL_CAPACITY];
+        this.cellSizes = new int[columns * rows];
+    }
+
+    /**
+     * Get the amount of columns of the grid.
+     * @return the amount of columns.
+     */
+    int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Get the amount of rows of the grid.
+     * @return the amount of rows.
+     */
+    int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the column of the x position, clamped to the grid.
+     * @param x X position.
+     * @return the column.
+     */
+    int column(float x) {
+        return clamp((int) Math.floor((x - originX) / cellSize), columns);
+    }
+
+    /**
+     * Returns the row of the y position, clamped to the grid.
+     * @param y Y position.
+     * @return the row.
+     */
+    int row(float y) {
+        return clamp((int) Math.floor((y - originY) / cellSize), rows);
+    }
+
+    /**
+     * Returns the index of the cell at the row and column.
+     * @param row Row of the cell.
+     * @param column Column of the cell.
+     * @return the index of the cell.
+     */
+    int cell(int row, int column) {
+        return row * columns + column;
+    }
+
+    /**
+     * Get the indices stored in a cell. Only the first
+     * cellSize(cell) elements of the array are valid.
+     * @param cell Index of the cell.
+     * @return the indices in the cell.
+     */
+    int[] get(int cell) {
+        return cells[cell];
+    }
+
+    /**
+     * Get the amount of indices stored in a cell.
+     * @param cell Index of the cell.
+     * @return the amount of indices.
+     */
+    int cellSize(int cell) {
+        return cellSizes[cell];
+    }
+
+    /**
+     * Adds the index to a cell, growing the cell if it is full.
+     * @param cell Index of the cell.
+     * @param index Index of the collidable.
+     */
+    void add(int cell, int index) {
+        if(cellSizes[cell] == cells[cell].length) {
+            cells[cell] = Arrays.copyOf(cells[cell], cells[cell].length * 2);
+        }
+        cells[cell][cellSizes[cell]++] = index;
+    }
+
+    /**
+     * Removes the index from a cell. The order within the cell is not kept.
+     * @param cell Index of the cell.
+     * @param index Index of the collidable.
+     */
+    void remove(int cell, int index) {
+        int[] cellItems = cells[cell];
+        for(int i = 0; i < cellSizes[cell]; i++) {
+            if(cellItems[i] == index) {
+                cellItems[i] = cellItems[--cellSizes[cell]];
+                return;
+            }
+        }
+    }
+
+    /**
+     * Empties all cells, but keeps the allocated storage.
+     */
+    void clear() {
+        Arrays.fill(cellSizes, 0);
+    }
+
+    /**
+     * Clamp the value between 0 and upper - 1.
+     * @param value Value to be clamped.
+     * @param upper Exclusive upper bound.
+     * @return the clamped value.
+     */
+    private static int clamp(int value, int upper) {
+        return Math.min(Math.max(value, 0), upper - 1);
+    }
+}
@@ -14,6 +14,8 @@ public interface Collidable extends Drawable {
      * Every collidable should return a Map with all CollisionActions
      * that collidable should process. To prevent class checking, simply
      * use the class as the key, and a CollisionAction instance as value.
+     * This method is called for every collision, so the map should be built
+     * once and reused, preferably as a CollisionActionTable.
      * @return A map of all actions this collidable can do on a collision.
      */
     Map<Class<? extends Collidable>, CollisionAction> getCollideActions();
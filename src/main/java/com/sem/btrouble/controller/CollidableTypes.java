@@ -0,0 +1,43 @@
+package com.sem.btrouble.controller;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gives every collidable class a small, unique type id.
+ * The ids are used to index arrays instead of looking classes up in a HashMap.
+ */
+public final class CollidableTypes {
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private static final ClassValue<Integer> TYPE_IDS = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return NEXT_ID.getAndIncrement();
+        }
+    };
+
+    /**
+     * Utility class, should not be instantiated.
+     */
+    private CollidableTypes() {
+    }
+
+    /**
+     * Returns the type id of a class. A class gets a new id the first time it is looked up.
+     * @param type Class to get the id of.
+     * @return the type id.
+     */
+    public static int typeId(Class<?> type) {
+        return TYPE_IDS.get(type);
+    }
+
+    /**
+     * Returns the amount of type ids that have been given out.
+     * All type ids are smaller than this number.
+     * @return the amount of type ids.
+     */
+    public static int count() {
+        return NEXT_ID.get();
+    }
+}
@@ -0,0 +1,69 @@
+package com.sem.btrouble.controller;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable map from collidable classes to CollisionActions.
+ * Lookups index an array with the type id of the class, which is cheaper
+ * than hashing the class and does not allocate. A collidable should build
+ * its table once and return the same table on every getCollideActions call.
+ */
+public class CollisionActionTable extends AbstractMap<Class<? extends Collidable>, CollisionAction> {
+
+    private final CollisionAction[] actions;
+    private final Set<Entry<Class<? extends Collidable>, CollisionAction>> entries;
+
+    /**
+     * Constructor for the table.
+     * @param collisionActions Actions to be stored in the table, keyed by the class of the collider.
+     */
+    public CollisionActionTable(Map<Class<? extends Collidable>, CollisionAction> collisionActions) {
+        int size = 0;
+        for(Class<? extends Collidable> type : collisionActions.keySet()) {
+            size = Math.max(size, CollidableTypes.typeId(type) + 1);
+        }
+        actions = new CollisionAction[size];
+        for(Entry<Class<? extends Collidable>, CollisionAction> entry : collisionActions.entrySet()) {
+            actions[CollidableTypes.typeId(entry.getKey())] = entry.getValue();
+        }
+        entries = Collections.unmodifiableSet(
+                new LinkedHashMap<>(collisionActions).entrySet());
+    }
+
+    /**
+     * Returns the action for a class of collider.
+     * @param key Class of the collider.
+     * @return the action, or null if there is none.
+     */
+    @Override
+    public CollisionAction get(Object key) {
+        if(!(key instanceof Class)) {
+            return null;
+        }
+        int typeId = CollidableTypes.typeId((Class<?>) key);
+        return typeId < actions.length ? actions[typeId] : null;
+    }
+
+    /**
+     * Returns true if there is an action for the class.
+     * @param key Class of the collider.
+     * @return True if there is an action.
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns an unmodifiable view of the actions in the table.
+     * @return set of all entries.
+     */
+    @Override
+    public Set<Entry<Class<? extends Collidable>, CollisionAction>> entrySet() {
+        return entries;
+    }
+}
@@ -1,26 +1,88 @@
 package com.sem.btrouble.controller;
 
 import com.sem.btrouble.model.Drawable;
+import org.newdawn.slick.geom.Rectangle;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Class to handle collisions.
  */
 public class CollisionHandler implements Drawable, Controller {
 
-    private Collection<Collidable> collidables;
+    public static final float DEFAULT_WIDTH = 1280f;
+    public static final float DEFAULT_HEIGHT = 720f;
+
+    private List<Collidable> collidables;
+    private Set<Collidable> members;
+    private boolean removed;
     private Collection<Collection<? extends Collidable>> collidableListsReference;
+    private Collection<Collection<? extends Collidable>> kinematicListsReference;
+    private Broadphase broadphase;
+    private StaticCollisionLayer staticLayer;
+    private CollisionInterestMatrix interestMatrix;
+    private List<Collidable> pairs;
+    private boolean continuous;
+    private List<SweptCollidable> swept;
+    private List<Collidable> sweepTargets;
 
     /**
      * Use set to prevent duplicates.
+     * Uses a uniform grid covering the default screen size as broadphase.
      */
     public CollisionHandler() {
-        collidables = new HashSet<>();
+        this(new UniformGridBroadphase(new Rectangle(0, 0, DEFAULT_WIDTH, DEFAULT_HEIGHT)));
+    }
+
+    /**
+     * Use set to prevent duplicates.
+     * The static layer covers the default screen size.
+     * @param broadphase Strategy used to find the pairs that could collide.
+     */
+    public CollisionHandler(Broadphase broadphase) {
+        this(broadphase, new Rectangle(0, 0, DEFAULT_WIDTH, DEFAULT_HEIGHT));
+    }
+
+    /**
+     * Use set to prevent duplicates.
+     * @param broadphase Strategy used to find the pairs that could collide.
+     * @param bounds Bounds of the room, used to size the static layer.
+     */
+    public CollisionHandler(Broadphase broadphase, Rectangle bounds) {
+        collidables = new ArrayList<>();
+        members = Collections.newSetFromMap(new IdentityHashMap<Collidable, Boolean>());
         collidableListsReference = new ArrayList<>();
+        kinematicListsReference = new ArrayList<>();
+        this.broadphase = broadphase;
+        staticLayer = new StaticCollisionLayer(bounds);
+        interestMatrix = new CollisionInterestMatrix();
+        pairs = new ArrayList<>();
+        swept = new ArrayList<>();
+        sweepTargets = new ArrayList<>();
+    }
+
+    /**
+     * Turns continuous collision detection on or off. In continuous mode every
+     * SweptCollidable is swept from its previous to its current position before
+     * the normal checks, so it can not tunnel through thin collidables.
+     * @param continuous True to turn continuous collision detection on.
+     */
+    public void setContinuous(boolean continuous) {
+        this.continuous = continuous;
+    }
+
+    /**
+     * Returns whether continuous collision detection is on.
+     * @return True if continuous collision detection is on.
+     */
+    public boolean isContinuous() {
+        return continuous;
     }
 
     /**
@@ -35,12 +97,42 @@ public class CollisionHandler implements Drawable, Controller {
     }
 
     /**
-     * Add a collidable object to the list.
+     * Adds the collidables to the static layer. The collection is
+     * only read once, so collidables added to it later are ignored.
+     * @param collidableCollection Collection of static collidables.
+     */
+    public void addStaticListReference(Collection<? extends Collidable> collidableCollection) {
+        for(Collidable collidable : collidableCollection) {
+            staticLayer.add(collidable);
+        }
+    }
+
+    /**
+     * Adds a reference to a list of kinematic collidables. The list is read
+     * every tick, and collidables in it are reindexed in the static layer
+     * when they have moved.
+     * @param collidableCollection Collection of kinematic collidables.
+     */
+    public void addKinematicListReference(Collection<? extends Collidable> collidableCollection) {
+        kinematicListsReference.add(collidableCollection);
+        addStaticListReference(collidableCollection);
+    }
+
+    /**
+     * Add a collidable object to the list, unless it is in the list already.
+     * Membership is checked on identity, so adding the same collidables
+     * every tick is linear in their number, whatever their hashCode is.
+     * The list keeps the order in which the collidables were added.
      *
      * @param c collidable object
      */
     public void addCollidable(Collidable c) {
-        collidables.add(c);
+        if(c != null && !members.contains(c)) {
+            // A collidable that was removed and is added again must not be listed twice.
+            compact();
+            members.add(c);
+            collidables.add(c);
+        }
     }
 
     /**
@@ -49,7 +141,9 @@ public class CollisionHandler implements Drawable, Controller {
      * @param c collection of collidable objects
      */
     public void addCollidable(Collection<? extends Collidable> c) {
-        collidables.addAll(c);
+        for(Collidable collidable : c) {
+            addCollidable(collidable);
+        }
     }
 
     /**
@@ -58,16 +152,40 @@ public class CollisionHandler implements Drawable, Controller {
      * @param c collection of collidable objects
      */
     public void removeCollidable(Collection<? extends Collidable> c) {
-        collidables.removeAll(c);
+        for(Collidable collidable : c) {
+            removeCollidable(collidable);
+        }
     }
 
     /**
      * Remove a collidable object from the list.
+     * It is taken out of the list on the next check, together with the
+     * other removed collidables.
      *
      * @param c collidable object
      */
     public void removeCollidable(Collidable c) {
-        collidables.remove(c);
+        if(members.remove(c)) {
+            removed = true;
+        }
+    }
+
+    /**
+     * Takes the removed collidables out of the list, in a single pass.
+     */
+    private void compact() {
+        if(!removed) {
+            return;
+        }
+        int kept = 0;
+        for(int i = 0; i < collidables.size(); i++) {
+            Collidable collidable = collidables.get(i);
+            if(members.contains(collidable)) {
+                collidables.set(kept++, collidable);
+            }
+        }
+        collidables.subList(kept, collidables.size()).clear();
+        removed = false;
     }
 
     /**
@@ -76,7 +194,16 @@ public class CollisionHandler implements Drawable, Controller {
      * @return The number of colliable objects
      */
     public int getSize() {
-        return collidables.size();
+        return members.size();
+    }
+
+    /**
+     * Get the number of static and kinematic collidable objects.
+     *
+     * @return The number of static and kinematic collidable objects
+     */
+    public int getStaticSize() {
+        return staticLayer.size();
     }
 
     /**
@@ -87,31 +214,70 @@ public class CollisionHandler implements Drawable, Controller {
      */
     public boolean checkCollision(Collidable self) {
         boolean collided = false;
-        collidables.remove(null);
+        compact();
 
         if (self == null) {
             return false;
         }
 
         for (Collidable collidee : collidables) {
-            if (self != collidee && self.intersectsCollidable(collidee)) {
-                // If there is no corresponding CollisionAction for this collision, skip it.
-                CollisionAction selfAction = self.getCollideActions().get(collidee.getClass());
-                CollisionAction collideeAction = collidee.getCollideActions().get(self.getClass());
-                if(selfAction != null) {
-                    selfAction.onCollision(collidee);
-                }
-                if(collideeAction != null) {
-                    collideeAction.onCollision(self);
-                }
+            if (collide(self, collidee)) {
                 collided = true;
             }
         }
         return collided;
     }
 
+    /**
+     * Checks if two collidables intersect, and performs
+     * the CollisionActions of both sides if they do.
+     *
+     * @param self object that is checking for collision.
+     * @param collidee object that self is checked against.
+     * @return true if the objects have collided.
+     */
+    private boolean collide(Collidable self, Collidable collidee) {
+        if (self == collidee || !self.intersectsCollidable(collidee)) {
+            return false;
+        }
+        performActions(self, collidee);
+        return true;
+    }
+
+    /**
+     * Performs the CollisionActions of both sides of a collision.
+     *
+     * @param self object that is checking for collision.
+     * @param collidee object that self has collided with.
+     */
+    private void performActions(Collidable self, Collidable collidee) {
+        // If there is no corresponding CollisionAction for this collision, skip it.
+        CollisionAction selfAction = self.getCollideActions().get(collidee.getClass());
+        CollisionAction collideeAction = collidee.getCollideActions().get(self.getClass());
+        if(selfAction != null) {
+            selfAction.onCollision(collidee);
+        }
+        if(collideeAction != null) {
+            collideeAction.onCollision(self);
+        }
+    }
+
+    /**
+     * Checks a pair of collidables from both sides,
+     * like every collidable checks itself against all others.
+     *
+     * @param first first object of the pair.
+     * @param second second object of the pair.
+     * @return true if the objects have collided.
+     */
+    private boolean collidePair(Collidable first, Collidable second) {
+        boolean collided = collide(first, second);
+        return collide(second, first) || collided;
+    }
+
     /**
      * Checks collisions for all objects in the collisionhandler.
+     * Pairs where neither side has a CollisionAction are skipped.
      */
     public void checkAllCollisions() {
         for(Collection<? extends Collidable> collidableList : collidableListsReference) {
@@ -119,35 +285,171 @@ public class CollisionHandler implements Drawable, Controller {
             while(collidableIterator.hasNext()) {
                 Collidable collidable = collidableIterator.next();
                 if(collidable.getCollidedStatus()) {
-                    collidableList.remove(collidable);
-                    collidables.remove(collidable);
+                    collidableIterator.remove();
+                    removeCollidable(collidable);
                 }
             }
             addCollidable(collidableList);
         }
-        checkCollision(collidables);
+        if(continuous) {
+            sweepCollisions();
+        }
+        checkPairs(true);
+    }
+
+    /**
+     * Sweeps every SweptCollidable over its last move, and puts it back at its
+     * first impact with a rectangular collidable it passed through or touched.
+     * The CollisionActions of that impact are performed from both sides.
+     */
+    private void sweepCollisions() {
+        compact();
+        for(Collidable collidable : collidables) {
+            if(collidable instanceof SweptCollidable) {
+                swept.add((SweptCollidable) collidable);
+            } else {
+                sweepTargets.add(collidable);
+            }
+        }
+        if(staticLayer.size() > 0) {
+            updateKinematics();
+        }
+        for(int i = 0; i < swept.size(); i++) {
+            sweep(swept.get(i));
+        }
+        swept.clear();
+        sweepTargets.clear();
+    }
+
+    /**
+     * Sweeps a single collidable against the static layer and the dynamic rectangles.
+     *
+     * @param moving collidable to be swept.
+     */
+    private void sweep(SweptCollidable moving) {
+        float radius = moving.getRadius();
+        float minX = Math.min(moving.getPreviousCenterX(), moving.getCenterX()) - radius;
+        float minY = Math.min(moving.getPreviousCenterY(), moving.getCenterY()) - radius;
+        float maxX = Math.max(moving.getPreviousCenterX(), moving.getCenterX()) + radius;
+        float maxY = Math.max(moving.getPreviousCenterY(), moving.getCenterY()) + radius;
+
+        Collidable hit = null;
+        float earliest = SweptCollision.NO_IMPACT;
+        staticLayer.query(minX, minY, maxX, maxY, pairs);
+        for(int i = 0; i < pairs.size() + sweepTargets.size(); i++) {
+            Collidable target = i < pairs.size()
+                    ? pairs.get(i) : sweepTargets.get(i - pairs.size());
+            float time = impactTime(moving, target, minX, minY, maxX, maxY);
+            if(time != SweptCollision.NO_IMPACT
+                    && (hit == null || time < earliest)) {
+                hit = target;
+                earliest = time;
+            }
+        }
+        pairs.clear();
+
+        if(hit != null) {
+            float startX = moving.getPreviousCenterX();
+            float startY = moving.getPreviousCenterY();
+            moving.setCenterX(startX + (moving.getCenterX() - startX) * earliest);
+            moving.setCenterY(startY + (moving.getCenterY() - startY) * earliest);
+            performActions(moving, hit);
+            performActions(hit, moving);
+        }
+    }
+
+    /**
+     * Computes the time of impact of a swept collidable with a target.
+     * Targets that are out of reach, not interested, round themselves or
+     * already intersecting are left to the normal checks.
+     *
+     * @param moving collidable that is swept.
+     * @param target collidable that might be hit.
+     * @param minX left side of the swept area.
+     * @param minY top of the swept area.
+     * @param maxX right side of the swept area.
+     * @param maxY bottom of the swept area.
+     * @return the time of impact, or SweptCollision.NO_IMPACT.
+     */
+    private float impactTime(SweptCollidable moving, Collidable target,
+            float minX, float minY, float maxX, float maxY) {
+        if(target instanceof SweptCollidable
+                || target.getX() > maxX || target.getX() + target.getWidth() < minX
+                || target.getY() > maxY || target.getY() + target.getHeight() < minY
+                || !interestMatrix.isInterested(moving, target)
+                || moving.intersectsCollidable(target)) {
+            return SweptCollision.NO_IMPACT;
+        }
+        return SweptCollision.timeOfImpact(moving, target);
     }
 
     /**
      * Check collision for every Collidables in the collection.
+     * The broadphase is asked for the pairs that could collide,
+     * and only those pairs are tested for intersection. Afterwards every
+     * collidable is checked against the static layer. Pairs without any
+     * CollisionAction are tested as well, so the result tells whether
+     * anything intersects.
      *
      * @param colliders collection of Collidables.
      * @return true if collision.
      */
     public boolean checkCollision(Collection<? extends Collidable> colliders) {
+        return checkPairs(false);
+    }
+
+    /**
+     * Checks all pairs found by the broadphase and the static layer.
+     *
+     * @param onlyInterested true to skip pairs where neither side has a
+     *                       CollisionAction for the other, without testing
+     *                       them for intersection.
+     * @return true if collision.
+     */
+    private boolean checkPairs(boolean onlyInterested) {
         boolean collided = false;
-        collidables.remove(null);
+        compact();
 
-        Iterator<Collidable> collidablesIterator = collidables.iterator();
-        while(collidablesIterator.hasNext()) {
-            Collidable self = collidablesIterator.next();
-            if(checkCollision(self)) {
+        pairs.clear();
+        broadphase.findPairs(collidables, pairs);
+        for(int i = 0; i < pairs.size(); i += 2) {
+            Collidable first = pairs.get(i);
+            Collidable second = pairs.get(i + 1);
+            if((!onlyInterested || interestMatrix.isInterested(first, second))
+                    && collidePair(first, second)) {
                 collided = true;
             }
         }
+        pairs.clear();
+
+        if(staticLayer.size() > 0) {
+            updateKinematics();
+            for(Collidable dynamic : collidables) {
+                staticLayer.query(dynamic, pairs);
+                for(int i = 0; i < pairs.size(); i++) {
+                    Collidable border = pairs.get(i);
+                    if((!onlyInterested || interestMatrix.isInterested(dynamic, border))
+                            && collidePair(dynamic, border)) {
+                        collided = true;
+                    }
+                }
+                pairs.clear();
+            }
+        }
         return collided;
     }
 
+    /**
+     * Reindexes the kinematic collidables that have moved.
+     */
+    private void updateKinematics() {
+        for(Collection<? extends Collidable> kinematicList : kinematicListsReference) {
+            for(Collidable kinematic : kinematicList) {
+                staticLayer.update(kinematic);
+            }
+        }
+    }
+
     /**
      * Return which side the collision occurs for X-axis.
      * @param c1 collider object.
@@ -185,6 +487,15 @@ public class CollisionHandler implements Drawable, Controller {
     }
 
 
+    /**
+     * The collision handler draws nothing that moves, so it does not interpolate.
+     *
+     * @param alpha Interpolation factor
+     */
+    @Override
+    public void setInterpolation(float alpha) {
+    }
+
     /**
      * Draw the object.
      *
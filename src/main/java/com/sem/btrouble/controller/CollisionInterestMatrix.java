@@ -0,0 +1,98 @@
+package com.sem.btrouble.controller;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Matrix telling for every pair of collidable classes if at least one
+ * of them has a CollisionAction for the other. Pairs without any interested
+ * side can be skipped before the (expensive) intersection test.
+ * The matrix is indexed by the type ids of CollidableTypes. The keys of the
+ * CollisionAction map are assumed to only depend on the class.
+ * A class is registered the first time a pair with it is looked up, so its
+ * CollisionActions are read once per class and never when a collidable is added.
+ */
+public class CollisionInterestMatrix {
+
+    private Class<?>[] types;
+    private Set<?>[] actionKeys;
+    private boolean[][] interest;
+    private int typeCount;
+
+    /**
+     * Constructor for an empty matrix.
+     */
+    public CollisionInterestMatrix() {
+        types = new Class<?>[0];
+        actionKeys = new Set<?>[0];
+        interest = new boolean[0][0];
+    }
+
+    /**
+     * Get the amount of registered classes.
+     * @return the amount of classes.
+     */
+    public int getTypeCount() {
+        return typeCount;
+    }
+
+    /**
+     * Registers the class of the collidable, if it is not registered yet.
+     * @param collidable Collidable whose class should be registered.
+     * @return the type id of the class.
+     */
+    public int register(Collidable collidable) {
+        int id = CollidableTypes.typeId(collidable.getClass());
+        if(id < types.length && types[id] != null) {
+            return id;
+        }
+        if(id >= types.length) {
+            grow(Math.max(id + 1, CollidableTypes.count()));
+        }
+
+        types[id] = collidable.getClass();
+        actionKeys[id] = new HashSet<Class<?>>(collidable.getCollideActions().keySet());
+        typeCount++;
+
+        for(int other = 0; other < types.length; other++) {
+            if(types[other] == null) {
+                continue;
+            }
+            boolean interested = actionKeys[id].contains(types[other])
+                    || actionKeys[other].contains(types[id]);
+            interest[id][other] = interested;
+            interest[other][id] = interested;
+        }
+        return id;
+    }
+
+    /**
+     * Grows the matrix so it can hold the given amount of type ids.
+     * @param capacity New amount of type ids.
+     */
+    private void grow(int capacity) {
+        boolean[][] grown = new boolean[capacity][];
+        for(int i = 0; i < capacity; i++) {
+            grown[i] = i < interest.length
+                    ? Arrays.copyOf(interest[i], capacity) : new boolean[capacity];
+        }
+        interest = grown;
+        types = Arrays.copyOf(types, capacity);
+        actionKeys = Arrays.copyOf(actionKeys, capacity);
+    }
+
+    /**
+     * Checks if at least one of the collidables has a CollisionAction for the other.
+     * Unregistered classes are registered first.
+     * @param first First collidable of the pair.
+     * @param second Second collidable of the pair.
+     * @return True if the pair should be tested for intersection.
+     */
+    public boolean isInterested(Collidable first, Collidable second) {
+        // Register both before reading the matrix, since registering can grow it.
+        int firstId = register(first);
+        int secondId = register(second);
+        return interest[firstId][secondId];
+    }
+}
@@ -19,4 +19,24 @@ public interface Controller extends Drawable {
      * @param collidableCollection Collection of collidables.
      */
     void addListReference(Collection<? extends Collidable> collidableCollection);
+
+    /**
+     * Adds a list of collidables that never move to the collisionHandler.
+     * These are indexed once and are only checked against moving collidables.
+     * @param collidableCollection Collection of static collidables.
+     */
+    void addStaticListReference(Collection<? extends Collidable> collidableCollection);
+
+    /**
+     * Adds a list of collidables that move, but never collide with each other,
+     * like the moving borders. These are only reindexed when they have moved.
+     * @param collidableCollection Collection of kinematic collidables.
+     */
+    void addKinematicListReference(Collection<? extends Collidable> collidableCollection);
+
+    /**
+     * Sets how far the next draw is between the last two ticks.
+     * @param alpha Interpolation factor, from 0 inclusive to 1 exclusive.
+     */
+    void setInterpolation(float alpha);
 }
@@ -9,6 +9,7 @@ import java.util.Collection;
 abstract class ControllerDecorator implements Controller {
 
     private Controller controller;
+    private float interpolation;
 
     /**
      * Constructor for the controller decorator.
@@ -42,6 +43,39 @@ abstract class ControllerDecorator implements Controller {
         this.controller.addListReference(collidableCollection);
     }
 
+    /**
+     * Adds a reference to a list of static collidables.
+     * @param collidableCollection Collection of static collidables.
+     */
+    public void addStaticListReference(Collection<? extends Collidable> collidableCollection) {
+        this.controller.addStaticListReference(collidableCollection);
+    }
+
+    /**
+     * Adds a reference to a list of kinematic collidables.
+     * @param collidableCollection Collection of kinematic collidables.
+     */
+    public void addKinematicListReference(Collection<? extends Collidable> collidableCollection) {
+        this.controller.addKinematicListReference(collidableCollection);
+    }
+
+    /**
+     * Sets how far the next draw is between the last two ticks.
+     * @param alpha Interpolation factor, from 0 inclusive to 1 exclusive.
+     */
+    public void setInterpolation(float alpha) {
+        this.interpolation = alpha;
+        this.controller.setInterpolation(alpha);
+    }
+
+    /**
+     * Get how far the next draw is between the last two ticks.
+     * @return the interpolation factor.
+     */
+    public float getInterpolation() {
+        return interpolation;
+    }
+
     /**
      * Update method of the controller.
      */
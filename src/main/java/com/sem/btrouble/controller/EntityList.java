@@ -0,0 +1,264 @@
+package com.sem.btrouble.controller;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * List of game entities that can be changed while it is being iterated.
+ * Iterators never copy the list and never throw a ConcurrentModificationException.
+ * An iterator sees the entities that were in the list when it was created,
+ * minus the ones removed since. New entities are appended behind the end
+ * every iterator has recorded, so they show up in the next tick. Removed
+ * entities leave an empty slot behind. The slots are compacted by flush,
+ * which should be called at the start of a tick, when nothing iterates the list.
+ * An entity is in the list at most once and is found by identity, not by equals.
+ * Adding and removing an entity take amortized constant time, the slot of every
+ * entity is kept in an identity map. While there are empty slots, the first
+ * access by index after a removal builds a compacted index in linear time, the
+ * next accesses take constant time until an entity is removed again. Flushing
+ * and contains take linear time.
+ *
+ * @param <E> Type of the entities.
+ */
+public class EntityList<E> extends AbstractList<E> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] elements;
+    private int end;
+    private int size;
+    private final Map<Object, Integer> slots;
+    private int[] order;
+    private boolean indexed;
+
+    /**
+     * Constructor for an empty list.
+     */
+    public EntityList() {
+        elements = new Object[INITIAL_CAPACITY];
+        slots = new IdentityHashMap<>();
+        order = new int[0];
+    }
+
+    /**
+     * Returns the amount of entities in the list.
+     * @return the amount of entities.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends an entity to the list. Iterators that are in progress will not see it.
+     * @param entity Entity to be added.
+     * @return false if the entity already is in the list.
+     */
+    @Override
+    public boolean add(E entity) {
+        if(entity == null) {
+            throw new NullPointerException("Entities can not be null");
+        }
+        if(slots.containsKey(entity)) {
+            return false;
+        }
+        if(end == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length * 2);
+        }
+        if(indexed && size < order.length) {
+            order[size] = end;
+        } else {
+            indexed = false;
+        }
+        slots.put(entity, end);
+        elements[end++] = entity;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Returns the entity at the index, empty slots are skipped.
+     * @param index Index of the entity.
+     * @return the entity.
+     */
+    @Override
+    public E get(int index) {
+        return element(slot(index));
+    }
+
+    /**
+     * Removes the entity at the index.
+     * @param index Index of the entity.
+     * @return the removed entity.
+     */
+    @Override
+    public E remove(int index) {
+        int slot = slot(index);
+        E entity = element(slot);
+        clearSlot(slot);
+        return entity;
+    }
+
+    /**
+     * Removes the entity that is the object itself.
+     * @param object Object to be removed.
+     * @return True if an entity was removed.
+     */
+    @Override
+    public boolean remove(Object object) {
+        Integer slot = slots.get(object);
+        if(slot == null) {
+            return false;
+        }
+        clearSlot(slot);
+        return true;
+    }
+
+    /**
+     * Removes all entities. The slots are compacted on the next flush.
+     */
+    @Override
+    public void clear() {
+        for(int slot = 0; slot < end; slot++) {
+            elements[slot] = null;
+        }
+        slots.clear();
+        size = 0;
+        indexed = false;
+        modCount++;
+    }
+
+    /**
+     * Compacts the empty slots left by removed entities, keeping the order.
+     * Must not be called while the list is iterated.
+     */
+    public void flush() {
+        if(size == end) {
+            return;
+        }
+        int kept = 0;
+        for(int slot = 0; slot < end; slot++) {
+            if(elements[slot] != null) {
+                if(kept != slot) {
+                    elements[kept] = elements[slot];
+                    slots.put(elements[kept], kept);
+                }
+                kept++;
+            }
+        }
+        Arrays.fill(elements, kept, end, null);
+        end = kept;
+        indexed = false;
+    }
+
+    /**
+     * Returns an iterator over the entities currently in the list.
+     * @return the iterator.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new EntityIterator();
+    }
+
+    /**
+     * Finds the slot of the index'th entity.
+     * @param index Index of the entity.
+     * @return the slot of the entity.
+     */
+    private int slot(int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if(size == end) {
+            return index;
+        }
+        if(!indexed) {
+            buildIndex();
+        }
+        return order[index];
+    }
+
+    /**
+     * Builds the compacted index, which holds the slot of every entity in order.
+     */
+    private void buildIndex() {
+        if(order.length < size) {
+            order = new int[elements.length];
+        }
+        int entity = 0;
+        for(int slot = 0; slot < end; slot++) {
+            if(elements[slot] != null) {
+                order[entity++] = slot;
+            }
+        }
+        indexed = true;
+    }
+
+    /**
+     * Empties a slot that holds an entity.
+     * @param slot Slot to be emptied.
+     */
+    private void clearSlot(int slot) {
+        slots.remove(elements[slot]);
+        elements[slot] = null;
+        size--;
+        indexed = false;
+        modCount++;
+    }
+
+    /**
+     * Returns the entity in a slot.
+     * @param slot Slot of the entity.
+     * @return the entity.
+     */
+    @SuppressWarnings("unchecked")
+    private E element(int slot) {
+        return (E) elements[slot];
+    }
+
+    /**
+     * Iterator over the slots that were in use when it was created.
+     * Slots before that end are never moved until the next flush, so
+     * the iterator reads them from the current array and skips the
+     * entities that have been removed since.
+     */
+    private class EntityIterator implements Iterator<E> {
+
+        private final int snapshotEnd = end;
+        private int next;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            while(next < snapshotEnd && elements[next] == null) {
+                next++;
+            }
+            return next < snapshotEnd;
+        }
+
+        @Override
+        public E next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return element(last);
+        }
+
+        @Override
+        public void remove() {
+            if(last < 0) {
+                throw new IllegalStateException();
+            }
+            if(elements[last] != null) {
+                clearSlot(last);
+            }
+            last = -1;
+        }
+    }
+}
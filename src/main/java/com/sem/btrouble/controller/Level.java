@@ -1,5 +1,7 @@
 package com.sem.btrouble.controller;
 
+import com.sem.btrouble.event.ControllerEvent;
+import com.sem.btrouble.event.EventBus;
 import com.sem.btrouble.model.Room;
 import com.sem.btrouble.model.Player;
 import com.sem.btrouble.model.PlayerInfo;
@@ -7,40 +9,114 @@ import com.sem.btrouble.model.Bubble;
 import com.sem.btrouble.model.Rope;
 import com.sem.btrouble.observering.LevelObserver;
 import com.sem.btrouble.observering.LevelSubject;
+import com.sem.btrouble.tools.GameRandom;
 import org.newdawn.slick.Graphics;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Level class.
  */
 public class Level implements LevelSubject {
     private Room room;
-    private List<Player> players;
+    private EntityList<Player> players;
     private List<LevelObserver> observersList;
     private boolean levelRunning;
     private Controller mainController;
     private BubbleController bubbleController;
     private RopeController ropeController;
+    private EventBus events;
+    private GameRandom random;
+    private int alivePlayers;
+    private boolean decided;
+    private Player.AliveListener aliveListener;
 
     /**
      * Constructor for the level class with room parameter.
+     * Uses a uniform grid covering the room as collision broadphase.
      * @param room Room that the level should be started with.
      */
     public Level(Room room) {
+        this(room, GameRandom.randomSeed());
+    }
+
+    /**
+     * Constructor for the level class with a seed.
+     * Uses a uniform grid covering the room as collision broadphase.
+     * @param room Room that the level should be started with.
+     * @param seed Seed of the random numbers of the level.
+     */
+    public Level(Room room, long seed) {
+        this(room, new UniformGridBroadphase(room.getBounds()), seed);
+    }
+
+    /**
+     * Constructor for the level class with a specific collision broadphase.
+     * Bubbles are swept over every tick, so fast bubbles can not escape the room.
+     * @param room Room that the level should be started with.
+     * @param broadphase Broadphase used to find the collisions in this level.
+     */
+    public Level(Room room, Broadphase broadphase) {
+        this(room, broadphase, GameRandom.randomSeed());
+    }
+
+    /**
+     * Constructor for the level class with a specific collision broadphase and seed.
+     * The same seed and the same input give the same game. The power ups draw from
+     * their own split of the random numbers, so they do not change the other draws.
+     * The level posts its events to a bus of its own.
+     * @param room Room that the level should be started with.
+     * @param broadphase Broadphase used to find the collisions in this level.
+     * @param seed Seed of the random numbers of the level.
+     */
+    public Level(Room room, Broadphase broadphase, long seed) {
+        this(room, broadphase, seed, new EventBus());
+    }
+
+    /**
+     * Constructor for the level class with a seed and the event bus of the game.
+     * Uses a uniform grid covering the room as collision broadphase.
+     * @param room Room that the level should be started with.
+     * @param seed Seed of the random numbers of the level.
+     * @param events Bus the events of the level are posted to.
+     */
+    public Level(Room room, long seed, EventBus events) {
+        this(room, new UniformGridBroadphase(room.getBounds()), seed, events);
+    }
+
+    /**
+     * Constructor for the level class with a specific collision broadphase, seed
+     * and event bus. The events of the level and its ropes are posted to the bus,
+     * so a level that runs on its own thread should have its own bus.
+     * @param room Room that the level should be started with.
+     * @param broadphase Broadphase used to find the collisions in this level.
+     * @param seed Seed of the random numbers of the level.
+     * @param events Bus the events of the level are posted to.
+     */
+    public Level(Room room, Broadphase broadphase, long seed, EventBus events) {
         this.room = room;
-        this.players = new CopyOnWriteArrayList<>();
+        this.events = events;
+        this.random = new GameRandom(seed);
+        this.aliveListener = new Player.AliveListener() {
+            @Override
+            public void aliveChanged(Player player, boolean alive) {
+                alivePlayers += alive ? 1 : -1;
+            }
+        };
+        this.players = new EntityList<>();
         this.observersList = new ArrayList<>();
 
-        this.bubbleController = new BubbleController(new CollisionHandler());
-        this.ropeController = new RopeController(new PowerUpController(bubbleController));
+        CollisionHandler collisionHandler = new CollisionHandler(broadphase, room.getBounds());
+        collisionHandler.setContinuous(true);
+        this.bubbleController = new BubbleController(collisionHandler);
+        this.ropeController = new RopeController(
+                new PowerUpController(bubbleController, random.split()));
         this.mainController = new BorderController(ropeController, 
                 room.getMoveableWalls(), room.getMoveableFloors());
 
-        this.mainController.addListReference(room.getCollidablesList());
+        this.mainController.addStaticListReference(room.getCollidablesList());
         this.mainController.addListReference(players);
     }
 
@@ -51,7 +127,9 @@ public class Level implements LevelSubject {
      */
     public void addPlayer(Player player) {
         player.reset();
+        player.setAliveListener(aliveListener);
         players.add(player);
+        alivePlayers++;
         player.setX(room.getSpawnPositionX());
         player.setY(room.getSpawnPositionY());
         PlayerInfo.getInstance().setPlayers(players);
@@ -70,31 +148,64 @@ public class Level implements LevelSubject {
      * @param rope rope that is added.
      */
     public void addRope(Rope rope) {
+        rope.setEventBus(events);
         ropeController.addRope(rope);
     }
 
     /**
-     * Checks if any player in this level is alive.
-     * @return True if there's a player alive.
+     * Get the bus the events of this level are posted to.
+     * @return the event bus.
      */
-    private boolean playersAlive() {
-        for(Player player : players) {
-            if(player.isAlive()) {
-                return true;
-            }
-        }
-        return false;
+    public EventBus getEventBus() {
+        return events;
+    }
+
+    /**
+     * Get the random numbers of this level.
+     * @return the random number generator.
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Get the seed of the random numbers of this level.
+     * @return the seed.
+     */
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    /**
+     * Get the amount of players in this level that are alive.
+     * The amount is kept up to date when players are added or die,
+     * so it does not need to be counted every tick.
+     * @return the amount of alive players.
+     */
+    public int getAlivePlayers() {
+        return alivePlayers;
+    }
+
+    /**
+     * Get the amount of bubbles that are left in this level.
+     * @return the amount of bubbles.
+     */
+    public int getRemainingBubbles() {
+        return bubbleController.getBubblesAmount();
     }
 
     /**
      * Calls the move method on all objects in the level.
+     * The events posted during the tick are dispatched at the end of it.
      */
     public synchronized void moveObjects() {
+        players.flush();
         mainController.update();
         for(Player player : players) {
             player.move();
         }
         notifyObserver();
+        events.dispatch();
     }
 
     /**
@@ -105,10 +216,24 @@ public class Level implements LevelSubject {
     }
 
     /**
-     * Starts the current level.
+     * Starts the current level. A level that was won or lost can be won or lost again.
      */
-    public void start() {
+    public synchronized void start() {
         levelRunning = true;
+        decided = false;
+    }
+
+    /**
+     * Stops the level if it has not been won or lost yet.
+     * @return true if the level was not won or lost yet.
+     */
+    private synchronized boolean decide() {
+        if(decided) {
+            return false;
+        }
+        decided = true;
+        stop();
+        return true;
     }
 
     /**
@@ -120,19 +245,27 @@ public class Level implements LevelSubject {
     }
     
     /**
-     * This method will lose the level.
+     * This method will lose the level. The observers are only told once,
+     * until the level is started again.
      */
     public void loseLevel() {
-        stop();
+        if(!decide()) {
+            return;
+        }
+        events.post(ControllerEvent.GAMELOST);
         for(LevelObserver obj: observersList) {
             obj.levelLost();
         }
     }
     /**
-     * This method will win the level.
+     * This method will win the level. The observers are only told once,
+     * until the level is started again.
      */
     public void winLevel() {
-        stop();
+        if(!decide()) {
+            return;
+        }
+        events.post(ControllerEvent.GAMEWON);
         for(LevelObserver obj: observersList) {
             obj.levelWon();
         }
@@ -163,27 +296,50 @@ public class Level implements LevelSubject {
 
     /**
      * Method to notify the observersList about a change.
+     * The level is lost when no player is alive and won when no bubble is left.
+     * Both are checked on the live counters, and only the first is reported.
      */
     @Override
     public void notifyObserver() {
-        if(!playersAlive()) {
-            loseLevel();
+        if(decided) {
+            return;
         }
-        if(bubbleController.getBubblesAmount() <= 0) {
+        if(alivePlayers <= 0) {
+            loseLevel();
+        } else if(bubbleController.getBubblesAmount() <= 0) {
             winLevel();
         }
     }
 
     /**
-     * Draw the object.
+     * Releases the resources of the room, when the level is no longer drawn.
+     */
+    public void dispose() {
+        room.dispose();
+    }
+
+    /**
+     * Draw the object, as it is after the last tick.
      *
      * @param graphics The graphics
      */
     public void draw(Graphics graphics) {
+        draw(graphics, 1);
+    }
+
+    /**
+     * Draw the object, with the moving objects between their position
+     * after the previous tick and after the last tick.
+     *
+     * @param graphics The graphics
+     * @param alpha How far the frame is between the last two ticks, see Simulation.
+     */
+    public void draw(Graphics graphics, float alpha) {
         room.draw(graphics);
+        mainController.setInterpolation(alpha);
         mainController.draw(graphics);
         for(Player player : players) {
-            player.draw(graphics);
+            player.draw(graphics, alpha);
         }
     }
 }
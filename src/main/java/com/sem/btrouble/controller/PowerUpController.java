@@ -1,13 +1,15 @@
 package com.sem.btrouble.controller;
 
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.newdawn.slick.Graphics;
+import org.newdawn.slick.SlickException;
 
 import com.sem.btrouble.model.Bubble;
 import com.sem.btrouble.model.PowerUp;
 import com.sem.btrouble.model.PowerUpFactory;
+import com.sem.btrouble.tools.GameRandom;
+import com.sem.btrouble.tools.SpriteBatch;
 
 /**
  * @author Hung
@@ -15,9 +17,11 @@ import com.sem.btrouble.model.PowerUpFactory;
  */
 public class PowerUpController extends ControllerDecorator {
 
-    private List<PowerUp> powerUpList;
+    private EntityList<PowerUp> powerUpList;
     private List<Bubble> bubbleList;
     private BubbleController controller;
+    private SpriteBatch batch;
+    private GameRandom random;
 
     /**
      * Constructor for the powerupController. The
@@ -25,13 +29,25 @@ public class PowerUpController extends ControllerDecorator {
      * @param controller bubble controller that will be decorated.
      */
     public PowerUpController(BubbleController controller) {
+        this(controller, new GameRandom());
+    }
+
+    /**
+     * Constructor for the powerupController, which drops powerups with
+     * the given random numbers.
+     * @param controller bubble controller that will be decorated.
+     * @param random random numbers of the drops.
+     */
+    public PowerUpController(BubbleController controller, GameRandom random) {
         super(controller);
+        this.random = random;
         this.controller = controller;
-        this.powerUpList = new CopyOnWriteArrayList<>();
+        this.batch = new SpriteBatch();
+        this.powerUpList = new EntityList<>();
         this.controller.addListReference(this.powerUpList);
         this.bubbleList = controller.getBubbleList();
         
-        PowerUpFactory.init((CopyOnWriteArrayList<Bubble>) bubbleList);
+        PowerUpFactory.init(bubbleList);
     }
 
 
@@ -56,9 +72,10 @@ public class PowerUpController extends ControllerDecorator {
      * Move the powerUps.
      */
     public void update() {
+        powerUpList.flush();
         for(Bubble bubble : bubbleList) {
             if(bubble.getCollidedStatus()) {
-                PowerUp powerUp = PowerUpFactory.generate(bubble.getX(), bubble.getY(), Math.random());
+                PowerUp powerUp = PowerUpFactory.generate(bubble.getX(), bubble.getY(), random);
                 if(powerUp != null) {
                     addPowerUp(powerUp);
                 }
@@ -77,9 +94,14 @@ public class PowerUpController extends ControllerDecorator {
      */
     @Override
     public void draw(Graphics graphics) {
-        for(PowerUp powerUp : powerUpList) {
-            powerUp.draw(graphics);
+        try {
+            for(PowerUp powerUp : powerUpList) {
+                powerUp.draw(batch, getInterpolation());
+            }
+        } catch(SlickException e) {
+            e.printStackTrace();
         }
+        batch.flush();
         controller.draw(graphics);
     }
 }
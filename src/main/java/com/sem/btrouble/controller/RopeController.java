@@ -1,10 +1,10 @@
 package com.sem.btrouble.controller;
 
 import com.sem.btrouble.model.Rope;
+import com.sem.btrouble.tools.SpriteBatch;
 import org.newdawn.slick.Graphics;
+import org.newdawn.slick.SlickException;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Controller for the ropes.
@@ -12,8 +12,9 @@ import java.util.concurrent.CopyOnWriteArrayList;
  */
 public class RopeController extends ControllerDecorator {
 
-    private List<Rope> ropesList;
+    private EntityList<Rope> ropesList;
     private Controller controller;
+    private SpriteBatch batch;
 
     /**
      * Constructor for the controller decorator.
@@ -23,7 +24,8 @@ public class RopeController extends ControllerDecorator {
     public RopeController(Controller controller) {
         super(controller);
         this.controller = controller;
-        this.ropesList = new CopyOnWriteArrayList<>();
+        this.batch = new SpriteBatch();
+        this.ropesList = new EntityList<>();
         controller.addListReference(this.ropesList);
     }
 
@@ -41,6 +43,7 @@ public class RopeController extends ControllerDecorator {
      * to the list.
      */
     public void update() {
+        ropesList.flush();
         for(Rope rope : ropesList) {
             rope.move();
         }
@@ -54,9 +57,14 @@ public class RopeController extends ControllerDecorator {
      */
     @Override
     public void draw(Graphics graphics) {
-        for(Rope rope : ropesList) {
-            rope.draw(graphics);
+        try {
+            for(Rope rope : ropesList) {
+                rope.draw(batch, getInterpolation());
+            }
+        } catch(SlickException e) {
+            e.printStackTrace();
         }
+        batch.flush();
         controller.draw(graphics);
     }
 }
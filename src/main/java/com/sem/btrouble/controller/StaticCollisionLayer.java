@@ -0,0 +1,185 @@
+package com.sem.btrouble.controller;
+
+import org.newdawn.slick.geom.Rectangle;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Spatial index for the walls and floors of a room.
+ * Static collidables are indexed once when they are added. Kinematic
+ * collidables, like the moving borders, are only reindexed when they
+ * have moved into other cells. The layer is only queried by dynamic
+ * collidables, so borders are never tested against each other.
+ */
+public class StaticCollisionLayer {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final CellGrid grid;
+    private IdentityHashMap<Collidable, Integer> indices;
+
+    private Collidable[] items;
+    private int[] minColumn;
+    private int[] minRow;
+    private int[] maxColumn;
+    private int[] maxRow;
+    private int count;
+
+    /**
+     * Constructor for a static layer covering the bounds of a room.
+     * @param bounds Area covered by the layer.
+     */
+    public StaticCollisionLayer(Rectangle bounds) {
+        this.grid = new CellGrid(bounds.getX(), bounds.getY(), bounds.getWidth(),
+                bounds.getHeight(), UniformGridBroadphase.DEFAULT_CELL_SIZE);
+        this.indices = new IdentityHashMap<>();
+        this.items = new Collidable[INITIAL_CAPACITY];
+        this.minColumn = new int[INITIAL_CAPACITY];
+        this.minRow = new int[INITIAL_CAPACITY];
+        this.maxColumn = new int[INITIAL_CAPACITY];
+        this.maxRow = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Get the amount of collidables in the layer.
+     * @return the amount of collidables.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Adds a collidable to the layer.
+     * If the collidable is already in the layer, it is reindexed instead.
+     * @param collidable Collidable to be added.
+     */
+    public void add(Collidable collidable) {
+        if(collidable == null) {
+            return;
+        }
+        if(indices.containsKey(collidable)) {
+            update(collidable);
+            return;
+        }
+        if(count == items.length) {
+            grow();
+        }
+        int index = count++;
+        items[index] = collidable;
+        indices.put(collidable, index);
+        minColumn[index] = grid.column(collidable.getX());
+        maxColumn[index] = grid.column(collidable.getX() + collidable.getWidth());
+        minRow[index] = grid.row(collidable.getY());
+        maxRow[index] = grid.row(collidable.getY() + collidable.getHeight());
+        addToCells(index);
+    }
+
+    /**
+     * Reindexes a collidable that might have moved.
+     * The cells are only touched if the collidable overlaps other cells than before.
+     * A collidable that is not yet in the layer is added.
+     * @param collidable Collidable to be reindexed.
+     */
+    public void update(Collidable collidable) {
+        Integer found = indices.get(collidable);
+        if(found == null) {
+            add(collidable);
+            return;
+        }
+        int index = found;
+        int left = grid.column(collidable.getX());
+        int right = grid.column(collidable.getX() + collidable.getWidth());
+        int top = grid.row(collidable.getY());
+        int bottom = grid.row(collidable.getY() + collidable.getHeight());
+        if(left == minColumn[index] && right == maxColumn[index]
+                && top == minRow[index] && bottom == maxRow[index]) {
+            return;
+        }
+        removeFromCells(index);
+        minColumn[index] = left;
+        maxColumn[index] = right;
+        minRow[index] = top;
+        maxRow[index] = bottom;
+        addToCells(index);
+    }
+
+    /**
+     * Adds all collidables in the layer that share a cell with the dynamic collidable.
+     * Every candidate is only added once, even if it shares multiple cells.
+     * @param dynamic Dynamic collidable that is checked against the layer.
+     * @param candidates List to which the candidates are added.
+     */
+    public void query(Collidable dynamic, List<Collidable> candidates) {
+        query(dynamic.getX(), dynamic.getY(), dynamic.getX() + dynamic.getWidth(),
+                dynamic.getY() + dynamic.getHeight(), candidates);
+    }
+
+    /**
+     * Adds all collidables in the layer that share a cell with the area.
+     * Every candidate is only added once, even if it shares multiple cells.
+     * @param minX X position of the left side of the area.
+     * @param minY Y position of the top of the area.
+     * @param maxX X position of the right side of the area.
+     * @param maxY Y position of the bottom of the area.
+     * @param candidates List to which the candidates are added.
+     */
+    public void query(float minX, float minY, float maxX, float maxY,
+            List<Collidable> candidates) {
+        int left = grid.column(minX);
+        int right = grid.column(maxX);
+        int top = grid.row(minY);
+        int bottom = grid.row(maxY);
+        for(int r = top; r <= bottom; r++) {
+            for(int c = left; c <= right; c++) {
+                int cell = grid.cell(r, c);
+                int[] cellItems = grid.get(cell);
+                for(int i = 0; i < grid.cellSize(cell); i++) {
+                    int other = cellItems[i];
+                    // Only report a candidate in the first cell both collidables share.
+                    if(Math.max(left, minColumn[other]) == c
+                            && Math.max(top, minRow[other]) == r) {
+                        candidates.add(items[other]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the index to all cells in its range.
+     * @param index Index of the collidable.
+     */
+    private void addToCells(int index) {
+        for(int r = minRow[index]; r <= maxRow[index]; r++) {
+            for(int c = minColumn[index]; c <= maxColumn[index]; c++) {
+                grid.add(grid.cell(r, c), index);
+            }
+        }
+    }
+
+    /**
+     * Removes the index from all cells in its range.
+     * @param index Index of the collidable.
+     */
+    private void removeFromCells(int index) {
+        for(int r = minRow[index]; r <= maxRow[index]; r++) {
+            for(int c = minColumn[index]; c <= maxColumn[index]; c++) {
+                grid.remove(grid.cell(r, c), index);
+            }
+        }
+    }
+
+    /**
+     * Doubles the capacity of the collidable storage.
+     */
+    private void grow() {
+        int capacity = items.length * 2;
+        items = Arrays.copyOf(items, capacity);
+        minColumn = Arrays.copyOf(minColumn, capacity);
+        minRow = Arrays.copyOf(minRow, capacity);
+        maxColumn = Arrays.copyOf(maxColumn, capacity);
+        maxRow = Arrays.copyOf(maxRow, capacity);
+    }
+}
@@ -0,0 +1,144 @@
+package com.sem.btrouble.controller;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Sort and sweep broadphase for the CollisionHandler.
+ * The collidables are kept sorted on the left side of their bounding box.
+ * The order of the previous tick is kept and repaired with an insertion
+ * sort. Since objects only move a little per tick, the list stays nearly
+ * sorted and the sort costs close to linear time.
+ */
+public class SweepAndPruneBroadphase implements Broadphase {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Collidable[] sorted;
+    private float[] minX;
+    private float[] maxX;
+    private float[] minY;
+    private float[] maxY;
+    private int count;
+
+    /**
+     * Collidables of the current tick that are not yet in the sorted array.
+     * IdentityHashMap stores its entries in a flat array, so it
+     * does not allocate once it has grown large enough.
+     */
+    private IdentityHashMap<Collidable, Boolean> pending;
+
+    /**
+     * Constructor for the sweep and prune broadphase.
+     */
+    public SweepAndPruneBroadphase() {
+        sorted = new Collidable[INITIAL_CAPACITY];
+        minX = new float[INITIAL_CAPACITY];
+        maxX = new float[INITIAL_CAPACITY];
+        minY = new float[INITIAL_CAPACITY];
+        maxY = new float[INITIAL_CAPACITY];
+        pending = new IdentityHashMap<>();
+    }
+
+    /**
+     * Updates the sorted list and adds all pairs of collidables
+     * whose bounding boxes overlap.
+     * @param collidables Collidables to be checked this tick.
+     * @param pairs List to which the pairs are added.
+     */
+    @Override
+    public void findPairs(Collection<? extends Collidable> collidables, List<Collidable> pairs) {
+        updateMembers(collidables);
+        sort();
+        for(int i = 0; i < count; i++) {
+            for(int j = i + 1; j < count && minX[j] <= maxX[i]; j++) {
+                if(minY[j] <= maxY[i] && minY[i] <= maxY[j]) {
+                    pairs.add(sorted[i]);
+                    pairs.add(sorted[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the collidables that are gone, while keeping the order of the
+     * remaining ones, and appends the new collidables at the end.
+     * @param collidables Collidables to be checked this tick.
+     */
+    private void updateMembers(Collection<? extends Collidable> collidables) {
+        pending.clear();
+        for(Collidable collidable : collidables) {
+            pending.put(collidable, Boolean.TRUE);
+        }
+
+        int kept = 0;
+        for(int i = 0; i < count; i++) {
+            if(pending.remove(sorted[i]) != null) {
+                sorted[kept++] = sorted[i];
+            }
+        }
+        Arrays.fill(sorted, kept, count, null);
+        count = kept;
+
+        if(!pending.isEmpty()) {
+            for(Collidable collidable : collidables) {
+                if(pending.remove(collidable) != null) {
+                    add(collidable);
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends a collidable to the end of the list.
+     * @param collidable Collidable to be added.
+     */
+    private void add(Collidable collidable) {
+        if(count == sorted.length) {
+            int capacity = sorted.length * 2;
+            sorted = Arrays.copyOf(sorted, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+        }
+        sorted[count++] = collidable;
+    }
+
+    /**
+     * Reads the bounding boxes of this tick and
+     * sorts the collidables on their left side with an insertion sort.
+     */
+    private void sort() {
+        for(int i = 0; i < count; i++) {
+            Collidable collidable = sorted[i];
+            minX[i] = collidable.getX();
+            maxX[i] = minX[i] + collidable.getWidth();
+            minY[i] = collidable.getY();
+            maxY[i] = minY[i] + collidable.getHeight();
+        }
+        for(int i = 1; i < count; i++) {
+            Collidable collidable = sorted[i];
+            float left = minX[i];
+            float right = maxX[i];
+            float top = minY[i];
+            float bottom = maxY[i];
+            int j = i - 1;
+            while(j >= 0 && minX[j] > left) {
+                sorted[j + 1] = sorted[j];
+                minX[j + 1] = minX[j];
+                maxX[j + 1] = maxX[j];
+                minY[j + 1] = minY[j];
+                maxY[j + 1] = maxY[j];
+                j--;
+            }
+            sorted[j + 1] = collidable;
+            minX[j + 1] = left;
+            maxX[j + 1] = right;
+            minY[j + 1] = top;
+            maxY[j + 1] = bottom;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.sem.btrouble.controller;
+
+/**
+ * Round collidable that can move far in a single tick.
+ * In continuous mode the CollisionHandler sweeps it from its previous center
+ * to its current center, so it can not tunnel through thin collidables.
+ */
+public interface SweptCollidable extends Collidable {
+
+    /**
+     * Get the x position of the center before the last move.
+     * @return previous center x position.
+     */
+    float getPreviousCenterX();
+
+    /**
+     * Get the y position of the center before the last move.
+     * @return previous center y position.
+     */
+    float getPreviousCenterY();
+
+    /**
+     * Get the radius of the collidable.
+     * @return the radius.
+     */
+    float getRadius();
+
+    /**
+     * Moves the center of the collidable, used to put it back at the point of impact.
+     * @param centerX New center x position.
+     */
+    void setCenterX(float centerX);
+
+    /**
+     * Moves the center of the collidable, used to put it back at the point of impact.
+     * @param centerY New center y position.
+     */
+    void setCenterY(float centerY);
+}
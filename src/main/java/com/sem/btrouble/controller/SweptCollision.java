@@ -0,0 +1,152 @@
+package com.sem.btrouble.controller;
+
+/**
+ * Time of impact computations for continuous collision detection.
+ * A moving circle hits a rectangle when its center enters the rectangle
+ * grown by the radius, with rounded corners.
+ */
+public final class SweptCollision {
+
+    /**
+     * Returned when the circle does not hit the rectangle during the move.
+     */
+    public static final float NO_IMPACT = -1f;
+
+    /**
+     * Utility class, should not be instantiated.
+     */
+    private SweptCollision() {
+    }
+
+    /**
+     * Computes the time of impact of a swept collidable with a rectangular collidable.
+     * The rectangle is assumed to stand still during the move.
+     * @param swept Collidable moving from its previous center to its current center.
+     * @param rectangle Collidable to be hit, its bounding box is used.
+     * @return the fraction of the move at which they touch, or NO_IMPACT.
+     */
+    public static float timeOfImpact(SweptCollidable swept, Collidable rectangle) {
+        return timeOfImpact(swept.getPreviousCenterX(), swept.getPreviousCenterY(),
+                swept.getCenterX(), swept.getCenterY(), swept.getRadius(),
+                rectangle.getX(), rectangle.getY(),
+                rectangle.getX() + rectangle.getWidth(),
+                rectangle.getY() + rectangle.getHeight());
+    }
+
+    /**
+     * Computes the time of impact of a moving circle with a rectangle.
+     * A circle that already overlaps the rectangle at the start is left to the
+     * discrete collision test, so NO_IMPACT is returned for it.
+     * @param startX Center x position at the start of the move.
+     * @param startY Center y position at the start of the move.
+     * @param endX Center x position at the end of the move.
+     * @param endY Center y position at the end of the move.
+     * @param radius Radius of the circle.
+     * @param left X position of the left side of the rectangle.
+     * @param top Y position of the top of the rectangle.
+     * @param right X position of the right side of the rectangle.
+     * @param bottom Y position of the bottom of the rectangle.
+     * @return the fraction of the move in [0, 1] at which they touch, or NO_IMPACT.
+     */
+    public static float timeOfImpact(float startX, float startY, float endX, float endY,
+            float radius, float left, float top, float right, float bottom) {
+        float closestX = Math.min(Math.max(startX, left), right);
+        float closestY = Math.min(Math.max(startY, top), bottom);
+        float offsetX = startX - closestX;
+        float offsetY = startY - closestY;
+        if(offsetX * offsetX + offsetY * offsetY <= radius * radius) {
+            return NO_IMPACT;
+        }
+
+        float dx = endX - startX;
+        float dy = endY - startY;
+        float earliest = NO_IMPACT;
+        // The flat sides of the grown rectangle.
+        if(dx > 0) {
+            earliest = earliest(earliest,
+                    faceImpact(left - radius, startX, dx, startY, dy, top, bottom));
+        } else if(dx < 0) {
+            earliest = earliest(earliest,
+                    faceImpact(right + radius, startX, dx, startY, dy, top, bottom));
+        }
+        if(dy > 0) {
+            earliest = earliest(earliest,
+                    faceImpact(top - radius, startY, dy, startX, dx, left, right));
+        } else if(dy < 0) {
+            earliest = earliest(earliest,
+                    faceImpact(bottom + radius, startY, dy, startX, dx, left, right));
+        }
+        // The rounded corners of the grown rectangle.
+        earliest = earliest(earliest, cornerImpact(startX, startY, dx, dy, radius, left, top));
+        earliest = earliest(earliest, cornerImpact(startX, startY, dx, dy, radius, right, top));
+        earliest = earliest(earliest, cornerImpact(startX, startY, dx, dy, radius, left, bottom));
+        earliest = earliest(earliest, cornerImpact(startX, startY, dx, dy, radius, right, bottom));
+        return earliest;
+    }
+
+    /**
+     * Computes when the center crosses a flat side of the grown rectangle.
+     * @param face Position of the side on the axis of movement.
+     * @param start Start position on the axis of movement.
+     * @param delta Movement on the axis of movement, not zero.
+     * @param crossStart Start position on the other axis.
+     * @param crossDelta Movement on the other axis.
+     * @param crossMin Start of the side on the other axis.
+     * @param crossMax End of the side on the other axis.
+     * @return the time of impact, or NO_IMPACT.
+     */
+    private static float faceImpact(float face, float start, float delta,
+            float crossStart, float crossDelta, float crossMin, float crossMax) {
+        float time = (face - start) / delta;
+        if(time < 0 || time > 1) {
+            return NO_IMPACT;
+        }
+        float cross = crossStart + crossDelta * time;
+        return cross >= crossMin && cross <= crossMax ? time : NO_IMPACT;
+    }
+
+    /**
+     * Computes when the center enters the circle around a corner of the rectangle.
+     * @param startX Center x position at the start of the move.
+     * @param startY Center y position at the start of the move.
+     * @param dx Movement in x direction.
+     * @param dy Movement in y direction.
+     * @param radius Radius of the moving circle.
+     * @param cornerX X position of the corner.
+     * @param cornerY Y position of the corner.
+     * @return the time of impact, or NO_IMPACT.
+     */
+    private static float cornerImpact(float startX, float startY, float dx, float dy,
+            float radius, float cornerX, float cornerY) {
+        float a = dx * dx + dy * dy;
+        if(a == 0) {
+            return NO_IMPACT;
+        }
+        float fx = startX - cornerX;
+        float fy = startY - cornerY;
+        float b = 2 * (fx * dx + fy * dy);
+        float c = fx * fx + fy * fy - radius * radius;
+        float discriminant = b * b - 4 * a * c;
+        if(discriminant < 0) {
+            return NO_IMPACT;
+        }
+        float time = (float) ((-b - Math.sqrt(discriminant)) / (2 * a));
+        return time >= 0 && time <= 1 ? time : NO_IMPACT;
+    }
+
+    /**
+     * Returns the earliest of two times of impact.
+     * @param first First time of impact, or NO_IMPACT.
+     * @param second Second time of impact, or NO_IMPACT.
+     * @return the earliest time of impact, or NO_IMPACT if both are NO_IMPACT.
+     */
+    private static float earliest(float first, float second) {
+        if(first == NO_IMPACT) {
+            return second;
+        }
+        if(second == NO_IMPACT) {
+            return first;
+        }
+        return Math.min(first, second);
+    }
+}
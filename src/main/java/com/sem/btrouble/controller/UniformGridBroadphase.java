@@ -0,0 +1,158 @@
+package com.sem.btrouble.controller;
+
+import org.newdawn.slick.geom.Rectangle;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Uniform grid broadphase for the CollisionHandler.
+ * The grid covers the bounds of the room and is divided into square cells.
+ * Every collidable is registered in all cells its bounding box overlaps, so
+ * only collidables that share a cell have to be tested against each other.
+ * All storage is reused between ticks, so rebuilding the grid every tick
+ * does not allocate once the arrays have grown large enough.
+ */
+public class UniformGridBroadphase implements Broadphase {
+
+    public static final float DEFAULT_CELL_SIZE = 128f;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final CellGrid grid;
+
+    private Collidable[] items;
+    private int[] minColumn;
+    private int[] minRow;
+    private int[] maxColumn;
+    private int[] maxRow;
+    private int count;
+
+    /**
+     * Constructor for a grid with the default cell size.
+     * @param bounds Area covered by the grid, usually the bounds of the room.
+     */
+    public UniformGridBroadphase(Rectangle bounds) {
+        this(bounds.getX(), bounds.getY(), bounds.getWidth(), bounds.getHeight(),
+                DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Constructor for a grid.
+     * Collidables outside the area are put in the nearest border cells.
+     * @param x X position of the left side of the area.
+     * @param y Y position of the top of the area.
+     * @param width Width of the area.
+     * @param height Height of the area.
+     * @param cellSize Width and height of a single cell.
+     */
+    public UniformGridBroadphase(float x, float y, float width, float height, float cellSize) {
+        this.grid = new CellGrid(x, y, width, height, cellSize);
+        this.items = new Collidable[INITIAL_CAPACITY];
+        this.minColumn = new int[INITIAL_CAPACITY];
+        this.minRow = new int[INITIAL_CAPACITY];
+        this.maxColumn = new int[INITIAL_CAPACITY];
+        this.maxRow = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Get the amount of columns of the grid.
+     * @return the amount of columns.
+     */
+    public int getColumns() {
+        return grid.getColumns();
+    }
+
+    /**
+     * Get the amount of rows of the grid.
+     * @return the amount of rows.
+     */
+    public int getRows() {
+        return grid.getRows();
+    }
+
+    /**
+     * Rebuilds the grid and adds all pairs of collidables that share a cell.
+     * @param collidables Collidables to be checked this tick.
+     * @param pairs List to which the pairs are added.
+     */
+    @Override
+    public void findPairs(Collection<? extends Collidable> collidables, List<Collidable> pairs) {
+        clear();
+        for(Collidable collidable : collidables) {
+            insert(collidable);
+        }
+        for(int index = 0; index < count; index++) {
+            collectPairs(index, pairs);
+        }
+    }
+
+    /**
+     * Removes all collidables from the grid, but keeps the allocated storage.
+     */
+    private void clear() {
+        Arrays.fill(items, 0, count, null);
+        grid.clear();
+        count = 0;
+    }
+
+    /**
+     * Inserts a collidable in every cell its bounding box overlaps.
+     * @param collidable Collidable to be inserted.
+     */
+    private void insert(Collidable collidable) {
+        if(count == items.length) {
+            grow();
+        }
+        int index = count++;
+        items[index] = collidable;
+        minColumn[index] = grid.column(collidable.getX());
+        maxColumn[index] = grid.column(collidable.getX() + collidable.getWidth());
+        minRow[index] = grid.row(collidable.getY());
+        maxRow[index] = grid.row(collidable.getY() + collidable.getHeight());
+
+        for(int r = minRow[index]; r <= maxRow[index]; r++) {
+            for(int c = minColumn[index]; c <= maxColumn[index]; c++) {
+                grid.add(grid.cell(r, c), index);
+            }
+        }
+    }
+
+    /**
+     * Adds the pairs of the index'th collidable with all collidables
+     * that were inserted after it and share a cell with it.
+     * Every pair is only added once, even if it shares multiple cells.
+     * @param index Index of the collidable.
+     * @param pairs List to which the pairs are added.
+     */
+    private void collectPairs(int index, List<Collidable> pairs) {
+        for(int r = minRow[index]; r <= maxRow[index]; r++) {
+            for(int c = minColumn[index]; c <= maxColumn[index]; c++) {
+                int cell = grid.cell(r, c);
+                int[] cellItems = grid.get(cell);
+                for(int i = 0; i < grid.cellSize(cell); i++) {
+                    int other = cellItems[i];
+                    // Only report a pair in the first cell both collidables share.
+                    if(other > index
+                            && Math.max(minColumn[index], minColumn[other]) == c
+                            && Math.max(minRow[index], minRow[other]) == r) {
+                        pairs.add(items[index]);
+                        pairs.add(items[other]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Doubles the capacity of the collidable storage.
+     */
+    private void grow() {
+        int capacity = items.length * 2;
+        items = Arrays.copyOf(items, capacity);
+        minColumn = Arrays.copyOf(minColumn, capacity);
+        minRow = Arrays.copyOf(minRow, capacity);
+        maxColumn = Arrays.copyOf(maxColumn, capacity);
+        maxRow = Arrays.copyOf(maxRow, capacity);
+    }
+}
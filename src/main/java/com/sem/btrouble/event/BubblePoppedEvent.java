@@ -0,0 +1,121 @@
+package com.sem.btrouble.event;
+
+import com.sem.btrouble.model.Player;
+
+/**
+ * Fired when a rope pops a bubble. The event is pooled, so it should be
+ * obtained with obtain and not be kept by listeners.
+ */
+public final class BubblePoppedEvent extends PooledEvent {
+
+    private static final EventPool.Factory<BubblePoppedEvent> FACTORY =
+            new EventPool.Factory<BubblePoppedEvent>() {
+                @Override
+                public BubblePoppedEvent create() {
+                    return new BubblePoppedEvent();
+                }
+            };
+
+    private int size;
+    private float x;
+    private float y;
+    private Player player;
+
+    /**
+     * Events should be obtained from the pool.
+     */
+    private BubblePoppedEvent() {
+    }
+
+    /**
+     * Takes an event from the pool of a bus and fills it. Should be called on the
+     * thread that posts to the bus.
+     * @param bus the bus the event is posted to.
+     * @param size the size of the popped bubble.
+     * @param x x position of the center of the bubble.
+     * @param y y position of the center of the bubble.
+     * @param player the owner of the rope that popped the bubble.
+     * @return the event.
+     */
+    public static BubblePoppedEvent obtain(EventBus bus, int size, float x, float y,
+            Player player) {
+        BubblePoppedEvent event = getPool(bus).obtain();
+        event.size = size;
+        event.x = x;
+        event.y = y;
+        event.player = player;
+        return event;
+    }
+
+    /**
+     * Get the pool of the events of a bus.
+     * @param bus the bus.
+     * @return the pool.
+     */
+    public static EventPool<BubblePoppedEvent> getPool(EventBus bus) {
+        return bus.getPool(BubblePoppedEvent.class, FACTORY);
+    }
+
+    /**
+     * Clears the payload.
+     */
+    @Override
+    protected void reset() {
+        size = 0;
+        x = 0;
+        y = 0;
+        player = null;
+    }
+
+    /**
+     * Get the size of the popped bubble.
+     * @return the size.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the x position of the center of the popped bubble.
+     * @return the x position.
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Get the y position of the center of the popped bubble.
+     * @return the y position.
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Get the owner of the rope that popped the bubble.
+     * @return the player.
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Describes the event, for the log.
+     * @return a description of the event.
+     */
+    @Override
+    public String toString() {
+        return describe(size, x, y);
+    }
+
+    /**
+     * Describes a popped bubble, for the log.
+     * @param size the size of the popped bubble.
+     * @param x x position of the center of the bubble.
+     * @param y y position of the center of the bubble.
+     * @return a description of the event.
+     */
+    public static String describe(int size, float x, float y) {
+        return "size " + size + " at (" + x + ", " + y + ")";
+    }
+}
@@ -0,0 +1,239 @@
+package com.sem.btrouble.event;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dispatches events to the listeners of their type. Every event type has its own
+ * array of listeners, which is copied when a listener is added or removed, so
+ * dispatching does not allocate. Listeners of Event receive all events.
+ * Events are either published, which dispatches them right away, or posted,
+ * which queues them until dispatch is called, for example at the end of a tick.
+ * Pooled events are released after they have been dispatched. Every bus has its own
+ * pools, so a level that runs on another thread with its own bus does not share them.
+ */
+public class EventBus {
+    private static final int INITIAL_QUEUE = 64;
+    private static final EventListener<?>[] NONE = new EventListener<?>[0];
+    private static final int POOL_CAPACITY = 32;
+
+    private static EventBus instance = null;
+
+    private final Map<Class<?>, EventListener<?>[]> listeners;
+    private final Map<Class<?>, EventPool<?>> pools;
+    private Event[] queue;
+    private int head;
+    private int count;
+
+    /**
+     * Constructor for an event bus without listeners.
+     */
+    public EventBus() {
+        this.listeners = new HashMap<>();
+        this.pools = new HashMap<>();
+        this.queue = new Event[INITIAL_QUEUE];
+    }
+
+    /**
+     * Returns the EventBus instance of the game.
+     * @return EventBus instance
+     */
+    public static EventBus getInstance() {
+        if(instance == null) {
+            instance = new EventBus();
+        }
+        return instance;
+    }
+
+    /**
+     * Adds a listener for the events of a type.
+     * @param type the type of the events, or Event for all events.
+     * @param listener the listener.
+     * @param <E> the type of the events.
+     */
+    public <E extends Event> void subscribe(Class<E> type, EventListener<? super E> listener) {
+        EventListener<?>[] current = getListeners(type);
+        EventListener<?>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners.put(type, updated);
+    }
+
+    /**
+     * Removes a listener for the events of a type.
+     * @param type the type of the events.
+     * @param listener the listener.
+     * @param <E> the type of the events.
+     */
+    public <E extends Event> void unsubscribe(Class<E> type, EventListener<? super E> listener) {
+        EventListener<?>[] current = getListeners(type);
+        for(int i = 0; i < current.length; i++) {
+            if(current[i] == listener) {
+                EventListener<?>[] updated = new EventListener<?>[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners.put(type, updated);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Get the pool of the pooled events of a type on this bus. The pool is created
+     * when it is first asked for, and should only be used by the thread that posts
+     * to this bus.
+     * @param type the type of the events.
+     * @param factory the factory of the events, used when the pool is created.
+     * @param <T> the type of the events.
+     * @return the pool.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends PooledEvent> EventPool<T> getPool(Class<T> type,
+            EventPool.Factory<T> factory) {
+        EventPool<T> pool = (EventPool<T>) pools.get(type);
+        if(pool == null) {
+            pool = new EventPool<>(factory, POOL_CAPACITY);
+            pools.put(type, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Get the amount of listeners of a type.
+     * @param type the type of the events.
+     * @return the amount of listeners.
+     */
+    public int getListenerCount(Class<? extends Event> type) {
+        return getListeners(type).length;
+    }
+
+    /**
+     * Dispatches an event to its listeners right away.
+     * @param event the event.
+     */
+    public void publish(Event event) {
+        deliver(event);
+    }
+
+    /**
+     * Queues an event, to be dispatched on the next call of dispatch.
+     * @param event the event.
+     */
+    public synchronized void post(Event event) {
+        if(count == queue.length) {
+            Event[] larger = new Event[queue.length * 2];
+            for(int i = 0; i < count; i++) {
+                larger[i] = queue[(head + i) % queue.length];
+            }
+            queue = larger;
+            head = 0;
+        }
+        queue[(head + count) % queue.length] = event;
+        count++;
+    }
+
+    /**
+     * Dispatches all queued events, in the order in which they were posted.
+     * Events that are posted by the listeners are dispatched as well.
+     * @return the amount of dispatched events.
+     */
+    public int dispatch() {
+        int dispatched = 0;
+        Event event;
+        while((event = poll()) != null) {
+            deliver(event);
+            dispatched++;
+        }
+        return dispatched;
+    }
+
+    /**
+     * Get the amount of queued events.
+     * @return the amount of events waiting for dispatch.
+     */
+    public synchronized int getPending() {
+        return count;
+    }
+
+    /**
+     * Removes all listeners and queued events.
+     */
+    public synchronized void clear() {
+        listeners.clear();
+        while(count > 0) {
+            Event event = queue[head];
+            queue[head] = null;
+            head = (head + 1) % queue.length;
+            count--;
+            if(event instanceof PooledEvent) {
+                ((PooledEvent) event).release();
+            }
+        }
+        head = 0;
+    }
+
+    /**
+     * Takes the oldest queued event.
+     * @return the event, or null if the queue is empty.
+     */
+    private synchronized Event poll() {
+        if(count == 0) {
+            return null;
+        }
+        Event event = queue[head];
+        queue[head] = null;
+        head = (head + 1) % queue.length;
+        count--;
+        return event;
+    }
+
+    /**
+     * Dispatches an event to the listeners of its type and to the listeners
+     * of all events, and releases it if it is pooled.
+     * @param event the event.
+     */
+    private void deliver(Event event) {
+        Class<?> type = typeOf(event);
+        deliver(getListeners(type), event);
+        if(type != Event.class) {
+            deliver(getListeners(Event.class), event);
+        }
+        if(event instanceof PooledEvent) {
+            ((PooledEvent) event).release();
+        }
+    }
+
+    /**
+     * Dispatches an event to listeners.
+     * @param targets the listeners.
+     * @param event the event.
+     */
+    @SuppressWarnings("unchecked")
+    private static void deliver(EventListener<?>[] targets, Event event) {
+        for(EventListener<?> listener : targets) {
+            ((EventListener<Event>) listener).update(event);
+        }
+    }
+
+    /**
+     * Get the listeners of a type.
+     * @param type the type of the events.
+     * @return the listeners.
+     */
+    private EventListener<?>[] getListeners(Class<?> type) {
+        EventListener<?>[] current = listeners.get(type);
+        return current == null ? NONE : current;
+    }
+
+    /**
+     * Get the type of an event. Events that are enum constants have the type of the enum.
+     * @param event the event.
+     * @return the type.
+     */
+    private static Class<?> typeOf(Event event) {
+        if(event instanceof Enum) {
+            return ((Enum<?>) event).getDeclaringClass();
+        }
+        return event.getClass();
+    }
+}
@@ -0,0 +1,15 @@
+package com.sem.btrouble.event;
+
+/**
+ * Listens to the events of one type that are published on the EventBus.
+ * @param <E> the type of the events.
+ */
+public interface EventListener<E extends Event> {
+
+    /**
+     * Method called when an event of the type is published.
+     * @param event the published event.
+     */
+    void update(E event);
+
+}
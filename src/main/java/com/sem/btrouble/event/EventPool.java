@@ -0,0 +1,97 @@
+package com.sem.btrouble.event;
+
+import java.util.Arrays;
+
+/**
+ * A pool of reusable events of one type. Events are created when the pool is empty
+ * and kept when they are released, up to the capacity of the pool.
+ * Every EventBus has its own pools, which should only be used from the thread
+ * that posts to that bus.
+ * @param <T> the type of the events.
+ */
+public class EventPool<T extends PooledEvent> {
+
+    private final Factory<T> factory;
+    private final PooledEvent[] free;
+    private int size;
+    private int created;
+
+    /**
+     * Creates the events of a pool.
+     * @param <T> the type of the events.
+     */
+    public interface Factory<T extends PooledEvent> {
+        /**
+         * Creates an event.
+         * @return a new event.
+         */
+        T create();
+    }
+
+    /**
+     * Constructor for a pool.
+     * @param factory the factory of the events.
+     * @param capacity the maximum amount of free events that are kept.
+     */
+    public EventPool(Factory<T> factory, int capacity) {
+        this.factory = factory;
+        this.free = new PooledEvent[capacity];
+    }
+
+    /**
+     * Takes an event from the pool, or creates one if the pool is empty.
+     * @return an event with an empty payload.
+     */
+    @SuppressWarnings("unchecked")
+    public T obtain() {
+        if(size > 0) {
+            T event = (T) free[--size];
+            free[size] = null;
+            return event;
+        }
+        T event = factory.create();
+        event.setPool(this);
+        created++;
+        return event;
+    }
+
+    /**
+     * Returns an event to the pool.
+     * @param event the event, which should have been obtained from this pool.
+     */
+    void recycle(PooledEvent event) {
+        event.reset();
+        for(int i = 0; i < size; i++) {
+            if(free[i] == event) {
+                return;
+            }
+        }
+        if(size < free.length) {
+            free[size++] = event;
+        }
+    }
+
+    /**
+     * Get the amount of free events in the pool.
+     * @return the amount of free events.
+     */
+    public int getFree() {
+        return size;
+    }
+
+    /**
+     * Get the amount of events the pool has created.
+     * @return the amount of created events.
+     */
+    public int getCreated() {
+        return created;
+    }
+
+    /**
+     * Removes all free events.
+     */
+    public void clear() {
+        Arrays.fill(free, 0, size, null);
+        size = 0;
+    }
+}
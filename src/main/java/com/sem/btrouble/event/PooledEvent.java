@@ -0,0 +1,33 @@
+package com.sem.btrouble.event;
+
+/**
+ * An event with a mutable payload, which is taken from a pool and returned
+ * to it after it has been dispatched, so publishing it does not allocate.
+ * Listeners should not keep a reference to the event.
+ */
+public abstract class PooledEvent implements Event {
+
+    private EventPool<?> pool;
+
+    /**
+     * Sets the pool the event is returned to.
+     * @param pool the pool of the event.
+     */
+    void setPool(EventPool<?> pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the event to its pool. This is done by the EventBus after dispatching.
+     */
+    public void release() {
+        if(pool != null) {
+            pool.recycle(this);
+        }
+    }
+
+    /**
+     * Clears the payload, before the event is returned to the pool.
+     */
+    protected abstract void reset();
+}
@@ -1,6 +1,8 @@
 package com.sem.btrouble.game;
 
 import com.sem.btrouble.controller.Level;
+import com.sem.btrouble.event.EventBus;
+import com.sem.btrouble.event.PlayerEvent;
 import com.sem.btrouble.model.Bubble;
 import com.sem.btrouble.model.Player;
 import com.sem.btrouble.model.Room;
@@ -8,6 +10,7 @@ import com.sem.btrouble.model.Rope;
 import com.sem.btrouble.model.RopeFactory;
 import com.sem.btrouble.observering.Direction;
 import com.sem.btrouble.observering.LevelObserver;
+import com.sem.btrouble.tools.GameRandom;
 import org.newdawn.slick.Color;
 import org.newdawn.slick.Graphics;
 
@@ -21,20 +24,28 @@ import java.util.List;
  */
 public abstract class AbstractGame implements LevelObserver {
     private Level level;
+    private Simulation simulation;
     private LevelObserver view;
+    private EventBus events;
     private Timer levelTimer;
 
     // Max time in seconds.
     public static final int MAX_GAME_DURATION = 600;
+    // Changes of the level made by the timers, applied at the start of an update.
+    public static final int LEVEL_STARTED = 1;
+    public static final int LEVEL_TIMED_OUT = 2;
     private int currentTime;
+    private int timerWidth;
+    private volatile boolean startRequested;
+    private volatile boolean timeoutRequested;
+    private int levelChanges;
 
     /**
      * Constructor for a game.
      * @param room Room
      */
     public AbstractGame(Room room) {
-        loadLevel(room);
-        currentTime = 0;
+        this(room, null);
     }
 
     /**
@@ -43,9 +54,34 @@ public abstract class AbstractGame implements LevelObserver {
      * @param view View connected to this controller.
      */
     public AbstractGame(Room room, LevelObserver view) {
+        this(room, view, GameRandom.randomSeed());
+    }
+
+    /**
+     * Constructor for a game with a seed, so it can be played again.
+     * @param room Room.
+     * @param view View connected to this controller.
+     * @param seed Seed of the random numbers of the level.
+     */
+    public AbstractGame(Room room, LevelObserver view, long seed) {
+        this(room, view, seed, EventBus.getInstance());
+    }
+
+    /**
+     * Constructor for a game with a seed and its own event bus. Every level of
+     * the game posts its events to this bus, so games that run at the same time
+     * on different threads should each have their own bus.
+     * @param room Room.
+     * @param view View connected to this controller.
+     * @param seed Seed of the random numbers of the level.
+     * @param events Bus the events of the game are posted to.
+     */
+    public AbstractGame(Room room, LevelObserver view, long seed, EventBus events) {
         this.view = view;
-        loadLevel(room);
-        currentTime = 0;
+        this.events = events;
+        this.levelTimer = new Timer(100, new LevelTimerActionListener());
+        loadLevel(room, seed);
+        setCurrentTime(0);
     }
 
     /**
@@ -56,25 +92,56 @@ public abstract class AbstractGame implements LevelObserver {
         return level;
     }
 
+    /**
+     * Returns the bus the events of the game are posted to.
+     * @return the event bus.
+     */
+    public EventBus getEventBus() {
+        return events;
+    }
+
     /**
      * Loads a new level with the given room.
      * @param room Room of the level that should be loaded.
      */
     public void loadLevel(Room room) {
-        this.level = new Level(room);
+        loadLevel(room, GameRandom.randomSeed());
+    }
+
+    /**
+     * Loads a new level with the given room and seed. The same seed gives
+     * the same power ups and waves for the same input.
+     * @param room Room of the level that should be loaded.
+     * @param seed Seed of the random numbers of the level.
+     */
+    public void loadLevel(Room room, long seed) {
+        this.level = new Level(room, seed, events);
         level.registerObserver(this);
         level.registerObserver(view);
+        this.simulation = new Simulation(level, Simulation.DEFAULT_TICK_RATE, new Runnable() {
+            @Override
+            public void run() {
+                runGameLoop();
+            }
+        });
     }
 
     /**
-     * Start the game.
+     * Returns the fixed timestep simulation of the level.
+     * @return the simulation.
+     */
+    public Simulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Start the game. The level is started on the first update after two seconds.
      */
     public void startGame() {
-        levelTimer = new Timer(100, new LevelTimerActionListener());
         Timer t1 = new Timer(100, new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                startLevel();
+                startRequested = true;
                 System.out.println("LEVEL STARTED");
             }
         });
@@ -91,12 +158,83 @@ public abstract class AbstractGame implements LevelObserver {
     }
 
     /**
-     * Does the same as startlevel, except running in a separate thread.
+     * Runs a single tick of the level, if it is running.
      */
     public void updateGame() {
-        if(isLevelRunning()) {
-            level.moveObjects();
-            runGameLoop();
+        applyLevelChanges();
+        simulation.tick();
+    }
+
+    /**
+     * Runs as many fixed ticks as fit in the elapsed time.
+     * Events posted outside of a tick, like a lost level from the level timer,
+     * are dispatched afterwards.
+     * @param delta Elapsed time in milliseconds since the last update.
+     */
+    public void updateGame(int delta) {
+        applyLevelChanges();
+        simulation.advance(delta);
+        events.dispatch();
+    }
+
+    /**
+     * Starts or loses the level if the timers asked for it. The timers run on their
+     * own thread, so their changes are applied here, at the start of an update, and
+     * a recorded game can make them at the same moment when it is played again.
+     */
+    private void applyLevelChanges() {
+        levelChanges = 0;
+        if(startRequested) {
+            startRequested = false;
+            startLevel();
+            levelChanges |= LEVEL_STARTED;
+        }
+        if(timeoutRequested) {
+            timeoutRequested = false;
+            level.loseLevel();
+            levelChanges |= LEVEL_TIMED_OUT;
+        }
+    }
+
+    /**
+     * Get the changes of the level the timers made in the last update.
+     * @return LEVEL_STARTED and LEVEL_TIMED_OUT, or 0 if nothing changed.
+     */
+    public int getLevelChanges() {
+        return levelChanges;
+    }
+
+    /**
+     * Makes recorded changes of the level, without the timers.
+     * This is used to play a recorded game again.
+     * @param changes LEVEL_STARTED and LEVEL_TIMED_OUT, or 0.
+     */
+    public void replayLevelChanges(int changes) {
+        if((changes & LEVEL_STARTED) != 0) {
+            level.start();
+        }
+        if((changes & LEVEL_TIMED_OUT) != 0) {
+            level.loseLevel();
+        }
+    }
+
+    /**
+     * Moves the players and fires their ropes, as pressed in an input frame.
+     * Players are handled in order, each one moving before it fires.
+     * @param buttons the pressed buttons, see PlayerInput.
+     * @param delta Elapsed time in milliseconds since the last update.
+     * @param players the players, in the order of the input frame.
+     */
+    public void applyInput(int buttons, int delta, Player... players) {
+        for(int i = 0; i < players.length; i++) {
+            if(PlayerInput.isDown(buttons, i, PlayerInput.LEFT)) {
+                movePlayer(players[i], Direction.LEFT, delta);
+            } else if(PlayerInput.isDown(buttons, i, PlayerInput.RIGHT)) {
+                movePlayer(players[i], Direction.RIGHT, delta);
+            }
+            if(PlayerInput.isDown(buttons, i, PlayerInput.FIRE)) {
+                fireRope(players[i]);
+            }
         }
     }
 
@@ -148,6 +286,7 @@ public abstract class AbstractGame implements LevelObserver {
         if(player.canFireRope() && player.isAlive()) {
             Rope rope = RopeFactory.makeRope(player);
             level.addRope(rope);
+            events.post(PlayerEvent.SHOOT);
         }
     }
 
@@ -172,7 +311,7 @@ public abstract class AbstractGame implements LevelObserver {
      * @param graphics graphics handler.
      */
     public void draw(Graphics graphics) {
-        level.draw(graphics);
+        level.draw(graphics, simulation.getInterpolation());
         drawTimer(graphics);
     }
 
@@ -185,12 +324,20 @@ public abstract class AbstractGame implements LevelObserver {
     private void drawTimer(Graphics graphics) {
         if(levelTimer.isRunning()) {
             graphics.setColor(Color.darkGray);
-            graphics.fillRect(200, 634,
-                    (int) (880 * (MAX_GAME_DURATION - currentTime) / MAX_GAME_DURATION),
-                    20);
+            graphics.fillRect(200, 634, timerWidth, 20);
         }
     }
 
+    /**
+     * Sets the elapsed time and the width of the timer bar, so the bar
+     * is only computed when the time changes.
+     * @param time the elapsed time in seconds.
+     */
+    private void setCurrentTime(int time) {
+        currentTime = time;
+        timerWidth = 880 * (MAX_GAME_DURATION - currentTime) / MAX_GAME_DURATION;
+    }
+
     /**
      * ActionListener for the levelTimer timer. Specifies what actions should be
      * executed every timer cycle.
@@ -202,9 +349,9 @@ public abstract class AbstractGame implements LevelObserver {
          */
         public void actionPerformed(ActionEvent event) {
             if(currentTime < MAX_GAME_DURATION) {
-                currentTime++;
+                setCurrentTime(currentTime + 1);
             } else {
-                level.loseLevel();
+                timeoutRequested = true;
                 levelTimer.stop();
             }
         }
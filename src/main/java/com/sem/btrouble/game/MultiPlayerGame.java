@@ -1,8 +1,10 @@
 package com.sem.btrouble.game;
 
+import com.sem.btrouble.event.EventBus;
 import com.sem.btrouble.model.Player;
 import com.sem.btrouble.model.Room;
 import com.sem.btrouble.observering.LevelObserver;
+import com.sem.btrouble.tools.GameRandom;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,7 +30,29 @@ public class MultiPlayerGame extends AbstractGame {
      * @param view View connected to this controller.
      */
     public MultiPlayerGame(Room room, LevelObserver view) {
-        super(room, view);
+        this(room, view, GameRandom.randomSeed());
+    }
+
+    /**
+     * Constructor for a game with a seed, so it can be played again.
+     * The events of the game are posted to the bus of the application.
+     * @param room Room.
+     * @param view View connected to this controller.
+     * @param seed Seed of the random numbers of the level.
+     */
+    public MultiPlayerGame(Room room, LevelObserver view, long seed) {
+        this(room, view, seed, EventBus.getInstance());
+    }
+
+    /**
+     * Constructor for a game with a seed and its own event bus.
+     * @param room Room.
+     * @param view View connected to this controller.
+     * @param seed Seed of the random numbers of the level.
+     * @param events Bus the events of the game are posted to.
+     */
+    public MultiPlayerGame(Room room, LevelObserver view, long seed, EventBus events) {
+        super(room, view, seed, events);
         players = new ArrayList<>();
     }
 
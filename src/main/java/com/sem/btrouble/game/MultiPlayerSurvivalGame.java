@@ -1,9 +1,11 @@
 package com.sem.btrouble.game;
 
+import com.sem.btrouble.event.EventBus;
 import com.sem.btrouble.model.Bubble;
 import com.sem.btrouble.model.Player;
 import com.sem.btrouble.model.Room;
 import com.sem.btrouble.observering.LevelObserver;
+import com.sem.btrouble.tools.GameRandom;
 import org.newdawn.slick.Graphics;
 
 import java.util.ArrayList;
@@ -32,7 +34,29 @@ public class MultiPlayerSurvivalGame extends AbstractGame {
      * @param view View connected to this controller.
      */
     public MultiPlayerSurvivalGame(Room room, LevelObserver view) {
-        super(room, view);
+        this(room, view, GameRandom.randomSeed());
+    }
+
+    /**
+     * Constructor for a game with a seed, so it can be played again.
+     * The events of the game are posted to the bus of the application.
+     * @param room Room.
+     * @param view View connected to this controller.
+     * @param seed Seed of the random numbers of the level.
+     */
+    public MultiPlayerSurvivalGame(Room room, LevelObserver view, long seed) {
+        this(room, view, seed, EventBus.getInstance());
+    }
+
+    /**
+     * Constructor for a game with a seed and its own event bus.
+     * @param room Room.
+     * @param view View connected to this controller.
+     * @param seed Seed of the random numbers of the level.
+     * @param events Bus the events of the game are posted to.
+     */
+    public MultiPlayerSurvivalGame(Room room, LevelObserver view, long seed, EventBus events) {
+        super(room, view, seed, events);
         waveTime = TIME;
         players = new ArrayList<>();
     }
@@ -63,12 +87,14 @@ public class MultiPlayerSurvivalGame extends AbstractGame {
     }
 
     /**
-     * Spawn random bubbles.
+     * Spawn random bubbles, drawn from the random numbers of the level.
      */
     private void spawnRandomBubbles() {
+        GameRandom random = getLevel().getRandom();
         List<Bubble> bubbleList = new ArrayList<>();
-        for(int i = 0; i < Math.random()*5; i++) {
-            bubbleList.add(new Bubble((int) (Math.random()*3), (float) (Math.random()*720), 250));
+        int count = 1 + random.nextInt(5);
+        for(int i = 0; i < count; i++) {
+            bubbleList.add(new Bubble(random.nextInt(3), random.nextFloat() * 720, 250));
         }
         getLevel().addBubble(bubbleList);
     }
@@ -107,7 +133,7 @@ public class MultiPlayerSurvivalGame extends AbstractGame {
      * @param graphics the graphics
      */
     public void draw(Graphics graphics) {
-        getLevel().draw(graphics);
+        getLevel().draw(graphics, getSimulation().getInterpolation());
     }
 
     @Override
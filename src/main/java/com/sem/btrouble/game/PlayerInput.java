@@ -0,0 +1,54 @@
+package com.sem.btrouble.game;
+
+/**
+ * The buttons the players press in a frame, packed in an int.
+ * Every player has three bits, the first player in the lowest ones.
+ */
+public final class PlayerInput {
+
+    public static final int LEFT = 1;
+    public static final int RIGHT = 2;
+    public static final int FIRE = 4;
+    public static final int BITS_PER_PLAYER = 3;
+    public static final int MAX_PLAYERS = 8;
+
+    /**
+     * Utility class, should not be instantiated.
+     */
+    private PlayerInput() {
+    }
+
+    /**
+     * Adds the buttons of a player to an input frame. When left and right are both
+     * pressed, the player moves left, like in the game.
+     * @param buttons the buttons of the other players.
+     * @param player the index of the player.
+     * @param left true if the player moves left.
+     * @param right true if the player moves right.
+     * @param fire true if the player fires a rope.
+     * @return the buttons including the ones of the player.
+     */
+    public static int press(int buttons, int player, boolean left, boolean right, boolean fire) {
+        int pressed = 0;
+        if(left) {
+            pressed |= LEFT;
+        } else if(right) {
+            pressed |= RIGHT;
+        }
+        if(fire) {
+            pressed |= FIRE;
+        }
+        return buttons | pressed << (player * BITS_PER_PLAYER);
+    }
+
+    /**
+     * Checks if a player pressed a button.
+     * @param buttons the buttons of the frame.
+     * @param player the index of the player.
+     * @param button LEFT, RIGHT or FIRE.
+     * @return true if the button is pressed.
+     */
+    public static boolean isDown(int buttons, int player, int button) {
+        return (buttons >>> (player * BITS_PER_PLAYER) & button) != 0;
+    }
+}
@@ -0,0 +1,397 @@
+package com.sem.btrouble.game;
+
+import com.sem.btrouble.model.Player;
+import com.sem.btrouble.model.SlowBubblesPowerUp;
+import com.sem.btrouble.model.StayRopePowerUp;
+import com.sem.btrouble.model.Wallet;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Recording of a game: the level, the seed of its random numbers, the state the
+ * players started the level with and the input of every frame. Together with a
+ * deterministic level this is enough to play the game again, see ReplayPlayer.
+ * The players keep their lives, wallet and bought power ups between levels, so
+ * these are part of the recording. A frame is the elapsed time, the buttons the
+ * players pressed and the changes the timers made to the level, in the order the
+ * game applied them. The file is delta encoded, big endian:
+ * <pre>
+ * header       magic (int), version (byte), level index (varint), seed (long),
+ *              survival (byte), player count (byte), per player: lives (zigzag
+ *              varint), wallet value (varint), power ups (byte),
+ *              frame count (varint)
+ * run          frames (varint), input xor the previous input (varint),
+ *              time minus the previous time (zigzag varint)
+ * </pre>
+ * A run is a number of equal frames in a row. The input is the buttons with the
+ * level changes in the bits above the buttons.
+ */
+public class Replay {
+    public static final String DIRECTORY = "replays";
+
+    static final int MAGIC = 0x42545250;
+    static final int VERSION = 2;
+    // Power ups a player can own, stored as bits.
+    public static final int STAY_ROPE = 1;
+    public static final int SLOW_BUBBLES = 2;
+    private static final int CHANGES_SHIFT = PlayerInput.MAX_PLAYERS * PlayerInput.BITS_PER_PLAYER;
+    private static final int BUTTONS_MASK = (1 << CHANGES_SHIFT) - 1;
+    private static final int INITIAL_FRAMES = 1024;
+
+    private final int levelIndex;
+    private final long seed;
+    private final boolean survival;
+    private final int playerCount;
+    private final int[] lives;
+    private final int[] walletValues;
+    private final int[] powerUps;
+    private int[] deltas;
+    private int[] inputs;
+    private int frames;
+
+    /**
+     * Constructor for an empty recording. The players start with the state of a new
+     * player, until the state is recorded with setPlayer.
+     * @param levelIndex the index of the level in the level catalog.
+     * @param seed the seed of the random numbers of the level.
+     * @param survival true if the game is a survival game.
+     * @param playerCount the amount of players.
+     */
+    public Replay(int levelIndex, long seed, boolean survival, int playerCount) {
+        if(playerCount < 1 || playerCount > PlayerInput.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Unsupported amount of players: " + playerCount);
+        }
+        this.levelIndex = levelIndex;
+        this.seed = seed;
+        this.survival = survival;
+        this.playerCount = playerCount;
+        this.lives = new int[playerCount];
+        this.walletValues = new int[playerCount];
+        this.powerUps = new int[playerCount];
+        Arrays.fill(lives, Player.INITIAL_LIVES);
+        this.deltas = new int[INITIAL_FRAMES];
+        this.inputs = new int[INITIAL_FRAMES];
+    }
+
+    /**
+     * Records the state a player starts the level with: the lives, the value of
+     * the wallet and the power ups in the wallet.
+     * @param index the index of the player, in the order of the recorded input.
+     * @param player the player.
+     */
+    public void setPlayer(int index, Player player) {
+        Wallet wallet = player.getWallet();
+        int owned = 0;
+        if(wallet.containsPowerUp(StayRopePowerUp.class) != null) {
+            owned |= STAY_ROPE;
+        }
+        if(wallet.containsPowerUp(SlowBubblesPowerUp.class) != null) {
+            owned |= SLOW_BUBBLES;
+        }
+        lives[index] = player.getLives();
+        walletValues[index] = wallet.getValue();
+        powerUps[index] = owned;
+    }
+
+    /**
+     * Gives a player the recorded state it started the level with. The power ups
+     * are put in the wallet without starting their expiration timers.
+     * @param index the index of the player, in the order of the recorded input.
+     * @param player a new player.
+     */
+    public void restorePlayer(int index, Player player) {
+        Wallet wallet = player.getWallet();
+        player.setLives(lives[index]);
+        wallet.setValue(walletValues[index]);
+        if((powerUps[index] & STAY_ROPE) != 0) {
+            wallet.addPowerUp(new StayRopePowerUp(0));
+        }
+        if((powerUps[index] & SLOW_BUBBLES) != 0) {
+            wallet.addPowerUp(new SlowBubblesPowerUp());
+        }
+    }
+
+    /**
+     * Get the lives a player started the level with.
+     * @param index the index of the player.
+     * @return the lives.
+     */
+    public int getLives(int index) {
+        return lives[index];
+    }
+
+    /**
+     * Get the value of the wallet a player started the level with.
+     * @param index the index of the player.
+     * @return the value of the wallet.
+     */
+    public int getWalletValue(int index) {
+        return walletValues[index];
+    }
+
+    /**
+     * Get the power ups a player started the level with.
+     * @param index the index of the player.
+     * @return the power ups, as the bits STAY_ROPE and SLOW_BUBBLES.
+     */
+    public int getPowerUps(int index) {
+        return powerUps[index];
+    }
+
+    /**
+     * Adds a frame to the recording.
+     * @param delta the elapsed time of the frame in milliseconds.
+     * @param buttons the buttons pressed in the frame, see PlayerInput.
+     * @param changes the changes of the level made by the timers, see AbstractGame.
+     */
+    public void addFrame(int delta, int buttons, int changes) {
+        if(frames == deltas.length) {
+            deltas = Arrays.copyOf(deltas, frames * 2);
+            inputs = Arrays.copyOf(inputs, frames * 2);
+        }
+        deltas[frames] = delta;
+        inputs[frames] = (buttons & BUTTONS_MASK) | changes << CHANGES_SHIFT;
+        frames++;
+    }
+
+    /**
+     * Get the index of the level in the level catalog.
+     * @return the level index.
+     */
+    public int getLevelIndex() {
+        return levelIndex;
+    }
+
+    /**
+     * Get the seed of the random numbers of the level.
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Checks if the recorded game is a survival game.
+     * @return true for a survival game.
+     */
+    public boolean isSurvival() {
+        return survival;
+    }
+
+    /**
+     * Get the amount of players.
+     * @return the amount of players.
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Get the amount of recorded frames.
+     * @return the amount of frames.
+     */
+    public int getFrameCount() {
+        return frames;
+    }
+
+    /**
+     * Get the elapsed time of a frame.
+     * @param frame the index of the frame.
+     * @return the elapsed time in milliseconds.
+     */
+    public int getDelta(int frame) {
+        return deltas[frame];
+    }
+
+    /**
+     * Get the buttons pressed in a frame.
+     * @param frame the index of the frame.
+     * @return the buttons, see PlayerInput.
+     */
+    public int getButtons(int frame) {
+        return inputs[frame] & BUTTONS_MASK;
+    }
+
+    /**
+     * Get the changes of the level the timers made in a frame.
+     * @param frame the index of the frame.
+     * @return the changes, see AbstractGame.
+     */
+    public int getLevelChanges(int frame) {
+        return inputs[frame] >>> CHANGES_SHIFT;
+    }
+
+    /**
+     * Get the location of a recording of a session, in the replay directory.
+     * Every session has its own name, so it does not overwrite the recordings
+     * of earlier sessions.
+     * @param session the name of the session, for example the time it started.
+     * @param recording the number of the recording in the session.
+     * @return the location of the file.
+     */
+    public static String location(String session, int recording) {
+        return DIRECTORY + File.separator + "replay-" + session + "-" + recording + ".btr";
+    }
+
+    /**
+     * Writes the recording to a file. The directory of the file is created when
+     * it does not exist yet.
+     * @param file location of the file.
+     * @throws IOException when the file can't be written.
+     */
+    public void save(String file) throws IOException {
+        File parent = new File(file).getAbsoluteFile().getParentFile();
+        if(parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Can't create the directory " + parent);
+        }
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(file))) {
+            write(output);
+        }
+    }
+
+    /**
+     * Reads a recording from a file.
+     * @param file location of the file.
+     * @return the recording.
+     * @throws IOException when the file can't be read or is not a recording.
+     */
+    public static Replay load(String file) throws IOException {
+        try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+            return read(input);
+        }
+    }
+
+    /**
+     * Writes the recording.
+     * @param output the stream to write to, which is flushed but not closed.
+     * @throws IOException when the recording can't be written.
+     */
+    public void write(OutputStream output) throws IOException {
+        DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        writeVarint(data, levelIndex);
+        data.writeLong(seed);
+        data.writeByte(survival ? 1 : 0);
+        data.writeByte(playerCount);
+        for(int i = 0; i < playerCount; i++) {
+            writeVarint(data, (lives[i] << 1) ^ (lives[i] >> 31));
+            writeVarint(data, walletValues[i]);
+            data.writeByte(powerUps[i]);
+        }
+        writeVarint(data, frames);
+        int previousInput = 0;
+        int previousDelta = 0;
+        int frame = 0;
+        while(frame < frames) {
+            int run = 1;
+            while(frame + run < frames && deltas[frame + run] == deltas[frame]
+                    && inputs[frame + run] == inputs[frame]) {
+                run++;
+            }
+            writeVarint(data, run);
+            writeVarint(data, inputs[frame] ^ previousInput);
+            int change = deltas[frame] - previousDelta;
+            writeVarint(data, (change << 1) ^ (change >> 31));
+            previousInput = inputs[frame];
+            previousDelta = deltas[frame];
+            frame += run;
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a recording.
+     * @param input the stream to read from.
+     * @return the recording.
+     * @throws IOException when the stream can't be read or is not a recording.
+     */
+    public static Replay read(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(input);
+        if(data.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedByte();
+        if(version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        int levelIndex = readVarint(data);
+        long seed = data.readLong();
+        boolean survival = data.readUnsignedByte() != 0;
+        int playerCount = data.readUnsignedByte();
+        Replay replay;
+        try {
+            replay = new Replay(levelIndex, seed, survival, playerCount);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        for(int i = 0; i < playerCount; i++) {
+            int lives = readVarint(data);
+            replay.lives[i] = (lives >>> 1) ^ -(lives & 1);
+            replay.walletValues[i] = readVarint(data);
+            replay.powerUps[i] = data.readUnsignedByte();
+        }
+        int frames = readVarint(data);
+        int inputWord = 0;
+        int delta = 0;
+        while(replay.frames < frames) {
+            int run = readVarint(data);
+            inputWord ^= readVarint(data);
+            int change = readVarint(data);
+            delta += (change >>> 1) ^ -(change & 1);
+            if(run <= 0 || run > frames - replay.frames) {
+                throw new IOException("Malformed replay run of " + run + " frames");
+            }
+            for(int i = 0; i < run; i++) {
+                replay.addFrame(delta, inputWord & BUTTONS_MASK, inputWord >>> CHANGES_SHIFT);
+            }
+        }
+        return replay;
+    }
+
+    /**
+     * Writes an int in as few bytes as possible, seven bits per byte.
+     * @param data the stream to write to.
+     * @param value the value, read as unsigned.
+     * @throws IOException when the value can't be written.
+     */
+    private static void writeVarint(DataOutputStream data, int value) throws IOException {
+        while((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    /**
+     * Reads an int written by writeVarint.
+     * @param data the stream to read from.
+     * @return the value.
+     * @throws IOException when the value can't be read or is too long.
+     */
+    private static int readVarint(DataInputStream data) throws IOException {
+        int value = 0;
+        for(int shift = 0; shift < 35; shift += 7) {
+            int read = data.read();
+            if(read < 0) {
+                throw new EOFException("Replay ends in the middle of a value");
+            }
+            value |= (read & 0x7F) << shift;
+            if((read & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed replay value");
+    }
+}
@@ -0,0 +1,176 @@
+package com.sem.btrouble.game;
+
+import com.sem.btrouble.event.EventBus;
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Player;
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.observering.LevelObserver;
+import com.sem.btrouble.tools.DataLoader;
+import com.sem.btrouble.tools.LevelCatalog;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Plays a recorded game again, without rendering and as fast as possible.
+ * The game is set up like the game states do and every recorded frame is applied
+ * in the same order as in the game: the input, the changes of the level timers
+ * and then the update. The players start with the recorded lives, wallet and power
+ * ups, as they were at the start of the level.
+ * The game posts its events to a bus of its own, so replays can run on other threads
+ * next to the game.
+ * Usage: ReplayPlayer &lt;replay file&gt;
+ */
+public class ReplayPlayer implements LevelObserver {
+
+    private final Replay replay;
+    private final AbstractGame game;
+    private final Player[] players;
+    private int frame;
+    private boolean won;
+    private boolean lost;
+
+    /**
+     * Constructor for a player of a recording, which sets up the recorded game.
+     * @param replay the recording.
+     * @param levels the levels the recording was made with.
+     */
+    public ReplayPlayer(Replay replay, LevelCatalog levels) {
+        this.replay = replay;
+        Room room = levels.createRoom(replay.getLevelIndex());
+        List<Bubble> bubbles = levels.createBubbles(replay.getLevelIndex());
+        this.players = new Player[replay.getPlayerCount()];
+        this.players[0] = new Player(1f, 1f);
+        replay.restorePlayer(0, players[0]);
+        EventBus events = new EventBus();
+
+        if(players.length == 1) {
+            if(replay.isSurvival()) {
+                game = new SinglePlayerSurvivalGame(room, this, replay.getSeed(), events);
+            } else {
+                game = new SinglePlayerGame(room, this, replay.getSeed(), events);
+            }
+            game.spawnBubbles(bubbles);
+            game.addPlayer(players[0]);
+        } else {
+            if(replay.isSurvival()) {
+                game = new MultiPlayerSurvivalGame(room, this, replay.getSeed(), events);
+            } else {
+                game = new MultiPlayerGame(room, this, replay.getSeed(), events);
+            }
+            for(int i = 1; i < players.length; i++) {
+                players[i] = new Player(i + 1f, i + 1f);
+                replay.restorePlayer(i, players[i]);
+                game.addPlayer(players[i]);
+            }
+            game.addPlayer(players[0]);
+            game.spawnBubbles(bubbles);
+        }
+    }
+
+    /**
+     * Plays a recorded game and prints how it ended.
+     * @param args the location of the replay file.
+     * @throws IOException when the replay file can't be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length != 1) {
+            System.err.println("Usage: ReplayPlayer <replay file>");
+            System.exit(1);
+        }
+        Replay replay = Replay.load(args[0]);
+        ReplayPlayer player = new ReplayPlayer(replay,
+                LevelCatalog.load(DataLoader.STANDARD_LOCATION));
+        long start = System.nanoTime();
+        int frames = player.run();
+        long millis = (System.nanoTime() - start) / 1000000;
+        String result = player.isWon() ? "won" : player.isLost() ? "lost" : "unfinished";
+        System.out.println("Played " + frames + " frames, "
+                + player.getGame().getSimulation().getTicks() + " ticks in " + millis
+                + " ms: level " + replay.getLevelIndex() + " " + result);
+    }
+
+    /**
+     * Plays the next recorded frame.
+     * @return false if all frames have been played.
+     */
+    public boolean step() {
+        if(frame >= replay.getFrameCount()) {
+            return false;
+        }
+        int delta = replay.getDelta(frame);
+        game.applyInput(replay.getButtons(frame), delta, players);
+        game.replayLevelChanges(replay.getLevelChanges(frame));
+        game.updateGame(delta);
+        frame++;
+        return true;
+    }
+
+    /**
+     * Plays all recorded frames that have not been played yet.
+     * @return the amount of played frames.
+     */
+    public int run() {
+        int played = 0;
+        while(step()) {
+            played++;
+        }
+        return played;
+    }
+
+    /**
+     * Get the game that is played.
+     * @return the game.
+     */
+    public AbstractGame getGame() {
+        return game;
+    }
+
+    /**
+     * Get the players, in the order of the recorded input.
+     * @return the players.
+     */
+    public Player[] getPlayers() {
+        return players;
+    }
+
+    /**
+     * Get the index of the next frame to play.
+     * @return the amount of played frames.
+     */
+    public int getFrame() {
+        return frame;
+    }
+
+    /**
+     * Returns whether the level has been won.
+     * @return True if the level has been won.
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Returns whether the level has been lost.
+     * @return True if the level has been lost.
+     */
+    public boolean isLost() {
+        return lost;
+    }
+
+    /**
+     * This method is called when a level is won.
+     */
+    @Override
+    public void levelWon() {
+        won = true;
+    }
+
+    /**
+     * This method is called when a level is lost.
+     */
+    @Override
+    public void levelLost() {
+        lost = true;
+    }
+}
@@ -0,0 +1,188 @@
+package com.sem.btrouble.game;
+
+import com.sem.btrouble.controller.Level;
+import com.sem.btrouble.observering.LevelObserver;
+
+/**
+ * Fixed timestep simulation of a level.
+ * Elapsed time is collected in an accumulator and spent in ticks of a fixed
+ * length, so the speed of the game does not depend on the frame rate. What is
+ * left in the accumulator is the interpolation factor for rendering between the
+ * last two ticks. The simulation does not need Slick or an OpenGL context, so
+ * levels can also be run headless, as fast as possible.
+ */
+public class Simulation implements LevelObserver {
+
+    public static final int DEFAULT_TICK_RATE = 60;
+    private static final int MILLIS_PER_SECOND = 1000;
+    // Prevents a slow tick from making every next frame even slower.
+    private static final int MAX_TICKS_PER_ADVANCE = 10;
+
+    private final Level level;
+    private final Runnable tickListener;
+    private final float tickMillis;
+    private float accumulator;
+    private long ticks;
+    private boolean won;
+    private boolean lost;
+
+    /**
+     * Constructor for a simulation running at the default tick rate.
+     * @param level Level to be simulated.
+     */
+    public Simulation(Level level) {
+        this(level, DEFAULT_TICK_RATE, null);
+    }
+
+    /**
+     * Constructor for a simulation.
+     * @param level Level to be simulated.
+     * @param tickRate Amount of ticks per simulated second.
+     * @param tickListener Run after every tick, may be null.
+     */
+    public Simulation(Level level, int tickRate, Runnable tickListener) {
+        if(tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate should be positive");
+        }
+        this.level = level;
+        this.tickListener = tickListener;
+        this.tickMillis = (float) MILLIS_PER_SECOND / tickRate;
+        level.registerObserver(this);
+    }
+
+    /**
+     * Returns the simulated level.
+     * @return the level.
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the length of a tick.
+     * @return the length of a tick in milliseconds.
+     */
+    public float getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Returns the amount of ticks that have been simulated.
+     * @return the amount of ticks.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Adds elapsed time and simulates all whole ticks that fit in the accumulated time.
+     * When more than MAX_TICKS_PER_ADVANCE ticks are due, the rest of the time is dropped.
+     * No time is collected while the level is not running.
+     * @param deltaMillis Elapsed time in milliseconds.
+     * @return the amount of ticks that were simulated.
+     */
+    public int advance(int deltaMillis) {
+        accumulator += Math.max(0, deltaMillis);
+        int simulated = 0;
+        while(accumulator >= tickMillis && simulated < MAX_TICKS_PER_ADVANCE && tick()) {
+            accumulator -= tickMillis;
+            simulated++;
+        }
+        if(accumulator >= tickMillis || !level.isLevelRunning()) {
+            accumulator = 0;
+        }
+        return simulated;
+    }
+
+    /**
+     * Returns how far the time is between the last tick and the next one.
+     * AbstractGame.draw passes it to the level, which draws the moving objects
+     * between their position after the previous tick and after the last tick.
+     * @return the interpolation factor, from 0 inclusive to 1 exclusive.
+     */
+    public float getInterpolation() {
+        return accumulator / tickMillis;
+    }
+
+    /**
+     * Interpolates between the previous and the current value.
+     * @param previous Value after the previous tick.
+     * @param current Value after the last tick.
+     * @param alpha Interpolation factor.
+     * @return the interpolated value.
+     */
+    public static float interpolate(float previous, float current, float alpha) {
+        return previous + (current - previous) * alpha;
+    }
+
+    /**
+     * Simulates a single tick, if the level is running.
+     * @return True if a tick was simulated.
+     */
+    public boolean tick() {
+        if(!level.isLevelRunning()) {
+            return false;
+        }
+        level.moveObjects();
+        if(tickListener != null) {
+            tickListener.run();
+        }
+        ticks++;
+        return true;
+    }
+
+    /**
+     * Starts the level and simulates it without any rendering,
+     * until it is won or lost, or the maximum amount of ticks is reached.
+     * @param maxTicks Maximum amount of ticks to simulate.
+     * @return the amount of ticks that were simulated.
+     */
+    public long run(long maxTicks) {
+        level.start();
+        long simulated = 0;
+        while(simulated < maxTicks && !isFinished() && tick()) {
+            simulated++;
+        }
+        return simulated;
+    }
+
+    /**
+     * Returns whether the level has been won.
+     * @return True if the level has been won.
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Returns whether the level has been lost.
+     * @return True if the level has been lost.
+     */
+    public boolean isLost() {
+        return lost;
+    }
+
+    /**
+     * Returns whether the level has been won or lost.
+     * @return True if the level has finished.
+     */
+    public boolean isFinished() {
+        return won || lost;
+    }
+
+    /**
+     * This method is called when a level is won.
+     */
+    @Override
+    public void levelWon() {
+        won = true;
+    }
+
+    /**
+     * This method is called when a level is lost.
+     */
+    @Override
+    public void levelLost() {
+        lost = true;
+    }
+}
@@ -2,9 +2,15 @@ package com.sem.btrouble.model;
 
 import com.sem.btrouble.controller.Collidable;
 import com.sem.btrouble.controller.CollisionAction;
+import com.sem.btrouble.controller.CollisionActionTable;
 import com.sem.btrouble.controller.CollisionHandler;
+import com.sem.btrouble.controller.SweptCollidable;
+import com.sem.btrouble.game.Simulation;
+import com.sem.btrouble.tools.AssetCache;
+import com.sem.btrouble.tools.SpriteBatch;
 import org.newdawn.slick.Color;
 import org.newdawn.slick.Graphics;
+import org.newdawn.slick.SlickException;
 import org.newdawn.slick.geom.Circle;
 import org.newdawn.slick.geom.Shape;
 
@@ -17,14 +23,16 @@ import java.util.Map;
  * Bubble is a model, which represents the bubbles in the game.
  *
  */
-public class Bubble extends Circle implements Drawable, Movable, Collidable {
+public class Bubble extends Circle implements Drawable, SpriteDrawable, Movable,
+        SweptCollidable {
 
     private static final long serialVersionUID = 1L;
-    private static final float GRAVITY = .4f;
-    private static final float INITIAL_HORIZONTAL_SPEED = 3f;
-    private static final int HIT_SPEED_FACTOR = 30;
+    static final float GRAVITY = .4f;
+    static final float INITIAL_HORIZONTAL_SPEED = 3f;
+    static final int HIT_SPEED_FACTOR = 30;
     private static final int BUBBLE_SCORE = 1000;
-    private static final float GAME_SIZE = 10f;
+    static final float GAME_SIZE = 10f;
+    static final String SPRITE = "Sprites/bubble_disc.png";
 
     private int size;
     private float velocityX;
@@ -32,7 +40,11 @@ public class Bubble extends Circle implements Drawable, Movable, Collidable {
 
     private float accelerationY;
 
+    private float previousCenterX;
+    private float previousCenterY;
+
     private boolean collided;
+    private transient Map<Class<? extends Collidable>, CollisionAction> collisionActions;
 
     /**
      * Bubble class, containing all the data about the bubble.
@@ -50,6 +62,8 @@ public class Bubble extends Circle implements Drawable, Movable, Collidable {
         this.accelerationY = GRAVITY;
         this.velocityX = INITIAL_HORIZONTAL_SPEED;
         this.collided = false;
+        this.previousCenterX = getCenterX();
+        this.previousCenterY = getCenterY();
     }
 
     /**
@@ -73,6 +87,8 @@ public class Bubble extends Circle implements Drawable, Movable, Collidable {
         this.velocityX = velocityX;
         this.velocityY = velocityY;
         this.collided = false;
+        this.previousCenterX = getCenterX();
+        this.previousCenterY = getCenterY();
     }
 
     /**
@@ -104,6 +120,26 @@ public class Bubble extends Circle implements Drawable, Movable, Collidable {
         return velocityY;
     }
 
+    /**
+     * Returns the x position of the center before the last move.
+     *
+     * @return previous center x position.
+     */
+    @Override
+    public float getPreviousCenterX() {
+        return previousCenterX;
+    }
+
+    /**
+     * Returns the y position of the center before the last move.
+     *
+     * @return previous center y position.
+     */
+    @Override
+    public float getPreviousCenterY() {
+        return previousCenterY;
+    }
+
     /**
      * Slows the bubble down.
      */
@@ -145,6 +181,8 @@ public class Bubble extends Circle implements Drawable, Movable, Collidable {
      * Calculates the next location of the Bubble.
      */
     public void move() {
+        previousCenterX = getCenterX();
+        previousCenterY = getCenterY();
         if (!collided) {
             this.velocityY += accelerationY;
             float newX = getCenterX() + velocityX;
@@ -245,13 +283,13 @@ public class Bubble extends Circle implements Drawable, Movable, Collidable {
         velocityY = Math.abs(velocityY);
     }
 
-    private final int bounceconstant = 11;
+    static final int BOUNCE_CONSTANT = 11;
 
     /**
      * Bounce up on collision with floor.
      */
     public void bounceYFloor() {
-        velocityY = -Math.abs(bounceconstant + 2 * (size));
+        velocityY = -Math.abs(BOUNCE_CONSTANT + 2 * (size));
     }
 
     @Override
@@ -275,6 +313,26 @@ public class Bubble extends Circle implements Drawable, Movable, Collidable {
         }
     }
 
+    /**
+     * Adds the bubble to the batch, as a disc of the size of the bubble,
+     * between its position before and after the last move.
+     *
+     * @param batch
+     *            the batch of the frame
+     * @param alpha
+     *            how far the frame is between the last two ticks
+     * @throws SlickException when the sprite can not be loaded.
+     */
+    @Override
+    public void draw(SpriteBatch batch, float alpha) throws SlickException {
+        if (!collided) {
+            float centerX = Simulation.interpolate(previousCenterX, getCenterX(), alpha);
+            float centerY = Simulation.interpolate(previousCenterY, getCenterY(), alpha);
+            batch.draw(AssetCache.getInstance().get(SPRITE), centerX - getRadius(),
+                    centerY - getRadius(), getWidth(), getHeight());
+        }
+    }
+
     /**
      * Every collidable should return a Map with all CollisionActions that
      * collidable should process. To prevent class checking, simply use the
@@ -283,6 +341,9 @@ public class Bubble extends Circle implements Drawable, Movable, Collidable {
      * @return A map of all actions this collidable can do on a collision.
      */
     public Map<Class<? extends Collidable>, CollisionAction> getCollideActions() {
+        if(collisionActions != null) {
+            return collisionActions;
+        }
         Map<Class<? extends Collidable>, CollisionAction> collisionActionMap = new HashMap<>();
 
         // Method called on Wall collision
@@ -300,7 +361,8 @@ public class Bubble extends Circle implements Drawable, Movable, Collidable {
         // Method called on Rope collision
         collisionActionMap.put(StayRope.class, new RopeCollision());
 
-        return collisionActionMap;
+        collisionActions = new CollisionActionTable(collisionActionMap);
+        return collisionActions;
     }
 
     /**
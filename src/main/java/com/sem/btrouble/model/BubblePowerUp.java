@@ -1,11 +1,12 @@
 package com.sem.btrouble.model;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.sem.btrouble.controller.Collidable;
 import com.sem.btrouble.controller.CollisionAction;
+import com.sem.btrouble.controller.CollisionActionTable;
 /**
  * Superclass for all power ups.
  *
@@ -13,7 +14,8 @@ import com.sem.btrouble.controller.CollisionAction;
 public abstract class BubblePowerUp extends PowerUp implements Drawable, Movable {
 	
     private static final long serialVersionUID = 1L;
-    protected CopyOnWriteArrayList<Bubble> bubbles;
+    protected List<Bubble> bubbles;
+    private transient Map<Class<? extends Collidable>, CollisionAction> collisionActions;
     
     /**
      * Construct power up bought in the store.
@@ -28,7 +30,7 @@ public abstract class BubblePowerUp extends PowerUp implements Drawable, Movable
      * @param xpos x position
      * @param ypos y position
      */
-    public BubblePowerUp(float xpos, float ypos, CopyOnWriteArrayList<Bubble> bubbleList) {
+    public BubblePowerUp(float xpos, float ypos, List<Bubble> bubbleList) {
         super(xpos, ypos);
         this.bubbles = bubbleList;
     }
@@ -47,7 +49,7 @@ public abstract class BubblePowerUp extends PowerUp implements Drawable, Movable
      * powerup when it runs out.
      * @param player Player to apply the powerUp to.
      */
-    public abstract void activate(final Player player, CopyOnWriteArrayList<Bubble> bubbles);
+    public abstract void activate(final Player player, List<Bubble> bubbles);
     
     /**
      * Sets the collided status for this powerup.
@@ -78,6 +80,9 @@ public abstract class BubblePowerUp extends PowerUp implements Drawable, Movable
      */
     @Override
     public Map<Class<? extends Collidable>, CollisionAction> getCollideActions() {
+        if(collisionActions != null) {
+            return collisionActions;
+        }
         Map<Class<? extends Collidable>, CollisionAction> collisionActionMap =
                 new HashMap<Class<? extends Collidable>, CollisionAction>();
         
@@ -85,7 +90,8 @@ public abstract class BubblePowerUp extends PowerUp implements Drawable, Movable
         
         collisionActionMap.put(Player.class, new PlayerCollision());
 
-        return collisionActionMap;
+        collisionActions = new CollisionActionTable(collisionActionMap);
+        return collisionActions;
     }
 
     /**
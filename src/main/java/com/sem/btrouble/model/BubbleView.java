@@ -0,0 +1,147 @@
+package com.sem.btrouble.model;
+
+/**
+ * Flyweight view on a single bubble in a BubbleWorld.
+ * The view holds no bubble state itself, it can be pointed at another
+ * bubble with at, so one view can be reused to walk over all bubbles.
+ */
+public class BubbleView {
+
+    private final BubbleWorld world;
+    private int index;
+
+    /**
+     * Constructor for a view on the first bubble of a world.
+     * @param world World that holds the bubbles.
+     */
+    public BubbleView(BubbleWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Points the view at another bubble.
+     * @param index Index of the bubble.
+     * @return this view.
+     */
+    public BubbleView at(int index) {
+        if(index < 0 || index >= world.getCount()) {
+            throw new IndexOutOfBoundsException("No bubble at index " + index);
+        }
+        this.index = index;
+        return this;
+    }
+
+    /**
+     * Returns the index of the bubble the view points at.
+     * @return the index.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the size of the bubble in steps.
+     * @return the size.
+     */
+    public int getSize() {
+        return world.getSize(index);
+    }
+
+    /**
+     * Returns the radius of the bubble.
+     * @return the radius.
+     */
+    public float getRadius() {
+        return world.getRadius(index);
+    }
+
+    /**
+     * Returns the x position of the center of the bubble.
+     * @return the center x position.
+     */
+    public float getCenterX() {
+        return world.getCenterX(index);
+    }
+
+    /**
+     * Returns the y position of the center of the bubble.
+     * @return the center y position.
+     */
+    public float getCenterY() {
+        return world.getCenterY(index);
+    }
+
+    /**
+     * Returns the horizontal velocity of the bubble.
+     * @return the velocity in x direction.
+     */
+    public float getVelocityX() {
+        return world.getVelocityX(index);
+    }
+
+    /**
+     * Returns the vertical velocity of the bubble.
+     * @return the velocity in y direction.
+     */
+    public float getVelocityY() {
+        return world.getVelocityY(index);
+    }
+
+    /**
+     * Returns the vertical acceleration of the bubble.
+     * @return the acceleration in y direction.
+     */
+    public float getAccelerationY() {
+        return world.getAccelerationY(index);
+    }
+
+    /**
+     * Returns whether the bubble has been hit.
+     * @return True if the bubble has been hit.
+     */
+    public boolean getCollidedStatus() {
+        return world.isCollided(index);
+    }
+
+    /**
+     * Marks the bubble as hit.
+     */
+    public void setCollided() {
+        world.setCollided(index);
+    }
+
+    /**
+     * Bounce to the left.
+     */
+    public void bounceXLeft() {
+        world.bounceXLeft(index);
+    }
+
+    /**
+     * Bounce to the right.
+     */
+    public void bounceXRight() {
+        world.bounceXRight(index);
+    }
+
+    /**
+     * Bounce up.
+     */
+    public void bounceYUp() {
+        world.bounceYUp(index);
+    }
+
+    /**
+     * Bounce down.
+     */
+    public void bounceYDown() {
+        world.bounceYDown(index);
+    }
+
+    /**
+     * Bounce up from a floor.
+     */
+    public void bounceYFloor() {
+        world.bounceYFloor(index);
+    }
+}
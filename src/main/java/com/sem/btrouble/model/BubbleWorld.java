@@ -0,0 +1,439 @@
+package com.sem.btrouble.model;
+
+import org.newdawn.slick.Color;
+import org.newdawn.slick.Graphics;
+
+import java.util.Arrays;
+
+/**
+ * Store for large amounts of bubbles, kept in parallel primitive arrays.
+ * Every bubble is an index into the arrays, so moving, splitting and bouncing
+ * all bubbles are plain loops without any Shape bookkeeping. The physics are
+ * the same as the physics of Bubble, including the top left based positions.
+ * Use a BubbleView to look at a single bubble, or toBubble to get a Bubble
+ * that can be used by the CollisionHandler.
+ */
+public class BubbleWorld implements Drawable, Movable {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final float SLOW_FACTOR = .9f;
+    private static final float SPLIT_OFFSET = 20;
+
+    private float[] x;
+    private float[] y;
+    private float[] velocityX;
+    private float[] velocityY;
+    private float[] accelerationY;
+    private int[] size;
+    private boolean[] collided;
+    private int count;
+
+    /**
+     * Constructor for an empty world.
+     */
+    public BubbleWorld() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor for an empty world with room for a number of bubbles.
+     * @param capacity Amount of bubbles that fit before the arrays have to grow.
+     */
+    public BubbleWorld(int capacity) {
+        int initial = Math.max(1, capacity);
+        x = new float[initial];
+        y = new float[initial];
+        velocityX = new float[initial];
+        velocityY = new float[initial];
+        accelerationY = new float[initial];
+        size = new int[initial];
+        collided = new boolean[initial];
+    }
+
+    /**
+     * Returns the amount of bubbles in the world.
+     * @return the amount of bubbles.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Adds a bubble with the initial speed of a new Bubble.
+     * @param bubbleSize Size of the bubble in steps.
+     * @param centerX Horizontal position of the center.
+     * @param centerY Vertical position of the center.
+     * @return the index of the new bubble.
+     */
+    public int add(int bubbleSize, float centerX, float centerY) {
+        return add(bubbleSize, centerX, centerY, Bubble.INITIAL_HORIZONTAL_SPEED, 0);
+    }
+
+    /**
+     * Adds a bubble with an initial speed.
+     * @param bubbleSize Size of the bubble in steps.
+     * @param centerX Horizontal position of the center.
+     * @param centerY Vertical position of the center.
+     * @param speedX Horizontal starting speed.
+     * @param speedY Vertical starting speed.
+     * @return the index of the new bubble.
+     */
+    public int add(int bubbleSize, float centerX, float centerY, float speedX, float speedY) {
+        if(count == x.length) {
+            grow();
+        }
+        int index = count++;
+        float radius = bubbleSize * Bubble.GAME_SIZE;
+        x[index] = centerX - radius;
+        y[index] = centerY - radius;
+        velocityX[index] = speedX;
+        velocityY[index] = speedY;
+        accelerationY[index] = Bubble.GRAVITY;
+        size[index] = bubbleSize;
+        collided[index] = false;
+        return index;
+    }
+
+    /**
+     * Adds a copy of a bubble.
+     * @param bubble Bubble to be copied into the world.
+     * @return the index of the new bubble.
+     */
+    public int add(Bubble bubble) {
+        int index = add(bubble.getSize(), bubble.getCenterX(), bubble.getCenterY(),
+                bubble.getVelocityX(), bubble.getVelocityY());
+        x[index] = bubble.getX();
+        y[index] = bubble.getY();
+        accelerationY[index] = bubble.getAccelerationY();
+        collided[index] = bubble.getCollidedStatus();
+        return index;
+    }
+
+    /**
+     * Creates a Bubble with the state of a bubble in the world.
+     * The collided flag is not copied, since a Bubble can only collide itself.
+     * @param index Index of the bubble.
+     * @return a new Bubble.
+     */
+    public Bubble toBubble(int index) {
+        Bubble bubble = new Bubble(size[index], getCenterX(index), getCenterY(index),
+                velocityX[index], velocityY[index]);
+        bubble.setAccelerationY(accelerationY[index]);
+        return bubble;
+    }
+
+    /**
+     * Returns the size of a bubble in steps.
+     * @param index Index of the bubble.
+     * @return the size.
+     */
+    public int getSize(int index) {
+        return size[index];
+    }
+
+    /**
+     * Returns the radius of a bubble.
+     * @param index Index of the bubble.
+     * @return the radius.
+     */
+    public float getRadius(int index) {
+        return size[index] * Bubble.GAME_SIZE;
+    }
+
+    /**
+     * Returns the x position of the left side of a bubble.
+     * @param index Index of the bubble.
+     * @return the x position.
+     */
+    public float getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * Returns the y position of the top of a bubble.
+     * @param index Index of the bubble.
+     * @return the y position.
+     */
+    public float getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * Returns the x position of the center of a bubble.
+     * @param index Index of the bubble.
+     * @return the center x position.
+     */
+    public float getCenterX(int index) {
+        return x[index] + getRadius(index);
+    }
+
+    /**
+     * Returns the y position of the center of a bubble.
+     * @param index Index of the bubble.
+     * @return the center y position.
+     */
+    public float getCenterY(int index) {
+        return y[index] + getRadius(index);
+    }
+
+    /**
+     * Returns the horizontal velocity of a bubble.
+     * @param index Index of the bubble.
+     * @return the velocity in x direction.
+     */
+    public float getVelocityX(int index) {
+        return velocityX[index];
+    }
+
+    /**
+     * Returns the vertical velocity of a bubble.
+     * @param index Index of the bubble.
+     * @return the velocity in y direction.
+     */
+    public float getVelocityY(int index) {
+        return velocityY[index];
+    }
+
+    /**
+     * Returns the vertical acceleration of a bubble.
+     * @param index Index of the bubble.
+     * @return the acceleration in y direction.
+     */
+    public float getAccelerationY(int index) {
+        return accelerationY[index];
+    }
+
+    /**
+     * Returns whether a bubble has been hit.
+     * @param index Index of the bubble.
+     * @return True if the bubble has been hit.
+     */
+    public boolean isCollided(int index) {
+        return collided[index];
+    }
+
+    /**
+     * Marks a bubble as hit, it is split on the next update.
+     * @param index Index of the bubble.
+     */
+    public void setCollided(int index) {
+        collided[index] = true;
+    }
+
+    /**
+     * Invert the y direction of a bubble.
+     * @param index Index of the bubble.
+     */
+    public void bounceY(int index) {
+        velocityY[index] = -velocityY[index];
+    }
+
+    /**
+     * Invert the x direction of a bubble.
+     * @param index Index of the bubble.
+     */
+    public void bounceX(int index) {
+        velocityX[index] = -velocityX[index];
+    }
+
+    /**
+     * Bounce a bubble to the left.
+     * @param index Index of the bubble.
+     */
+    public void bounceXLeft(int index) {
+        velocityX[index] = -Math.abs(velocityX[index]);
+    }
+
+    /**
+     * Bounce a bubble to the right.
+     * @param index Index of the bubble.
+     */
+    public void bounceXRight(int index) {
+        velocityX[index] = Math.abs(velocityX[index]);
+    }
+
+    /**
+     * Bounce a bubble up.
+     * @param index Index of the bubble.
+     */
+    public void bounceYUp(int index) {
+        velocityY[index] = -Math.abs(velocityY[index]);
+    }
+
+    /**
+     * Bounce a bubble down.
+     * @param index Index of the bubble.
+     */
+    public void bounceYDown(int index) {
+        velocityY[index] = Math.abs(velocityY[index]);
+    }
+
+    /**
+     * Bounce a bubble up from a floor.
+     * @param index Index of the bubble.
+     */
+    public void bounceYFloor(int index) {
+        velocityY[index] = -Math.abs(Bubble.BOUNCE_CONSTANT + 2 * size[index]);
+    }
+
+    /**
+     * Calculates the next location of all bubbles that have not been hit.
+     */
+    @Override
+    public void move() {
+        for(int i = 0; i < count; i++) {
+            if(!collided[i]) {
+                velocityY[i] += accelerationY[i];
+                x[i] += velocityX[i];
+                y[i] += velocityY[i];
+            }
+        }
+    }
+
+    /**
+     * Slows all bubbles down.
+     */
+    public void slowBubbles() {
+        for(int i = 0; i < count; i++) {
+            accelerationY[i] *= SLOW_FACTOR;
+        }
+    }
+
+    /**
+     * Keeps all bubbles inside an area by bouncing them off its sides.
+     * The bottom acts as a floor, the other sides as walls.
+     * @param left X position of the left side of the area.
+     * @param top Y position of the top of the area.
+     * @param right X position of the right side of the area.
+     * @param bottom Y position of the bottom of the area.
+     */
+    public void bounceInside(float left, float top, float right, float bottom) {
+        for(int i = 0; i < count; i++) {
+            float diameter = 2 * size[i] * Bubble.GAME_SIZE;
+            if(x[i] <= left) {
+                velocityX[i] = Math.abs(velocityX[i]);
+            } else if(x[i] + diameter >= right) {
+                velocityX[i] = -Math.abs(velocityX[i]);
+            }
+            if(y[i] + diameter >= bottom) {
+                velocityY[i] = -Math.abs(Bubble.BOUNCE_CONSTANT + 2 * size[i]);
+            } else if(y[i] <= top) {
+                velocityY[i] = Math.abs(velocityY[i]);
+            }
+        }
+    }
+
+    /**
+     * Marks all bubbles that intersect a rectangle as hit, like a rope does.
+     * @param left X position of the left side of the rectangle.
+     * @param top Y position of the top of the rectangle.
+     * @param right X position of the right side of the rectangle.
+     * @param bottom Y position of the bottom of the rectangle.
+     * @return the amount of bubbles that were hit.
+     */
+    public int hitArea(float left, float top, float right, float bottom) {
+        int hits = 0;
+        for(int i = 0; i < count; i++) {
+            float radius = size[i] * Bubble.GAME_SIZE;
+            float centerX = x[i] + radius;
+            float centerY = y[i] + radius;
+            float offsetX = centerX - Math.min(Math.max(centerX, left), right);
+            float offsetY = centerY - Math.min(Math.max(centerY, top), bottom);
+            if(!collided[i] && offsetX * offsetX + offsetY * offsetY < radius * radius) {
+                collided[i] = true;
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Moves all bubbles and splits the bubbles that have been hit.
+     */
+    public void update() {
+        move();
+        splitCollided();
+    }
+
+    /**
+     * Splits every bubble that has been hit into two smaller bubbles, like
+     * Bubble.split, and removes the bubble that has been hit.
+     * The new bubbles are added at the end, the order of the others is kept.
+     */
+    public void splitCollided() {
+        int existing = count;
+        for(int i = 0; i < existing; i++) {
+            if(collided[i]) {
+                split(i);
+            }
+        }
+        int kept = 0;
+        for(int i = 0; i < count; i++) {
+            if(!collided[i]) {
+                copy(i, kept++);
+            }
+        }
+        count = kept;
+    }
+
+    /**
+     * Shrinks a bubble and adds its two halves, the bubble itself is not removed.
+     * @param index Index of the bubble.
+     */
+    private void split(int index) {
+        size[index]--;
+        if(size[index] > 0) {
+            velocityY[index] = -Math.abs(accelerationY[index]) * Bubble.HIT_SPEED_FACTOR;
+            velocityX[index] = Math.abs(velocityX[index]);
+            add(size[index], x[index] - SPLIT_OFFSET, y[index],
+                    -velocityX[index], velocityY[index]);
+            add(size[index], x[index] + SPLIT_OFFSET, y[index],
+                    velocityX[index], velocityY[index]);
+        }
+    }
+
+    /**
+     * Copies the state of a bubble to another index.
+     * @param from Index to copy from.
+     * @param to Index to copy to.
+     */
+    private void copy(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        velocityX[to] = velocityX[from];
+        velocityY[to] = velocityY[from];
+        accelerationY[to] = accelerationY[from];
+        size[to] = size[from];
+        collided[to] = collided[from];
+    }
+
+    /**
+     * Doubles the capacity of the arrays.
+     */
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        accelerationY = Arrays.copyOf(accelerationY, capacity);
+        size = Arrays.copyOf(size, capacity);
+        collided = Arrays.copyOf(collided, capacity);
+    }
+
+    /**
+     * Draw all bubbles that have not been hit.
+     * @param graphics The graphics
+     */
+    @Override
+    public void draw(Graphics graphics) {
+        graphics.setColor(Color.black);
+        for(int i = 0; i < count; i++) {
+            if(!collided[i]) {
+                float diameter = 2 * size[i] * Bubble.GAME_SIZE;
+                graphics.fillOval(x[i], y[i], diameter, diameter);
+                graphics.drawOval(x[i], y[i], diameter, diameter);
+            }
+        }
+    }
+}
@@ -8,7 +8,7 @@ import org.newdawn.slick.Graphics;
 import org.newdawn.slick.geom.Rectangle;
 import org.newdawn.slick.geom.Shape;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -125,7 +125,7 @@ public class Floor extends Rectangle implements Drawable, Collidable, Movable {
      */
     @Override
     public Map<Class<? extends Collidable>, CollisionAction> getCollideActions() {
-        return new HashMap<Class<? extends Collidable>, CollisionAction>();
+        return Collections.emptyMap();
     }
 
     /**
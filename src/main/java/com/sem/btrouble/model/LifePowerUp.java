@@ -1,5 +1,6 @@
 package com.sem.btrouble.model;
 
+import com.sem.btrouble.tools.AssetCache;
 import org.newdawn.slick.Graphics;
 import org.newdawn.slick.Image;
 import org.newdawn.slick.SlickException;
@@ -10,6 +11,7 @@ import org.newdawn.slick.SlickException;
  *
  */
 public class LifePowerUp extends PlayerPowerUp implements Movable {
+    private static final String SPRITE = "Sprites/powerup_life.png";
     
     private static final long serialVersionUID = 1L;
     private Image lifePowerUpImage;
@@ -84,11 +86,20 @@ public class LifePowerUp extends PlayerPowerUp implements Movable {
     public void draw(Graphics graphics) {
         try {
             if (lifePowerUpImage == null) {
-                lifePowerUpImage = new Image("Sprites/powerup_life.png");
+                lifePowerUpImage = AssetCache.getInstance().get(SPRITE);
             }
             lifePowerUpImage.draw(getX(), getY(), 40, 100);
         } catch (SlickException e) {
             e.printStackTrace();
         }      
     }
+
+    /**
+     * Get the location of the sprite of the power up.
+     * @return the location of the sprite
+     */
+    @Override
+    protected String getSpritePath() {
+        return SPRITE;
+    }
 }
@@ -2,7 +2,10 @@ package com.sem.btrouble.model;
 
 import com.sem.btrouble.controller.Collidable;
 import com.sem.btrouble.controller.CollisionAction;
+import com.sem.btrouble.controller.CollisionActionTable;
 import com.sem.btrouble.controller.CollisionHandler;
+import com.sem.btrouble.game.Simulation;
+import com.sem.btrouble.tools.AssetCache;
 import org.newdawn.slick.Animation;
 import org.newdawn.slick.Graphics;
 import org.newdawn.slick.Image;
@@ -34,6 +37,7 @@ public class Player extends Rectangle implements Drawable, Collidable, Movable {
     private boolean leftBlocked;
     private boolean rightBlocked;
     private boolean alive;
+    private AliveListener aliveListener;
     private boolean falling;
     
     private Wallet wallet;
@@ -41,15 +45,17 @@ public class Player extends Rectangle implements Drawable, Collidable, Movable {
     // Gravity attributes
     private float velocityY;
     private float accelerationY = .3f;
+    private float previousY;
 
     private static final int PLAYER_SPEED = 3;
-    private static final int INITIAL_LIVES = 5;
+    public static final int INITIAL_LIVES = 5;
     private static final int INITIAL_SCORE = 0;
 
     private int currentRopesCounter;
     private int maxAmountRopes;
 
     private ArrayList<Rope> ropes;
+    private transient Map<Class<? extends Collidable>, CollisionAction> collisionActions;
 
     /**
      * Constructor for the Player class.
@@ -61,6 +67,7 @@ public class Player extends Rectangle implements Drawable, Collidable, Movable {
      */
     public Player(float xpos, float ypos) {
         super(xpos, ypos, 50f, 160f);
+        previousY = ypos;
         currentRopesCounter = 0;
         maxAmountRopes = 1;
         lives = INITIAL_LIVES;
@@ -231,7 +238,36 @@ public class Player extends Rectangle implements Drawable, Collidable, Movable {
      *            boolean
      */
     public void setAlive(boolean alive) {
+        if(this.alive == alive) {
+            return;
+        }
         this.alive = alive;
+        if(aliveListener != null) {
+            aliveListener.aliveChanged(this, alive);
+        }
+    }
+
+    /**
+     * Set the listener that is told when the player dies or comes alive again.
+     * A player has one listener, which is the level it plays in.
+     *
+     * @param listener
+     *            the listener, or null.
+     */
+    public void setAliveListener(AliveListener listener) {
+        this.aliveListener = listener;
+    }
+
+    /**
+     * Listens to the player dying or coming alive again.
+     */
+    public interface AliveListener {
+        /**
+         * Method called when the player dies or comes alive again.
+         * @param player the player.
+         * @param alive true if the player came alive, false if it died.
+         */
+        void aliveChanged(Player player, boolean alive);
     }
 
     /**
@@ -271,6 +307,14 @@ public class Player extends Rectangle implements Drawable, Collidable, Movable {
         }
     }
 
+    /**
+     * Set the amount of lives of the player, for example to play a recorded game again.
+     * @param lives the lives.
+     */
+    public void setLives(int lives) {
+        this.lives = lives;
+    }
+
     /**
      * Remove a life of the player.
      */
@@ -379,21 +423,33 @@ public class Player extends Rectangle implements Drawable, Collidable, Movable {
      */
     @Override
     public void draw(Graphics graphics) {
+        draw(graphics, 1);
+    }
+
+    /**
+     * Draws the player on the screen, between its height before and after the last move.
+     * The player walks every frame, so its horizontal position is not interpolated.
+     * @param graphics The graphics
+     * @param alpha How far the frame is between the last two ticks, see Simulation.
+     */
+    public void draw(Graphics graphics, float alpha) {
         if(isAlive()) {
             try {
                 if(playerIdle == null && walkSheet == null && walkAnimation == null) {
-                    playerIdle = new Image("Sprites/idle.png");
-                    walkSheet = new SpriteSheet("Sprites/player_spritesheet.png", 100, 175);
+                    playerIdle = AssetCache.getInstance().get("Sprites/idle.png");
+                    walkSheet = AssetCache.getInstance().getSpriteSheet(
+                            "Sprites/player_spritesheet.png", 100, 175);
                     walkAnimation = new Animation(walkSheet, 20);
                 }
                 //Render the sprite at an offset.
                 float playerX = x - ((walkSheet.getWidth()
                         / walkSheet.getHorizontalCount()) - getWidth()) / 2;
+                float playerY = Simulation.interpolate(previousY, y, alpha) - 15;
                 if(!idle) {
                     walkAnimation.getCurrentFrame().getFlippedCopy(facingLeft, false)
-                            .draw(playerX, y - 15);
+                            .draw(playerX, playerY);
                 } else {
-                    playerIdle.getFlippedCopy(facingLeft, false).draw(playerX, y - 15);
+                    playerIdle.getFlippedCopy(facingLeft, false).draw(playerX, playerY);
                 }
             } catch(SlickException e) {
                 // TODO Auto-generated catch block
@@ -407,6 +463,7 @@ public class Player extends Rectangle implements Drawable, Collidable, Movable {
      *
      */
     public void move() {
+        previousY = y;
         if (isFalling()) {
             fall();
         } else {
@@ -470,6 +527,7 @@ public class Player extends Rectangle implements Drawable, Collidable, Movable {
     public void moveTo(int xpos, int ypos) {
         setCenterX(xpos);
         setCenterY(ypos);
+        previousY = y;
         falling = true;
     }
 
@@ -490,6 +548,9 @@ public class Player extends Rectangle implements Drawable, Collidable, Movable {
      */
     @Override
     public Map<Class<? extends Collidable>, CollisionAction> getCollideActions() {
+        if(collisionActions != null) {
+            return collisionActions;
+        }
         Map<Class<? extends Collidable>, CollisionAction> collisionActionMap =
                 new HashMap<Class<? extends Collidable>, CollisionAction>();
 
@@ -502,7 +563,8 @@ public class Player extends Rectangle implements Drawable, Collidable, Movable {
         // Method called on Floor collision.
         collisionActionMap.put(Floor.class, new FloorCollision());
 
-        return collisionActionMap;
+        collisionActions = new CollisionActionTable(collisionActionMap);
+        return collisionActions;
     }
 
     /**
@@ -9,6 +9,7 @@ import org.newdawn.slick.geom.Shape;
 
 import com.sem.btrouble.controller.Collidable;
 import com.sem.btrouble.controller.CollisionAction;
+import com.sem.btrouble.controller.CollisionActionTable;
 /**
  * Superclass for all power ups.
  * @author Martin
@@ -18,6 +19,7 @@ import com.sem.btrouble.controller.CollisionAction;
 public abstract class PlayerPowerUp extends PowerUp implements Drawable, Movable {
 	
     private static final long serialVersionUID = 1L;
+    private transient Map<Class<? extends Collidable>, CollisionAction> collisionActions;
     
     /**
      * Construct power up bought in the store.
@@ -82,6 +84,9 @@ public abstract class PlayerPowerUp extends PowerUp implements Drawable, Movable
      */
     @Override
     public Map<Class<? extends Collidable>, CollisionAction> getCollideActions() {
+        if(collisionActions != null) {
+            return collisionActions;
+        }
         Map<Class<? extends Collidable>, CollisionAction> collisionActionMap =
                 new HashMap<Class<? extends Collidable>, CollisionAction>();
         
@@ -89,7 +94,8 @@ public abstract class PlayerPowerUp extends PowerUp implements Drawable, Movable
         
         collisionActionMap.put(Player.class, new PlayerCollision());
 
-        return collisionActionMap;
+        collisionActions = new CollisionActionTable(collisionActionMap);
+        return collisionActions;
     }
 
     /**
@@ -6,11 +6,14 @@ import java.util.Map;
 import javax.swing.Timer;
 
 import org.newdawn.slick.Graphics;
+import org.newdawn.slick.SlickException;
 import org.newdawn.slick.geom.Rectangle;
 import org.newdawn.slick.geom.Shape;
 
 import com.sem.btrouble.controller.Collidable;
 import com.sem.btrouble.controller.CollisionAction;
+import com.sem.btrouble.tools.AssetCache;
+import com.sem.btrouble.tools.SpriteBatch;
 
 /**
  * Superclass for all power ups.
@@ -18,7 +21,8 @@ import com.sem.btrouble.controller.CollisionAction;
  * @author Martin
  *
  */
-public abstract class PowerUp extends Rectangle implements Drawable, Movable, Collidable {
+public abstract class PowerUp extends Rectangle implements Drawable, SpriteDrawable, Movable,
+        Collidable {
 
     private static final long serialVersionUID = 1L;
 
@@ -109,6 +113,28 @@ public abstract class PowerUp extends Rectangle implements Drawable, Movable, Co
      */
     public abstract void draw(Graphics graphics);
 
+    /**
+     * Get the location of the sprite of the power up.
+     * 
+     * @return the location of the sprite
+     */
+    protected abstract String getSpritePath();
+
+    /**
+     * Add the power up to the batch. Power ups fall slowly, so they are drawn
+     * where they are after the last tick.
+     * 
+     * @param batch
+     *            the batch of the frame
+     * @param alpha
+     *            how far the frame is between the last two ticks
+     * @throws SlickException when the sprite can not be loaded.
+     */
+    @Override
+    public void draw(SpriteBatch batch, float alpha) throws SlickException {
+        batch.draw(AssetCache.getInstance().get(getSpritePath()), getX(), getY(), 40, 100);
+    }
+
     /**
      * Return if the power up is falling.
      * 
@@ -1,6 +1,8 @@
 package com.sem.btrouble.model;
 
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.List;
+
+import com.sem.btrouble.tools.GameRandom;
 
 /**
  * Class which generates a random power up.
@@ -11,12 +13,23 @@ public final class PowerUpFactory {
     
     public static final float POWERUP_PROBABILITY = .1f;
     
-    public static CopyOnWriteArrayList<Bubble> bubbleList;
+    public static List<Bubble> bubbleList;
     
-    public static void init(CopyOnWriteArrayList<Bubble> bubbleList2){
+    public static void init(List<Bubble> bubbleList2){
         bubbleList = bubbleList2;
     }
     
+    /**
+     * Generate a random power up.
+     * @param x x position
+     * @param y y position
+     * @param random the random number generator
+     * @return the power up
+     */
+    public static PowerUp generate(float x, float y, GameRandom random) {
+        return generate(x, y, random.nextDouble());
+    }
+
     /**
      * Generate a random power up.
      * @param x x position
@@ -1,10 +1,13 @@
 package com.sem.btrouble.model;
 
 import com.sem.btrouble.controller.Collidable;
+import com.sem.btrouble.tools.AssetCache;
+import com.sem.btrouble.tools.LayerCache;
 import org.newdawn.slick.Color;
 import org.newdawn.slick.Graphics;
 import org.newdawn.slick.Image;
 import org.newdawn.slick.SlickException;
+import org.newdawn.slick.geom.Rectangle;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -12,21 +15,28 @@ import java.util.List;
 
 /**
  * Room contains all objects within the room (except for the players), and draws
- * them on the screen.
+ * them on the screen. The background and the static floors are drawn once into an
+ * offscreen layer, which is drawn every frame with a single draw.
  *
  */
 @SuppressWarnings("serial")
 public class Room implements Drawable {
+    private static final float DEFAULT_WIDTH = 1280f;
+    private static final float DEFAULT_HEIGHT = 720f;
+
     private int spawnPositionX;
     private int spawnPositionY;
 
     private List<Wall> walls;
     private List<Floor> floors;
     private Image background;
+    private String backgroundPath;
 
     private List<Wall> moveableWalls;
     private List<Floor> moveableFloors;
 
+    private LayerCache staticLayer;
+
     /**
      * Initializes the room with empty objects.
      */
@@ -37,11 +47,7 @@ public class Room implements Drawable {
         moveableFloors = new ArrayList<>();
         spawnPositionX = 0;
         spawnPositionY = 0;
-        try {
-            setBackground(new Image("Sprites/background1280x720.png"));
-        } catch (RuntimeException | SlickException | UnsatisfiedLinkError e) {
-            System.out.println("Images ignored.");
-        }
+        backgroundPath = "Sprites/background1280x720.png";
     }
 
     /**
@@ -60,22 +66,46 @@ public class Room implements Drawable {
         this.moveableFloors = new ArrayList<>();
         this.spawnPositionX = spawnX;
         this.spawnPositionY = spawnY;
-        try {
-            setBackground(new Image("Sprites/"+background));
-        } catch (RuntimeException | SlickException | UnsatisfiedLinkError e) {
-            System.out.println("Images ignored.");
-        }
+        this.backgroundPath = backgroundPath(background);
+    }
+
+    /**
+     * Returns the location of a background image.
+     * @param background file name of the background, relative to the sprite folder.
+     * @return the location of the image.
+     */
+    public static String backgroundPath(String background) {
+        return "Sprites/" + background;
     }
 
     /**
      * Returns the background of the room.
+     * The image is only loaded when it is first needed, so rooms
+     * can be created without an OpenGL context.
      * 
-     * @return returns the background of the room.
+     * @return returns the background of the room, or null if it can not be loaded.
      */
     public Image getBackground() {
+        if(background == null && backgroundPath != null) {
+            try {
+                background = AssetCache.getInstance().get(backgroundPath);
+            } catch (RuntimeException | SlickException | LinkageError e) {
+                System.out.println("Images ignored.");
+            }
+            backgroundPath = null;
+        }
         return background;
     }
 
+    /**
+     * Returns the location of the background, if it has not been loaded yet.
+     *
+     * @return the location of the background, or null if it has been loaded or set.
+     */
+    public String getBackgroundPath() {
+        return backgroundPath;
+    }
+
     /**
      * Returns the walls in the room.
      * 
@@ -134,6 +164,45 @@ public class Room implements Drawable {
      */
     public void setBackground(Image background) {
         this.background = background;
+        this.backgroundPath = null;
+        invalidateStaticLayer();
+    }
+
+    /**
+     * Marks the static layer as changed, so it is drawn again on the next frame.
+     * Should be called when the static floors are changed.
+     */
+    public void invalidateStaticLayer() {
+        if(staticLayer != null) {
+            staticLayer.invalidate();
+        }
+    }
+
+    /**
+     * Returns the cache of the background and static floors.
+     *
+     * @return the static layer.
+     */
+    public LayerCache getStaticLayer() {
+        if(staticLayer == null) {
+            staticLayer = new LayerCache((int) DEFAULT_WIDTH, (int) DEFAULT_HEIGHT,
+                    new LayerCache.Painter() {
+                        @Override
+                        public void paint(Graphics graphics) {
+                            drawStatic(graphics);
+                        }
+                    });
+        }
+        return staticLayer;
+    }
+
+    /**
+     * Releases the static layer. Should be called when the room is no longer drawn.
+     */
+    public void dispose() {
+        if(staticLayer != null) {
+            staticLayer.destroy();
+        }
     }
 
     /**
@@ -176,6 +245,36 @@ public class Room implements Drawable {
         return allCollidables;
     }
 
+    /**
+     * Return the smallest rectangle containing all walls and floors,
+     * including the moveable ones. If the room has no borders, the
+     * default screen size of 1280x720 is returned.
+     *
+     * @return - bounds of the room
+     */
+    public Rectangle getBounds() {
+        List<Rectangle> borders = new ArrayList<>();
+        borders.addAll(walls);
+        borders.addAll(floors);
+        borders.addAll(moveableWalls);
+        borders.addAll(moveableFloors);
+        if (borders.isEmpty()) {
+            return new Rectangle(0, 0, DEFAULT_WIDTH, DEFAULT_HEIGHT);
+        }
+
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (Rectangle border : borders) {
+            minX = Math.min(minX, border.getX());
+            minY = Math.min(minY, border.getY());
+            maxX = Math.max(maxX, border.getX() + border.getWidth());
+            maxY = Math.max(maxY, border.getY() + border.getHeight());
+        }
+        return new Rectangle(minX, minY, maxX - minX, maxY - minY);
+    }
+
     /**
      * Return the x coordinate of the spawn position.
      * 
@@ -215,15 +314,26 @@ public class Room implements Drawable {
     }
 
     /**
-     * Draw the walls and floors.
+     * Draw the background and the static floors, from the static layer.
      *
      * @param graphics
      *            The graphics
      */
     @Override
     public void draw(Graphics graphics) {
-        if(background != null){
-            background.draw(0f, 0f);
+        getStaticLayer().draw(graphics);
+    }
+
+    /**
+     * Draw the background and the static floors.
+     *
+     * @param graphics
+     *            The graphics
+     */
+    private void drawStatic(Graphics graphics) {
+        Image image = getBackground();
+        if(image != null) {
+            image.draw(0f, 0f);
         }
         graphics.setColor(Color.blue);
         for (Floor f : floors) {
@@ -2,8 +2,14 @@ package com.sem.btrouble.model;
 
 import com.sem.btrouble.controller.Collidable;
 import com.sem.btrouble.controller.CollisionAction;
+import com.sem.btrouble.controller.CollisionActionTable;
 import com.sem.btrouble.controller.CollisionHandler;
 import com.sem.btrouble.controller.CollisionSide;
+import com.sem.btrouble.event.BubblePoppedEvent;
+import com.sem.btrouble.event.EventBus;
+import com.sem.btrouble.game.Simulation;
+import com.sem.btrouble.tools.AssetCache;
+import com.sem.btrouble.tools.SpriteBatch;
 import org.newdawn.slick.Graphics;
 import org.newdawn.slick.Image;
 import org.newdawn.slick.SlickException;
@@ -18,12 +24,16 @@ import java.util.Map;
  * @author Martin
  *
  */
-public class Rope extends Rectangle implements Drawable, Collidable, Movable {
+public class Rope extends Rectangle implements Drawable, SpriteDrawable, Collidable, Movable {
     private int speedY;
     private static final int INITIAL_ROPESPEED = 5;
+    private static final String SPRITE = "Sprites/rope.png";
     private Image sprite;
     private boolean collided;
+    private float previousY;
     private Player player;
+    private transient EventBus events;
+    private transient Map<Class<? extends Collidable>, CollisionAction> collisionActions;
 
     /**
      * Constructs a new rope at the given position.
@@ -38,6 +48,7 @@ public class Rope extends Rectangle implements Drawable, Collidable, Movable {
     public Rope(float xpos, float ypos) {
         super(xpos, ypos, 2f, 2f);
         this.speedY = INITIAL_ROPESPEED;
+        this.previousY = ypos;
         collided = false;
     }
 
@@ -53,6 +64,7 @@ public class Rope extends Rectangle implements Drawable, Collidable, Movable {
     public Rope(float xpos, float ypos, Player player) {
         super(xpos, ypos, 2f, 2f);
         this.speedY = INITIAL_ROPESPEED;
+        this.previousY = ypos;
         collided = false;
         this.player = player;
         player.increaseRopeCount();
@@ -127,6 +139,14 @@ public class Rope extends Rectangle implements Drawable, Collidable, Movable {
         }
     }
 
+    /**
+     * Sets the bus the events of this rope are posted to.
+     * @param events the event bus of the level of the rope.
+     */
+    public void setEventBus(EventBus events) {
+        this.events = events;
+    }
+
     /**
      * Draws the Rope on the screen.
      * @param graphics The graphics
@@ -135,7 +155,9 @@ public class Rope extends Rectangle implements Drawable, Collidable, Movable {
     public void draw(Graphics graphics) {
         if(!isCollided()) {
             try {
-                sprite = new Image("Sprites/rope.png");
+                if(sprite == null) {
+                    sprite = AssetCache.getInstance().get(SPRITE);
+                }
             } catch(SlickException e) {
                 e.printStackTrace();
             }
@@ -143,10 +165,29 @@ public class Rope extends Rectangle implements Drawable, Collidable, Movable {
         }
     }
 
+    /**
+     * Adds the Rope to the batch, between its top before and after the last move.
+     * @param batch The batch of the frame
+     * @param alpha How far the frame is between the last two ticks
+     * @throws SlickException when the sprite can not be loaded.
+     */
+    @Override
+    public void draw(SpriteBatch batch, float alpha) throws SlickException {
+        if(!isCollided()) {
+            if(sprite == null) {
+                sprite = AssetCache.getInstance().get(SPRITE);
+            }
+            batch.draw(sprite, x - sprite.getWidth() / 2,
+                    Simulation.interpolate(previousY, y, alpha),
+                    sprite.getWidth(), sprite.getHeight());
+        }
+    }
+
     /**
      * Calculates the next position of the Rope.
      */
     public void move() {
+        previousY = y;
         if (!isCollided()) {
             grow(0, (float) (1.5 * speedY));
             setCenterY(getCenterY() - 1.5f * speedY);
@@ -161,6 +202,9 @@ public class Rope extends Rectangle implements Drawable, Collidable, Movable {
      */
     @Override
     public Map<Class<? extends Collidable>, CollisionAction> getCollideActions() {
+        if(collisionActions != null) {
+            return collisionActions;
+        }
         Map<Class<? extends Collidable>, CollisionAction> collisionActionMap 
             = new HashMap<Class<? extends Collidable>, CollisionAction>();
 
@@ -190,10 +234,15 @@ public class Rope extends Rectangle implements Drawable, Collidable, Movable {
                 setCollided(true);
                 Bubble bubble = (Bubble) collider;
                 player.getWallet().increaseValue(bubble.getBubbleScore());
+                if(events != null) {
+                    events.post(BubblePoppedEvent.obtain(events, bubble.getSize(),
+                            bubble.getCenterX(), bubble.getCenterY(), player));
+                }
             }
         });
 
-        return collisionActionMap;
+        collisionActions = new CollisionActionTable(collisionActionMap);
+        return collisionActions;
     }
 
     /**
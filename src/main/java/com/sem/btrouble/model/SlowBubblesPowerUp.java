@@ -1,7 +1,8 @@
 package com.sem.btrouble.model;
 
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.List;
 
+import com.sem.btrouble.tools.AssetCache;
 import org.newdawn.slick.Graphics;
 import org.newdawn.slick.Image;
 import org.newdawn.slick.SlickException;
@@ -12,6 +13,7 @@ import org.newdawn.slick.SlickException;
  *
  */
 public class SlowBubblesPowerUp extends BubblePowerUp implements Movable {
+    private static final String SPRITE = "Sprites/powerup_slow.png";
     
     private static final long serialVersionUID = 1L;
     private Image lifePowerUpImage;
@@ -28,7 +30,7 @@ public class SlowBubblesPowerUp extends BubblePowerUp implements Movable {
 	 * @param xpos x position
 	 * @param ypos y position
 	 */
-    public SlowBubblesPowerUp(float xpos, float ypos, CopyOnWriteArrayList<Bubble> bubbleList) {
+    public SlowBubblesPowerUp(float xpos, float ypos, List<Bubble> bubbleList) {
         super(xpos, ypos, bubbleList);
     }
 
@@ -65,7 +67,7 @@ public class SlowBubblesPowerUp extends BubblePowerUp implements Movable {
     public void draw(Graphics graphics) {
         try {
             if (lifePowerUpImage == null) {
-                lifePowerUpImage = new Image("Sprites/powerup_slow.png");
+                lifePowerUpImage = AssetCache.getInstance().get(SPRITE);
             }
             lifePowerUpImage.draw(getX(), getY(), 40, 100);
         } catch (SlickException e) {
@@ -73,11 +75,19 @@ public class SlowBubblesPowerUp extends BubblePowerUp implements Movable {
         }      
     }
 
-    public void activate(final Player collider, CopyOnWriteArrayList<Bubble> bubbles){
+    public void activate(final Player collider, List<Bubble> bubbles){
         collider.getWallet().addPowerUp(this);
         for(Bubble bubble: bubbles){
             bubble.slowBubble();
         }
     }
 
+    /**
+     * Get the location of the sprite of the power up.
+     * @return the location of the sprite
+     */
+    @Override
+    protected String getSpritePath() {
+        return SPRITE;
+    }
 }
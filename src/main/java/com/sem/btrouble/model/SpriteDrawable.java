@@ -0,0 +1,18 @@
+package com.sem.btrouble.model;
+
+import com.sem.btrouble.tools.SpriteBatch;
+import org.newdawn.slick.SlickException;
+
+/**
+ * Objects that are drawn as a single sprite can be drawn in a batch.
+ */
+public interface SpriteDrawable {
+
+    /**
+     * Add the sprite of the object to the batch.
+     * @param batch The batch of the frame
+     * @param alpha How far the frame is between the last two ticks, see Simulation.
+     * @throws SlickException when the sprite can not be loaded.
+     */
+    void draw(SpriteBatch batch, float alpha) throws SlickException;
+}
@@ -2,6 +2,7 @@ package com.sem.btrouble.model;
 
 import com.sem.btrouble.controller.Collidable;
 import com.sem.btrouble.controller.CollisionAction;
+import com.sem.btrouble.controller.CollisionActionTable;
 import com.sem.btrouble.controller.CollisionHandler;
 import com.sem.btrouble.controller.CollisionSide;
 
@@ -16,6 +17,7 @@ import java.util.Map;
 public class StayRope extends Rope {
 
     private boolean moveFlag;
+    private transient Map<Class<? extends Collidable>, CollisionAction> collisionActions;
 
     /**
      * Constructs a new rope at the given position.
@@ -81,6 +83,9 @@ public class StayRope extends Rope {
      */
     @Override
     public Map<Class<? extends Collidable>, CollisionAction> getCollideActions() {
+        if(collisionActions != null) {
+            return collisionActions;
+        }
         Map<Class<? extends Collidable>, CollisionAction> collisionActionMap 
             = new HashMap<Class<? extends Collidable>, CollisionAction>();
 
@@ -112,6 +117,7 @@ public class StayRope extends Rope {
             }
         });
 
-        return collisionActionMap;
+        collisionActions = new CollisionActionTable(collisionActionMap);
+        return collisionActions;
     }
 }
@@ -5,6 +5,7 @@ import java.awt.event.ActionListener;
 
 import javax.swing.Timer;
 
+import com.sem.btrouble.tools.AssetCache;
 import org.newdawn.slick.Graphics;
 import org.newdawn.slick.Image;
 import org.newdawn.slick.SlickException;
@@ -13,6 +14,7 @@ import org.newdawn.slick.SlickException;
  * Powerup that makes the rope not disappear.
  */
 public class StayRopePowerUp extends PlayerPowerUp {
+    private static final String SPRITE = "Sprites/powerup_rope.png";
 
     private static final long serialVersionUID = 1L;
     private static final int expirationTime = 5000;
@@ -75,7 +77,7 @@ public class StayRopePowerUp extends PlayerPowerUp {
     public void draw(Graphics graphics) {
         try {
             if (lifePowerUpImage == null) {
-                lifePowerUpImage = new Image("Sprites/powerup_rope.png");
+                lifePowerUpImage = AssetCache.getInstance().get(SPRITE);
             }
             lifePowerUpImage.draw(getX(), getY(), 40, 100);
         } catch (SlickException e) {
@@ -105,4 +107,13 @@ public class StayRopePowerUp extends PlayerPowerUp {
         timer.start();
     }
     
+
+    /**
+     * Get the location of the sprite of the power up.
+     * @return the location of the sprite
+     */
+    @Override
+    protected String getSpritePath() {
+        return SPRITE;
+    }
 }
@@ -1,9 +1,5 @@
 package com.sem.btrouble.model;
 
-import com.sem.btrouble.event.BubbleEvent;
-import com.sem.btrouble.event.Event;
-import com.sem.btrouble.observering.Observer;
-
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,7 +9,7 @@ import java.util.List;
  * @author Martin
  *
  */
-public class Wallet implements Observer {
+public class Wallet {
 
     private int value;
     private List<PowerUp> powerUpList;
@@ -125,16 +121,4 @@ public class Wallet implements Observer {
         value -= less;
     }
 
-    /**
-     * Update the wallet.
-     * @param event The event which happened
-     */
-    @Override
-    public void update(Event event) {
-        if (event == BubbleEvent.COLLISION_ROPE) {
-            // int value = bubbleEvent.getSubject().getSize();
-            increaseValue(1000);
-        }
-    }
-
 }
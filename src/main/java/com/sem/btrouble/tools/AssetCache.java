@@ -0,0 +1,317 @@
+package com.sem.btrouble.tools;
+
+import org.newdawn.slick.Image;
+import org.newdawn.slick.SlickException;
+import org.newdawn.slick.SpriteSheet;
+import org.newdawn.slick.util.ResourceLoader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Cache of the images and sprite sheets, shared by all models and views.
+ * Images are keyed by their path and reference counted. The images in the
+ * manifest are loaded at startup, so the render loop only looks them up.
+ * Images that are not in the manifest are loaded on first use and kept.
+ * Sprites that are packed in a texture atlas are sub-images of the atlas page,
+ * so they share its texture. A page is kept as long as one of its sprites is.
+ * The cache should only be used on the GL thread.
+ */
+public class AssetCache {
+    public static final String DEFAULT_MANIFEST = "Sprites/manifest.txt";
+    public static final String DEFAULT_ATLAS = "Sprites/sprites.atlas";
+
+    private static AssetCache instance = null;
+
+    private final ImageLoader loader;
+    private final Map<String, Image> images;
+    private final Map<String, Integer> references;
+    private final Map<String, SpriteSheet> sheets;
+    private final Map<String, String> atlasPages;
+
+    /**
+     * Loads the image of a path. This is the only place where the cache decodes
+     * images and creates textures.
+     */
+    public interface ImageLoader {
+        /**
+         * Loads an image.
+         * @param path the location of the image.
+         * @return the loaded image.
+         * @throws SlickException when the image can not be loaded.
+         */
+        Image load(String path) throws SlickException;
+    }
+
+    /**
+     * Constructor for a cache that loads images with the given loader.
+     * @param loader the loader of the images.
+     */
+    public AssetCache(ImageLoader loader) {
+        this.loader = loader;
+        this.images = new HashMap<>();
+        this.references = new HashMap<>();
+        this.sheets = new HashMap<>();
+        this.atlasPages = new HashMap<>();
+    }
+
+    /**
+     * Returns the shared AssetCache instance, which loads images from the resources.
+     * @return AssetCache instance
+     */
+    public static AssetCache getInstance() {
+        if(instance == null) {
+            instance = new AssetCache(new ImageLoader() {
+                @Override
+                public Image load(String path) throws SlickException {
+                    return new Image(path);
+                }
+            });
+        }
+        return instance;
+    }
+
+    /**
+     * Loads all images in a manifest. The manifest has a path on every line,
+     * empty lines and lines starting with # are skipped.
+     * Every image is acquired once, so it stays loaded.
+     * @param manifest the location of the manifest.
+     * @return the amount of images that were loaded.
+     */
+    public int preload(String manifest) {
+        int loaded = 0;
+        try (InputStream input = ResourceLoader.getResourceAsStream(manifest);
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while((line = reader.readLine()) != null) {
+                String path = line.trim();
+                if(path.isEmpty() || path.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    acquire(path);
+                    loaded++;
+                } catch (SlickException | RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+        }
+        return loaded;
+    }
+
+    /**
+     * Loads the index of a texture atlas and adds its sprites, with a single reference.
+     * Nothing happens if the atlas does not exist, the sprites are then loaded
+     * from their own files.
+     * @param index the location of the index.
+     * @return the amount of sprites that were added.
+     */
+    public int loadAtlas(String index) {
+        TextureAtlas atlas = TextureAtlas.load(index);
+        if(atlas == null) {
+            return 0;
+        }
+        return addAtlas(atlas);
+    }
+
+    /**
+     * Adds the sprites of a texture atlas, with a single reference. The pages are
+     * loaded and every sprite is a sub-image of its page.
+     * Sprites that are already cached are skipped.
+     * @param atlas the atlas.
+     * @return the amount of sprites that were added.
+     */
+    public int addAtlas(TextureAtlas atlas) {
+        int added = 0;
+        for(TextureAtlas.Region region : atlas.getRegions()) {
+            String path = region.getPath();
+            if(images.containsKey(path)) {
+                continue;
+            }
+            try {
+                Image page = acquire(region.getPage());
+                images.put(path, page.getSubImage(region.getX(), region.getY(),
+                        region.getWidth(), region.getHeight()));
+                references.put(path, 1);
+                atlasPages.put(path, region.getPage());
+                added++;
+            } catch (SlickException | RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Gets an image and adds a reference to it. Every acquire
+     * should be matched by a release when the image is no longer needed.
+     * @param path the location of the image.
+     * @return the image.
+     * @throws SlickException when the image can not be loaded.
+     */
+    public Image acquire(String path) throws SlickException {
+        Image image = images.get(path);
+        if(image == null) {
+            image = loader.load(path);
+            images.put(path, image);
+            references.put(path, 1);
+        } else {
+            references.put(path, references.get(path) + 1);
+        }
+        return image;
+    }
+
+    /**
+     * Adds an image that was loaded elsewhere, with a single reference.
+     * Nothing happens if the path is already cached.
+     * @param path the location of the image.
+     * @param image the loaded image.
+     */
+    public void put(String path, Image image) {
+        if(!images.containsKey(path)) {
+            images.put(path, image);
+            references.put(path, 1);
+        }
+    }
+
+    /**
+     * Gets an image without adding a reference. An image that is not in the
+     * cache yet is acquired once, so it is only loaded once.
+     * @param path the location of the image.
+     * @return the image.
+     * @throws SlickException when the image can not be loaded.
+     */
+    public Image get(String path) throws SlickException {
+        Image image = images.get(path);
+        if(image == null) {
+            image = acquire(path);
+        }
+        return image;
+    }
+
+    /**
+     * Gets a sprite sheet of a cached image. The sheet shares the texture of the image.
+     * @param path the location of the image.
+     * @param tileWidth the width of a sprite.
+     * @param tileHeight the height of a sprite.
+     * @return the sprite sheet.
+     * @throws SlickException when the image can not be loaded.
+     */
+    public SpriteSheet getSpriteSheet(String path, int tileWidth, int tileHeight)
+            throws SlickException {
+        String key = path + "#" + tileWidth + "x" + tileHeight;
+        SpriteSheet sheet = sheets.get(key);
+        if(sheet == null) {
+            sheet = new SpriteSheet(get(path), tileWidth, tileHeight);
+            sheets.put(key, sheet);
+        }
+        return sheet;
+    }
+
+    /**
+     * Removes a reference to an image. The image is destroyed when
+     * the last reference is removed. For a sprite of an atlas
+     * the reference to its page is removed instead.
+     * @param path the location of the image.
+     */
+    public void release(String path) {
+        Integer count = references.get(path);
+        if(count == null) {
+            return;
+        }
+        if(count > 1) {
+            references.put(path, count - 1);
+            return;
+        }
+        references.remove(path);
+        Image image = images.remove(path);
+        String page = atlasPages.remove(path);
+        if(page == null) {
+            destroy(path, image);
+        } else {
+            removeSheets(path);
+            release(page);
+        }
+    }
+
+    /**
+     * Get the amount of references to an image.
+     * @param path the location of the image.
+     * @return the amount of references, 0 if the image is not cached.
+     */
+    public int getReferenceCount(String path) {
+        Integer count = references.get(path);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Checks if an image is in the cache.
+     * @param path the location of the image.
+     * @return true if the image is cached.
+     */
+    public boolean contains(String path) {
+        return images.containsKey(path);
+    }
+
+    /**
+     * Checks if an image is a sprite of a texture atlas.
+     * @param path the location of the image.
+     * @return true if the image is a sub-image of an atlas page.
+     */
+    public boolean isInAtlas(String path) {
+        return atlasPages.containsKey(path);
+    }
+
+    /**
+     * Destroys all images, regardless of their references.
+     */
+    public void clear() {
+        Iterator<Map.Entry<String, Image>> iterator = images.entrySet().iterator();
+        while(iterator.hasNext()) {
+            Map.Entry<String, Image> entry = iterator.next();
+            iterator.remove();
+            if(!atlasPages.containsKey(entry.getKey())) {
+                destroy(entry.getKey(), entry.getValue());
+            }
+        }
+        atlasPages.clear();
+        references.clear();
+        sheets.clear();
+    }
+
+    /**
+     * Destroys an image and the sprite sheets using it.
+     * @param path the location of the image.
+     * @param image the image.
+     */
+    private void destroy(String path, Image image) {
+        removeSheets(path);
+        try {
+            image.destroy();
+        } catch (SlickException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Removes the sprite sheets of an image.
+     * @param path the location of the image.
+     */
+    private void removeSheets(String path) {
+        Iterator<String> keys = sheets.keySet().iterator();
+        while(keys.hasNext()) {
+            if(keys.next().startsWith(path + "#")) {
+                keys.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.sem.btrouble.tools;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Packs the small sprites into one or a few texture atlases, so they share a texture
+ * and are loaded from a single file. The sprites are placed on shelves, highest first,
+ * and every sprite gets a border of its own edge pixels, so filtering does not pick
+ * up the neighbouring sprites.
+ * Usage: AtlasPacker &lt;resource directory&gt; &lt;sprite list&gt; &lt;output directory&gt;
+ * &lt;index&gt;
+ * The sprite list and the index are paths relative to the resource and output directory.
+ */
+public final class AtlasPacker {
+    public static final int MAX_SIZE = 4096;
+    public static final int PADDING = 1;
+
+    /**
+     * Utility class, should not be instantiated.
+     */
+    private AtlasPacker() {
+    }
+
+    /**
+     * Packs the sprites of the list given as second argument.
+     * @param args the resource directory, sprite list, output directory and index.
+     * @throws IOException when the sprites can't be read or the atlas can't be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length != 4) {
+            System.err.println("Usage: AtlasPacker <resource directory> <sprite list> "
+                    + "<output directory> <index>");
+            System.exit(1);
+        }
+        TextureAtlas atlas = pack(new File(args[0]), args[1], new File(args[2]), args[3]);
+        System.out.println("Packed " + atlas.getRegions().size() + " sprites on "
+                + atlas.getPages().size() + " pages to " + args[3]);
+    }
+
+    /**
+     * Packs the sprites of a list and writes the pages and the index.
+     * The pages are written next to the index, numbered from 0.
+     * @param resources the directory of the sprites and the list.
+     * @param list path of the sprite list, with a sprite path on every line.
+     * @param output the directory the atlas is written to.
+     * @param index path of the index.
+     * @return the atlas.
+     * @throws IOException when a sprite can't be read or the atlas can't be written.
+     */
+    public static TextureAtlas pack(File resources, String list, File output, String index)
+            throws IOException {
+        Map<String, BufferedImage> sprites = new LinkedHashMap<>();
+        for(String line : Files.readAllLines(new File(resources, list).toPath(),
+                StandardCharsets.UTF_8)) {
+            String path = line.trim();
+            if(path.isEmpty() || path.startsWith("#")) {
+                continue;
+            }
+            BufferedImage sprite = ImageIO.read(new File(resources, path));
+            if(sprite == null) {
+                throw new IOException("Can not read sprite " + path);
+            }
+            sprites.put(path, sprite);
+        }
+
+        String prefix = index.contains(".") ? index.substring(0, index.lastIndexOf('.')) : index;
+        TextureAtlas atlas = layout(prefix, sprites, MAX_SIZE);
+        for(String page : atlas.getPages()) {
+            File file = new File(output, page);
+            file.getParentFile().mkdirs();
+            ImageIO.write(render(atlas, page, sprites), "png", file);
+        }
+        File indexFile = new File(output, index);
+        indexFile.getParentFile().mkdirs();
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(indexFile),
+                StandardCharsets.UTF_8)) {
+            atlas.write(writer);
+        }
+        return atlas;
+    }
+
+    /**
+     * Places the sprites on pages. Sprites are placed from the highest to the lowest,
+     * on the first shelf they fit on. A new page is started when a page is full.
+     * @param prefix the path of the pages, without number and extension.
+     * @param sprites the sprites by path.
+     * @param maxSize the maximum width and height of a page.
+     * @return the atlas.
+     */
+    public static TextureAtlas layout(String prefix, Map<String, BufferedImage> sprites,
+                                      int maxSize) {
+        List<String> paths = new ArrayList<>(sprites.keySet());
+        Collections.sort(paths, new Comparator<String>() {
+            @Override
+            public int compare(String first, String second) {
+                return Integer.compare(sprites.get(second).getHeight(),
+                        sprites.get(first).getHeight());
+            }
+        });
+
+        List<String> pages = new ArrayList<>();
+        List<TextureAtlas.Region> regions = new ArrayList<>();
+        List<int[]> shelves = new ArrayList<>();
+        int bottom = maxSize;
+        for(String path : paths) {
+            BufferedImage sprite = sprites.get(path);
+            int width = sprite.getWidth() + 2 * PADDING;
+            int height = sprite.getHeight() + 2 * PADDING;
+            if(width > maxSize || height > maxSize) {
+                throw new IllegalArgumentException("Sprite " + path + " does not fit on a page");
+            }
+
+            int[] shelf = null;
+            for(int[] candidate : shelves) {
+                if(candidate[1] >= height && candidate[2] + width <= maxSize) {
+                    shelf = candidate;
+                    break;
+                }
+            }
+            if(shelf == null) {
+                if(bottom + height > maxSize) {
+                    pages.add(prefix + "-" + pages.size() + ".png");
+                    shelves.clear();
+                    bottom = 0;
+                }
+                shelf = new int[] {bottom, height, 0};
+                shelves.add(shelf);
+                bottom += height;
+            }
+            regions.add(new TextureAtlas.Region(path, pages.get(pages.size() - 1),
+                    shelf[2] + PADDING, shelf[0] + PADDING, sprite.getWidth(), sprite.getHeight()));
+            shelf[2] += width;
+        }
+        return new TextureAtlas(pages, regions);
+    }
+
+    /**
+     * Draws the sprites of a page. The size of the page is rounded up to a power of two.
+     * @param atlas the atlas.
+     * @param page the path of the page.
+     * @param sprites the sprites by path.
+     * @return the image of the page.
+     */
+    public static BufferedImage render(TextureAtlas atlas, String page,
+                                       Map<String, BufferedImage> sprites) {
+        int width = 1;
+        int height = 1;
+        for(TextureAtlas.Region region : atlas.getRegions()) {
+            if(region.getPage().equals(page)) {
+                width = Math.max(width, region.getX() + region.getWidth() + PADDING);
+                height = Math.max(height, region.getY() + region.getHeight() + PADDING);
+            }
+        }
+        BufferedImage image = new BufferedImage(powerOfTwo(width), powerOfTwo(height),
+                BufferedImage.TYPE_INT_ARGB);
+        for(TextureAtlas.Region region : atlas.getRegions()) {
+            if(region.getPage().equals(page)) {
+                BufferedImage sprite = sprites.get(region.getPath());
+                for(int y = -PADDING; y < region.getHeight() + PADDING; y++) {
+                    int sourceY = Math.min(Math.max(y, 0), region.getHeight() - 1);
+                    for(int x = -PADDING; x < region.getWidth() + PADDING; x++) {
+                        int sourceX = Math.min(Math.max(x, 0), region.getWidth() - 1);
+                        image.setRGB(region.getX() + x, region.getY() + y,
+                                sprite.getRGB(sourceX, sourceY));
+                    }
+                }
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Rounds up to a power of two.
+     * @param value a positive number.
+     * @return the smallest power of two that is not less than the value.
+     */
+    private static int powerOfTwo(int value) {
+        int result = 1;
+        while(result < value) {
+            result *= 2;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,197 @@
+package com.sem.btrouble.tools;
+
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Floor;
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.model.Wall;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Variant of the DataLoader that reads the binary files of the LevelCompiler.
+ * The file is memory mapped on first use. A level is found through the index
+ * table and its fixed-width records are read straight into the room, without
+ * any parsing. Like the DataLoader, an unknown index loads the first level.
+ */
+public class BinaryDataLoader {
+    private Path file;
+    private ByteBuffer data;
+
+    /**
+     * Constructor for the BinaryDataLoader class.
+     * @param file This is the binary file that has to be imported.
+     */
+    public BinaryDataLoader(String file) {
+        this.file = Paths.get(file);
+    }
+
+    /**
+     * Maps the file in memory, if that has not been done yet.
+     * @return the contents of the file.
+     * @throws IOException when the file can't be read or is not a binary level file.
+     */
+    private ByteBuffer map() throws IOException {
+        if(data == null) {
+            ByteBuffer mapped;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if(mapped.limit() < BinaryLevelFormat.HEADER_SIZE
+                    || mapped.getInt(0) != BinaryLevelFormat.MAGIC) {
+                throw new IOException(file + " is not a binary level file");
+            }
+            if(mapped.getInt(4) != BinaryLevelFormat.VERSION) {
+                throw new IOException("Unsupported level file version " + mapped.getInt(4));
+            }
+            data = mapped;
+        }
+        return data;
+    }
+
+    /**
+     * Get the amount of levels in the file.
+     * @return the amount of levels, or 0 if the file can not be read.
+     */
+    public int getLevelCount() {
+        try {
+            return map().getInt(8);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * This function checks if a certain level exists in the file.
+     * @param currentLevel level to check.
+     * @return true if it exists, if not false.
+     */
+    public boolean hasRoom(int currentLevel) {
+        return currentLevel >= 0 && currentLevel < getLevelCount();
+    }
+
+    /**
+     * Get the offset of the records of a level, just after its background.
+     * @param buffer the contents of the file.
+     * @param level the start of the level.
+     * @return the offset of the first record.
+     */
+    private static int recordsOffset(ByteBuffer buffer, int level) {
+        return level + BinaryLevelFormat.LEVEL_HEADER_SIZE
+                + buffer.getShort(level + BinaryLevelFormat.LEVEL_HEADER_SIZE - 2);
+    }
+
+    /**
+     * Get the offset of a level, falling back to the first level.
+     * @param buffer the contents of the file.
+     * @param index the index of the level.
+     * @return the offset of the level.
+     */
+    private int levelOffset(ByteBuffer buffer, int index) {
+        if(!hasRoom(index)) {
+            index = 0;
+        }
+        return buffer.getInt(BinaryLevelFormat.HEADER_SIZE
+                + index * BinaryLevelFormat.INDEX_ENTRY_SIZE);
+    }
+
+    /**
+     * Reads the room of a level from the file.
+     * @param index The index'th room to be loaded.
+     * @return the room that has been read, or an empty room if the file can't be read.
+     */
+    public Room loadRoom(int index) {
+        Room room = new Room();
+        try {
+            ByteBuffer buffer = map();
+            if(getLevelCount() == 0) {
+                return room;
+            }
+            int level = levelOffset(buffer, index);
+            int wallCount = buffer.getInt(level + 8);
+            int floorCount = buffer.getInt(level + 12);
+            int movableWallCount = buffer.getInt(level + 16);
+            int movableFloorCount = buffer.getInt(level + 20);
+
+            byte[] background = new byte[buffer.getShort(level + 28)];
+            ByteBuffer name = buffer.duplicate();
+            name.position(level + BinaryLevelFormat.LEVEL_HEADER_SIZE);
+            name.get(background);
+
+            int offset = recordsOffset(buffer, level);
+            ArrayList<Wall> walls = new ArrayList<>(wallCount);
+            for(int i = 0; i < wallCount; i++) {
+                walls.add(new Wall(buffer.getFloat(offset), buffer.getFloat(offset + 4),
+                        buffer.getFloat(offset + 8), buffer.getFloat(offset + 12)));
+                offset += BinaryLevelFormat.BORDER_SIZE;
+            }
+            ArrayList<Floor> floors = new ArrayList<>(floorCount);
+            for(int i = 0; i < floorCount; i++) {
+                floors.add(new Floor(buffer.getFloat(offset), buffer.getFloat(offset + 4),
+                        buffer.getFloat(offset + 8), buffer.getFloat(offset + 12)));
+                offset += BinaryLevelFormat.BORDER_SIZE;
+            }
+            ArrayList<Wall> movableWalls = new ArrayList<>(movableWallCount);
+            for(int i = 0; i < movableWallCount; i++) {
+                movableWalls.add(new Wall(buffer.getFloat(offset), buffer.getFloat(offset + 4),
+                        buffer.getFloat(offset + 8), buffer.getFloat(offset + 12),
+                        buffer.getFloat(offset + 16),
+                        BinaryLevelFormat.direction(buffer.getInt(offset + 20))));
+                offset += BinaryLevelFormat.MOVABLE_BORDER_SIZE;
+            }
+            ArrayList<Floor> movableFloors = new ArrayList<>(movableFloorCount);
+            for(int i = 0; i < movableFloorCount; i++) {
+                movableFloors.add(new Floor(buffer.getFloat(offset), buffer.getFloat(offset + 4),
+                        buffer.getFloat(offset + 8), buffer.getFloat(offset + 12),
+                        buffer.getFloat(offset + 16),
+                        BinaryLevelFormat.direction(buffer.getInt(offset + 20))));
+                offset += BinaryLevelFormat.MOVABLE_BORDER_SIZE;
+            }
+
+            room = new Room(walls, floors, buffer.getInt(level), buffer.getInt(level + 4),
+                    new String(background, StandardCharsets.UTF_8));
+            room.addMovableFloors(movableFloors);
+            room.addMovableWalls(movableWalls);
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+        }
+        return room;
+    }
+
+    /**
+     * Reads the bubbles of a level from the file.
+     * @param index Index of the level.
+     * @return A list containing bubbles, which is empty if the file can't be read.
+     */
+    public List<Bubble> loadBubbles(int index) {
+        List<Bubble> bubbles = new ArrayList<>();
+        try {
+            ByteBuffer buffer = map();
+            if(getLevelCount() == 0) {
+                return bubbles;
+            }
+            int level = levelOffset(buffer, index);
+            int offset = recordsOffset(buffer, level)
+                    + (buffer.getInt(level + 8) + buffer.getInt(level + 12))
+                    * BinaryLevelFormat.BORDER_SIZE
+                    + (buffer.getInt(level + 16) + buffer.getInt(level + 20))
+                    * BinaryLevelFormat.MOVABLE_BORDER_SIZE;
+            int bubbleCount = buffer.getInt(level + 24);
+            for(int i = 0; i < bubbleCount; i++) {
+                bubbles.add(new Bubble(buffer.getInt(offset), buffer.getFloat(offset + 4),
+                        buffer.getFloat(offset + 8)));
+                offset += BinaryLevelFormat.BUBBLE_SIZE;
+            }
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+        }
+        return bubbles;
+    }
+}
@@ -0,0 +1,78 @@
+package com.sem.btrouble.tools;
+
+import com.sem.btrouble.observering.Direction;
+
+/**
+ * Layout of the binary level files written by the LevelCompiler and read by
+ * the BinaryDataLoader. All values are big endian.
+ * <pre>
+ * header       magic (int), version (int), level count (int)
+ * index        offset of every level from the start of the file (int)
+ * level        spawn x, spawn y (int), wall, floor, movable wall, movable floor
+ *              and bubble counts (int), background length (short), background (UTF-8)
+ *              followed by the records of the level in the order of the counts
+ * border       x, y, width, height (float)
+ * movable      x, y, width, height, speed (float), direction (int)
+ * bubble       size (int), x, y (float)
+ * </pre>
+ */
+final class BinaryLevelFormat {
+
+    static final int MAGIC = 0x42544C56;
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 12;
+    static final int INDEX_ENTRY_SIZE = 4;
+    static final int LEVEL_HEADER_SIZE = 30;
+
+    static final int BORDER_SIZE = 16;
+    static final int MOVABLE_BORDER_SIZE = 24;
+    static final int BUBBLE_SIZE = 12;
+
+    /**
+     * Utility class, should not be instantiated.
+     */
+    private BinaryLevelFormat() {
+    }
+
+    /**
+     * Get the code of a direction in the file. The codes do not depend
+     * on the order of the Direction enum.
+     * @param direction the direction.
+     * @return the code of the direction.
+     */
+    static int directionCode(Direction direction) {
+        switch(direction) {
+            case UP:
+                return 1;
+            case DOWN:
+                return 2;
+            case LEFT:
+                return 3;
+            case RIGHT:
+                return 4;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Get the direction of a code in the file.
+     * @param code the code of the direction.
+     * @return the direction, NONE for an unknown code.
+     */
+    static Direction direction(int code) {
+        switch(code) {
+            case 1:
+                return Direction.UP;
+            case 2:
+                return Direction.DOWN;
+            case 3:
+                return Direction.LEFT;
+            case 4:
+                return Direction.RIGHT;
+            default:
+                return Direction.NONE;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.sem.btrouble.tools;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Random number generator of a level. The numbers are a xorshift64* sequence of
+ * the seed, so the same seed gives the same numbers on every run and machine.
+ * A generator can be split into a new one with its own sequence, so every part of
+ * the game can draw numbers without changing what the other parts get.
+ * A generator is not thread safe; every thread should use its own split.
+ */
+public final class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long MULTIPLIER = 0x2545F4914F6CDD1DL;
+    private static final double DOUBLE_UNIT = 1.0 / (1L << 53);
+    private static final float FLOAT_UNIT = 1.0f / (1 << 24);
+    private static final AtomicLong SEEDS = new AtomicLong(System.nanoTime());
+
+    private final long seed;
+    private long state;
+
+    /**
+     * Constructor for a generator with a seed that differs every time.
+     */
+    public GameRandom() {
+        this(randomSeed());
+    }
+
+    /**
+     * Constructor for a generator with a seed.
+     * @param seed the seed of the sequence.
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.state = mix(seed);
+        if(state == 0) {
+            state = GOLDEN_GAMMA;
+        }
+    }
+
+    /**
+     * Creates a seed that differs every time it is called.
+     * @return the seed.
+     */
+    public static long randomSeed() {
+        return mix(SEEDS.addAndGet(GOLDEN_GAMMA) ^ System.nanoTime());
+    }
+
+    /**
+     * Get the seed the generator was created with.
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Draws the next 64 random bits.
+     * @return the random bits.
+     */
+    public long nextLong() {
+        long x = state;
+        x ^= x >>> 12;
+        x ^= x << 25;
+        x ^= x >>> 27;
+        state = x;
+        return x * MULTIPLIER;
+    }
+
+    /**
+     * Draws a random number between 0 (inclusive) and a bound (exclusive).
+     * @param bound the bound, which should be positive.
+     * @return the random number.
+     */
+    public int nextInt(int bound) {
+        if(bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        return (int) (((nextLong() >>> 33) * bound) >>> 31);
+    }
+
+    /**
+     * Draws a random number between 0 (inclusive) and 1 (exclusive).
+     * @return the random number.
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Draws a random number between 0 (inclusive) and 1 (exclusive).
+     * @return the random number.
+     */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * FLOAT_UNIT;
+    }
+
+    /**
+     * Creates a new generator, seeded by the next number of this one.
+     * @return the new generator.
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong());
+    }
+
+    /**
+     * Scrambles the bits of a seed, so seeds that are close give unrelated sequences.
+     * @param z the seed.
+     * @return the scrambled seed.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,133 @@
+package com.sem.btrouble.tools;
+
+import org.newdawn.slick.Graphics;
+import org.newdawn.slick.Image;
+import org.newdawn.slick.SlickException;
+
+/**
+ * Caches a layer that does not change every frame in an offscreen image.
+ * The layer is painted once into the image and after that drawn with a single
+ * draw per frame, until it is invalidated. If offscreen images are not supported,
+ * the layer is painted directly every frame.
+ * The cache should only be used on the GL thread.
+ */
+public class LayerCache {
+
+    private final int width;
+    private final int height;
+    private final Painter painter;
+
+    private Image layer;
+    private boolean valid;
+    private boolean unsupported;
+    private int paints;
+
+    /**
+     * Paints the contents of the layer.
+     */
+    public interface Painter {
+        /**
+         * Paints the layer.
+         * @param graphics the graphics to paint on.
+         */
+        void paint(Graphics graphics);
+    }
+
+    /**
+     * Constructor for a layer cache.
+     * @param width width of the layer.
+     * @param height height of the layer.
+     * @param painter the painter of the layer.
+     */
+    public LayerCache(int width, int height, Painter painter) {
+        this.width = width;
+        this.height = height;
+        this.painter = painter;
+    }
+
+    /**
+     * Draws the layer, painting it into the offscreen image first if it is not valid.
+     * @param graphics the graphics of the screen.
+     */
+    public void draw(Graphics graphics) {
+        if(!valid && !unsupported) {
+            render();
+        }
+        if(valid) {
+            layer.draw(0f, 0f);
+        } else {
+            paints++;
+            painter.paint(graphics);
+        }
+    }
+
+    /**
+     * Paints the layer into the offscreen image, which is created the first time.
+     */
+    private void render() {
+        try {
+            if(layer == null) {
+                layer = createImage(width, height);
+            }
+            Graphics offscreen = layer.getGraphics();
+            offscreen.clear();
+            paints++;
+            painter.paint(offscreen);
+            offscreen.flush();
+            valid = true;
+        } catch (SlickException | RuntimeException | LinkageError e) {
+            System.out.println("Offscreen layer not supported, drawing it every frame.");
+            unsupported = true;
+            destroy();
+        }
+    }
+
+    /**
+     * Creates the offscreen image.
+     * @param imageWidth width of the image.
+     * @param imageHeight height of the image.
+     * @return the image.
+     * @throws SlickException when the image can not be created.
+     */
+    protected Image createImage(int imageWidth, int imageHeight) throws SlickException {
+        return new Image(imageWidth, imageHeight);
+    }
+
+    /**
+     * Marks the layer as changed, so it is painted again on the next draw.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Checks if the layer is drawn from the offscreen image.
+     * @return true if the offscreen image is up to date.
+     */
+    public boolean isCached() {
+        return valid;
+    }
+
+    /**
+     * Get the amount of times the layer has been painted.
+     * @return the amount of paints.
+     */
+    public int getPaints() {
+        return paints;
+    }
+
+    /**
+     * Destroys the offscreen image. The layer is painted again on the next draw.
+     */
+    public void destroy() {
+        valid = false;
+        if(layer != null) {
+            try {
+                layer.destroy();
+            } catch (SlickException e) {
+                e.printStackTrace();
+            }
+            layer = null;
+        }
+    }
+}
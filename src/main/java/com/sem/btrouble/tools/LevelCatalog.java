@@ -0,0 +1,92 @@
+package com.sem.btrouble.tools;
+
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Room;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * In-memory catalog of all levels in a data file.
+ * The file is only parsed once. Rooms and bubbles are created from the
+ * immutable level descriptors, so switching levels does not touch the disk.
+ * Like the DataLoader, an unknown index falls back to the first level.
+ */
+public final class LevelCatalog {
+
+    private final List<LevelDescriptor> levels;
+
+    /**
+     * Constructor for a catalog of already parsed levels.
+     * @param levels the levels of the catalog.
+     */
+    public LevelCatalog(List<LevelDescriptor> levels) {
+        this.levels = Collections.unmodifiableList(new ArrayList<>(levels));
+    }
+
+    /**
+     * Parses all levels of a data file in a single streaming pass.
+     * If the file can not be read, the catalog is empty.
+     * @param file location of the data file.
+     * @return the catalog of the file.
+     */
+    public static LevelCatalog load(String file) {
+        return new LevelCatalog(new LevelStreamParser(file).readLevels(0, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Get the amount of levels.
+     * @return the amount of levels.
+     */
+    public int size() {
+        return levels.size();
+    }
+
+    /**
+     * Checks if a level exists in the catalog.
+     * @param index index of the level.
+     * @return true if it exists, if not false.
+     */
+    public boolean hasLevel(int index) {
+        return index >= 0 && index < levels.size();
+    }
+
+    /**
+     * Get the descriptor of a level.
+     * @param index index of the level, an unknown index returns the first level.
+     * @return the descriptor, or null if the catalog is empty.
+     */
+    public LevelDescriptor getLevel(int index) {
+        if(levels.isEmpty()) {
+            return null;
+        }
+        return levels.get(hasLevel(index) ? index : 0);
+    }
+
+    /**
+     * Creates a new room for a level.
+     * @param index index of the level, an unknown index returns the first level.
+     * @return a new room, or an empty room if the catalog is empty.
+     */
+    public Room createRoom(int index) {
+        LevelDescriptor level = getLevel(index);
+        if(level == null) {
+            return new Room();
+        }
+        return level.createRoom();
+    }
+
+    /**
+     * Creates new bubbles for a level.
+     * @param index index of the level, an unknown index returns the first level.
+     * @return a new list of bubbles, which is empty if the catalog is empty.
+     */
+    public List<Bubble> createBubbles(int index) {
+        LevelDescriptor level = getLevel(index);
+        if(level == null) {
+            return new ArrayList<>();
+        }
+        return level.createBubbles();
+    }
+}
@@ -0,0 +1,154 @@
+package com.sem.btrouble.tools;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Compiles the XML level data of the DataLoader into the binary level format
+ * of the BinaryDataLoader.
+ * Usage: LevelCompiler &lt;data.xml&gt; &lt;output file&gt;
+ */
+public final class LevelCompiler {
+
+    /**
+     * Utility class, should not be instantiated.
+     */
+    private LevelCompiler() {
+    }
+
+    /**
+     * Compiles the XML file given as first argument into the binary file
+     * given as second argument.
+     * @param args the source and target file.
+     * @throws IOException when the files can't be read or written, or the XML file is
+     *             malformed, so the build that runs the compiler fails.
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length != 2) {
+            System.err.println("Usage: LevelCompiler <data.xml> <output file>");
+            System.exit(1);
+        }
+        int levels = compile(args[0], args[1]);
+        System.out.println("Compiled " + levels + " levels to " + args[1]);
+    }
+
+    /**
+     * Compiles an XML level file into a binary level file.
+     * @param source location of the XML file.
+     * @param target location of the binary file.
+     * @return the amount of compiled levels.
+     * @throws IOException when the XML file is malformed or has no levels, or the
+     *             binary file can't be written.
+     */
+    public static int compile(String source, String target) throws IOException {
+        List<LevelDescriptor> levels = new LevelStreamParser(source).readAllLevelsStrict();
+        if(levels.isEmpty()) {
+            throw new IOException("No levels found in " + source);
+        }
+        try (OutputStream output = new FileOutputStream(target)) {
+            output.write(compile(levels));
+        }
+        return levels.size();
+    }
+
+    /**
+     * Compiles levels into the binary level format.
+     * @param levels the levels to be compiled.
+     * @return the contents of the binary file.
+     */
+    public static byte[] compile(List<LevelDescriptor> levels) {
+        byte[][] backgrounds = new byte[levels.size()][];
+        int size = BinaryLevelFormat.HEADER_SIZE
+                + levels.size() * BinaryLevelFormat.INDEX_ENTRY_SIZE;
+        for(int i = 0; i < levels.size(); i++) {
+            backgrounds[i] = levels.get(i).getBackground().getBytes(StandardCharsets.UTF_8);
+            size += levelSize(levels.get(i), backgrounds[i]);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(BinaryLevelFormat.MAGIC);
+        buffer.putInt(BinaryLevelFormat.VERSION);
+        buffer.putInt(levels.size());
+
+        int offset = BinaryLevelFormat.HEADER_SIZE
+                + levels.size() * BinaryLevelFormat.INDEX_ENTRY_SIZE;
+        for(int i = 0; i < levels.size(); i++) {
+            buffer.putInt(offset);
+            offset += levelSize(levels.get(i), backgrounds[i]);
+        }
+        for(int i = 0; i < levels.size(); i++) {
+            writeLevel(buffer, levels.get(i), backgrounds[i]);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Computes the amount of bytes of a level.
+     * @param level the level.
+     * @param background the encoded background of the level.
+     * @return the size of the level in bytes.
+     */
+    private static int levelSize(LevelDescriptor level, byte[] background) {
+        return BinaryLevelFormat.LEVEL_HEADER_SIZE + background.length
+                + (level.getWalls().size() + level.getFloors().size())
+                * BinaryLevelFormat.BORDER_SIZE
+                + (level.getMovableWalls().size() + level.getMovableFloors().size())
+                * BinaryLevelFormat.MOVABLE_BORDER_SIZE
+                + level.getBubbles().size() * BinaryLevelFormat.BUBBLE_SIZE;
+    }
+
+    /**
+     * Writes a level with all its records.
+     * @param buffer the buffer to write to.
+     * @param level the level.
+     * @param background the encoded background of the level.
+     */
+    private static void writeLevel(ByteBuffer buffer, LevelDescriptor level, byte[] background) {
+        if(background.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Background name is too long");
+        }
+        buffer.putInt(level.getSpawnX());
+        buffer.putInt(level.getSpawnY());
+        buffer.putInt(level.getWalls().size());
+        buffer.putInt(level.getFloors().size());
+        buffer.putInt(level.getMovableWalls().size());
+        buffer.putInt(level.getMovableFloors().size());
+        buffer.putInt(level.getBubbles().size());
+        buffer.putShort((short) background.length);
+        buffer.put(background);
+
+        writeBorders(buffer, level.getWalls(), false);
+        writeBorders(buffer, level.getFloors(), false);
+        writeBorders(buffer, level.getMovableWalls(), true);
+        writeBorders(buffer, level.getMovableFloors(), true);
+        for(LevelDescriptor.BubbleSpawn bubble : level.getBubbles()) {
+            buffer.putInt(bubble.getSize());
+            buffer.putFloat(bubble.getX());
+            buffer.putFloat(bubble.getY());
+        }
+    }
+
+    /**
+     * Writes the records of walls or floors.
+     * @param buffer the buffer to write to.
+     * @param borders the borders.
+     * @param movable true if the speed and direction should be written.
+     */
+    private static void writeBorders(ByteBuffer buffer, List<LevelDescriptor.Border> borders,
+            boolean movable) {
+        for(LevelDescriptor.Border border : borders) {
+            buffer.putFloat(border.getX());
+            buffer.putFloat(border.getY());
+            buffer.putFloat(border.getWidth());
+            buffer.putFloat(border.getHeight());
+            if(movable) {
+                buffer.putFloat(border.getSpeed());
+                buffer.putInt(BinaryLevelFormat.directionCode(border.getDirection()));
+            }
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.sem.btrouble.tools;
+
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Floor;
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.model.Wall;
+import com.sem.btrouble.observering.Direction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable description of a single level from the data file.
+ * A descriptor only holds the parsed values, so every call to createRoom
+ * or createBubbles returns new model objects that can be changed freely.
+ */
+public final class LevelDescriptor {
+
+    private final int spawnX;
+    private final int spawnY;
+    private final String background;
+    private final List<Border> walls;
+    private final List<Border> floors;
+    private final List<Border> movableWalls;
+    private final List<Border> movableFloors;
+    private final List<BubbleSpawn> bubbles;
+
+    /**
+     * Constructor for a level descriptor.
+     * The lists are copied, so later changes to them do not affect the descriptor.
+     * @param spawnX spawn position on x-axis.
+     * @param spawnY spawn position on y-axis.
+     * @param background file name of the background, relative to the sprite folder.
+     * @param walls static walls of the level.
+     * @param floors static floors of the level.
+     * @param movableWalls moving walls of the level.
+     * @param movableFloors moving floors of the level.
+     * @param bubbles bubbles at the start of the level.
+     */
+    public LevelDescriptor(int spawnX, int spawnY, String background, List<Border> walls,
+            List<Border> floors, List<Border> movableWalls, List<Border> movableFloors,
+            List<BubbleSpawn> bubbles) {
+        this.spawnX = spawnX;
+        this.spawnY = spawnY;
+        this.background = background;
+        this.walls = Collections.unmodifiableList(new ArrayList<>(walls));
+        this.floors = Collections.unmodifiableList(new ArrayList<>(floors));
+        this.movableWalls = Collections.unmodifiableList(new ArrayList<>(movableWalls));
+        this.movableFloors = Collections.unmodifiableList(new ArrayList<>(movableFloors));
+        this.bubbles = Collections.unmodifiableList(new ArrayList<>(bubbles));
+    }
+
+    /**
+     * Get the spawn position on the x-axis.
+     * @return the spawn position on the x-axis.
+     */
+    public int getSpawnX() {
+        return spawnX;
+    }
+
+    /**
+     * Get the spawn position on the y-axis.
+     * @return the spawn position on the y-axis.
+     */
+    public int getSpawnY() {
+        return spawnY;
+    }
+
+    /**
+     * Get the file name of the background.
+     * @return the file name of the background.
+     */
+    public String getBackground() {
+        return background;
+    }
+
+    /**
+     * Get the static walls.
+     * @return unmodifiable list of walls.
+     */
+    public List<Border> getWalls() {
+        return walls;
+    }
+
+    /**
+     * Get the static floors.
+     * @return unmodifiable list of floors.
+     */
+    public List<Border> getFloors() {
+        return floors;
+    }
+
+    /**
+     * Get the moving walls.
+     * @return unmodifiable list of moving walls.
+     */
+    public List<Border> getMovableWalls() {
+        return movableWalls;
+    }
+
+    /**
+     * Get the moving floors.
+     * @return unmodifiable list of moving floors.
+     */
+    public List<Border> getMovableFloors() {
+        return movableFloors;
+    }
+
+    /**
+     * Get the bubbles at the start of the level.
+     * @return unmodifiable list of bubbles.
+     */
+    public List<BubbleSpawn> getBubbles() {
+        return bubbles;
+    }
+
+    /**
+     * Creates a new room for this level.
+     * @return a new room.
+     */
+    public Room createRoom() {
+        ArrayList<Wall> roomWalls = new ArrayList<>(walls.size());
+        for(Border wall : walls) {
+            roomWalls.add(wall.createWall());
+        }
+        ArrayList<Floor> roomFloors = new ArrayList<>(floors.size());
+        for(Border floor : floors) {
+            roomFloors.add(floor.createFloor());
+        }
+        ArrayList<Wall> roomMovableWalls = new ArrayList<>(movableWalls.size());
+        for(Border wall : movableWalls) {
+            roomMovableWalls.add(wall.createWall());
+        }
+        ArrayList<Floor> roomMovableFloors = new ArrayList<>(movableFloors.size());
+        for(Border floor : movableFloors) {
+            roomMovableFloors.add(floor.createFloor());
+        }
+
+        Room room = new Room(roomWalls, roomFloors, spawnX, spawnY, background);
+        room.addMovableFloors(roomMovableFloors);
+        room.addMovableWalls(roomMovableWalls);
+        return room;
+    }
+
+    /**
+     * Creates new bubbles for this level.
+     * @return a new list of bubbles.
+     */
+    public List<Bubble> createBubbles() {
+        List<Bubble> res = new ArrayList<>(bubbles.size());
+        for(BubbleSpawn bubble : bubbles) {
+            res.add(bubble.createBubble());
+        }
+        return res;
+    }
+
+    /**
+     * Immutable description of a wall or floor.
+     */
+    public static final class Border {
+        private final float x;
+        private final float y;
+        private final float width;
+        private final float height;
+        private final float speed;
+        private final Direction direction;
+
+        /**
+         * Constructor for a static border.
+         * @param x x position of the border.
+         * @param y y position of the border.
+         * @param width width of the border.
+         * @param height height of the border.
+         */
+        public Border(float x, float y, float width, float height) {
+            this(x, y, width, height, 0, null);
+        }
+
+        /**
+         * Constructor for a moving border.
+         * @param x x position of the border.
+         * @param y y position of the border.
+         * @param width width of the border.
+         * @param height height of the border.
+         * @param speed speed of the border.
+         * @param direction direction of the border, or null for a static border.
+         */
+        public Border(float x, float y, float width, float height, float speed,
+                Direction direction) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.speed = speed;
+            this.direction = direction;
+        }
+
+        /**
+         * Get the x position.
+         * @return the x position.
+         */
+        public float getX() {
+            return x;
+        }
+
+        /**
+         * Get the y position.
+         * @return the y position.
+         */
+        public float getY() {
+            return y;
+        }
+
+        /**
+         * Get the width.
+         * @return the width.
+         */
+        public float getWidth() {
+            return width;
+        }
+
+        /**
+         * Get the height.
+         * @return the height.
+         */
+        public float getHeight() {
+            return height;
+        }
+
+        /**
+         * Get the speed.
+         * @return the speed.
+         */
+        public float getSpeed() {
+            return speed;
+        }
+
+        /**
+         * Get the direction.
+         * @return the direction, or null for a static border.
+         */
+        public Direction getDirection() {
+            return direction;
+        }
+
+        /**
+         * Checks if the border moves.
+         * @return true if the border has a direction.
+         */
+        public boolean isMovable() {
+            return direction != null;
+        }
+
+        /**
+         * Creates a new wall from this description.
+         * @return a new wall.
+         */
+        public Wall createWall() {
+            if(isMovable()) {
+                return new Wall(x, y, width, height, speed, direction);
+            }
+            return new Wall(x, y, width, height);
+        }
+
+        /**
+         * Creates a new floor from this description.
+         * @return a new floor.
+         */
+        public Floor createFloor() {
+            if(isMovable()) {
+                return new Floor(x, y, width, height, speed, direction);
+            }
+            return new Floor(x, y, width, height);
+        }
+    }
+
+    /**
+     * Immutable description of a bubble at the start of a level.
+     */
+    public static final class BubbleSpawn {
+        private final int size;
+        private final float x;
+        private final float y;
+
+        /**
+         * Constructor for a bubble description.
+         * @param size size of the bubble.
+         * @param x x position of the center of the bubble.
+         * @param y y position of the center of the bubble.
+         */
+        public BubbleSpawn(int size, float x, float y) {
+            this.size = size;
+            this.x = x;
+            this.y = y;
+        }
+
+        /**
+         * Get the size.
+         * @return the size.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Get the x position of the center.
+         * @return the x position.
+         */
+        public float getX() {
+            return x;
+        }
+
+        /**
+         * Get the y position of the center.
+         * @return the y position.
+         */
+        public float getY() {
+            return y;
+        }
+
+        /**
+         * Creates a new bubble from this description.
+         * @return a new bubble.
+         */
+        public Bubble createBubble() {
+            return new Bubble(size, x, y);
+        }
+    }
+}
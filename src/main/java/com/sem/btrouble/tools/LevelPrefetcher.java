@@ -0,0 +1,217 @@
+package com.sem.btrouble.tools;
+
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Room;
+import org.newdawn.slick.Image;
+import org.newdawn.slick.opengl.ImageData;
+import org.newdawn.slick.opengl.ImageDataFactory;
+import org.newdawn.slick.opengl.LoadableImageData;
+import org.newdawn.slick.util.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Prepares the next level on a background thread, for example while the shop is shown.
+ * The room and bubbles are created from the catalog and the background image is
+ * decoded, which does not need an OpenGL context. Only the upload of the decoded
+ * image to a texture is left for the GL thread, when the level is taken.
+ * Backgrounds that are already in the asset cache are not decoded or uploaded again.
+ */
+public class LevelPrefetcher {
+
+    private final LevelCatalog catalog;
+    private final AssetCache assets;
+    private final ExecutorService executor;
+
+    private int pendingIndex;
+    private Future<PreparedLevel> pending;
+
+    /**
+     * Constructor for a prefetcher of the levels of a catalog,
+     * which puts the backgrounds in the shared asset cache.
+     * @param catalog the catalog of the levels.
+     */
+    public LevelPrefetcher(LevelCatalog catalog) {
+        this(catalog, AssetCache.getInstance());
+    }
+
+    /**
+     * Constructor for a prefetcher of the levels of a catalog.
+     * @param catalog the catalog of the levels.
+     * @param assets the cache in which the backgrounds are put.
+     */
+    public LevelPrefetcher(LevelCatalog catalog, AssetCache assets) {
+        this.catalog = catalog;
+        this.assets = assets;
+        this.executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "level-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Starts preparing a level in the background. This should be called on the
+     * GL thread, since it checks the asset cache for the background.
+     * A level that was prefetched before, but not taken, is dropped.
+     * @param index the index of the level.
+     */
+    public synchronized void prefetch(final int index) {
+        if(pending != null) {
+            if(pendingIndex == index) {
+                return;
+            }
+            pending.cancel(false);
+        }
+        LevelDescriptor level = catalog.getLevel(index);
+        final boolean decodeBackground = level != null
+                && !assets.contains(Room.backgroundPath(level.getBackground()));
+        pendingIndex = index;
+        pending = executor.submit(new Callable<PreparedLevel>() {
+            @Override
+            public PreparedLevel call() {
+                return prepare(index, decodeBackground);
+            }
+        });
+    }
+
+    /**
+     * Prepares a level. This is run on the background thread.
+     * @param index the index of the level.
+     * @param decodeBackground false if the background is already in the asset cache.
+     * @return the prepared level.
+     */
+    private PreparedLevel prepare(int index, boolean decodeBackground) {
+        Room room = catalog.createRoom(index);
+        List<Bubble> bubbles = catalog.createBubbles(index);
+        ImageData background = decodeBackground ? decode(room.getBackgroundPath()) : null;
+        return new PreparedLevel(room, bubbles, background);
+    }
+
+    /**
+     * Decodes an image without creating a texture.
+     * @param path the location of the image.
+     * @return the decoded image, or null if it can not be decoded.
+     */
+    static ImageData decode(String path) {
+        if(path == null) {
+            return null;
+        }
+        try (InputStream input = ResourceLoader.getResourceAsStream(path)) {
+            LoadableImageData data = ImageDataFactory.getImageDataFor(path);
+            data.loadImage(input, false, null);
+            return data;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if a level has been prefetched and is ready to be taken without waiting.
+     * @param index the index of the level.
+     * @return true if the level is ready.
+     */
+    public synchronized boolean isReady(int index) {
+        return pending != null && pendingIndex == index && pending.isDone();
+    }
+
+    /**
+     * Takes a prefetched level. This should be called on the GL thread, since the
+     * background texture is created here and put in the asset cache. If the texture
+     * can not be created the room loads its background itself when it is first drawn.
+     * Waits if the level is still being prepared.
+     * @param index the index of the level.
+     * @return the prepared level, or null if the level was not prefetched.
+     */
+    public synchronized PreparedLevel take(int index) {
+        if(pending == null || pendingIndex != index) {
+            return null;
+        }
+        Future<PreparedLevel> future = pending;
+        pending = null;
+
+        PreparedLevel level;
+        try {
+            level = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+            return null;
+        }
+        String path = level.getRoom().getBackgroundPath();
+        if(level.getBackgroundData() != null && !assets.contains(path)) {
+            try {
+                assets.put(path, new Image(level.getBackgroundData()));
+            } catch (RuntimeException | LinkageError e) {
+                System.out.println("Images ignored.");
+            }
+        }
+        return level;
+    }
+
+    /**
+     * Stops the background thread. Levels that are still being prepared are dropped.
+     */
+    public synchronized void shutdown() {
+        pending = null;
+        executor.shutdownNow();
+    }
+
+    /**
+     * A level that has been prepared in the background.
+     */
+    public static final class PreparedLevel {
+        private final Room room;
+        private final List<Bubble> bubbles;
+        private final ImageData backgroundData;
+
+        /**
+         * Constructor for a prepared level.
+         * @param room the room of the level.
+         * @param bubbles the bubbles of the level.
+         * @param backgroundData the decoded background, or null.
+         */
+        PreparedLevel(Room room, List<Bubble> bubbles, ImageData backgroundData) {
+            this.room = room;
+            this.bubbles = bubbles;
+            this.backgroundData = backgroundData;
+        }
+
+        /**
+         * Get the room of the level.
+         * @return the room.
+         */
+        public Room getRoom() {
+            return room;
+        }
+
+        /**
+         * Get the bubbles of the level.
+         * @return the bubbles.
+         */
+        public List<Bubble> getBubbles() {
+            return bubbles;
+        }
+
+        /**
+         * Get the decoded background.
+         * @return the decoded background, or null if it could not be decoded.
+         */
+        public ImageData getBackgroundData() {
+            return backgroundData;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.sem.btrouble.tools;
+
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.observering.Direction;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser for level files, for level packs that are too large for the DataLoader.
+ * The file is read in a single pass with a StAX reader. Levels before the
+ * requested ones are skipped without being parsed, and reading stops after
+ * the last requested level, so only the requested levels are kept in memory.
+ * The levels are the same as the ones of the DataLoader.
+ */
+public class LevelStreamParser {
+
+    private static final String LEVEL = "Level";
+
+    private File file;
+    private XMLInputFactory factory;
+
+    /**
+     * Constructor for the LevelStreamParser class.
+     * @param file This is the file that has to be imported.
+     */
+    public LevelStreamParser(String file) {
+        this.file = new File(file);
+        factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * Parses the room of a level.
+     * @param index The index'th room to be loaded, an unknown index loads the first room.
+     * @return the room that has been parsed, or an empty room if there are no levels.
+     */
+    public Room loadRoom(int index) {
+        LevelDescriptor level = readLevelOrFirst(index);
+        if(level == null) {
+            return new Room();
+        }
+        return level.createRoom();
+    }
+
+    /**
+     * Parses the bubbles of a level.
+     * @param index Index of the level, an unknown index loads the first level.
+     * @return A list containing bubbles, which is empty if there are no levels.
+     */
+    public List<Bubble> loadBubbles(int index) {
+        LevelDescriptor level = readLevelOrFirst(index);
+        if(level == null) {
+            return new ArrayList<>();
+        }
+        return level.createBubbles();
+    }
+
+    /**
+     * Reads a single level, and stops reading the file after it.
+     * @param index Index of the level.
+     * @return the level, or null if it does not exist.
+     */
+    public LevelDescriptor readLevel(int index) {
+        List<LevelDescriptor> levels = readLevels(index, 1);
+        if(levels.isEmpty()) {
+            return null;
+        }
+        return levels.get(0);
+    }
+
+    /**
+     * Reads a level, or the first level if it does not exist.
+     * @param index Index of the level.
+     * @return the level, or null if there are no levels.
+     */
+    private LevelDescriptor readLevelOrFirst(int index) {
+        LevelDescriptor level = readLevel(index);
+        if(level == null && index != 0) {
+            level = readLevel(0);
+        }
+        return level;
+    }
+
+    /**
+     * Reads a range of levels. Levels before the range are skipped and
+     * reading stops after the last level of the range.
+     * If the file can not be read, the levels read before the error are returned.
+     * @param first Index of the first level to be read.
+     * @param count Maximum amount of levels to be read.
+     * @return the levels that were found.
+     */
+    public List<LevelDescriptor> readLevels(int first, int count) {
+        List<LevelDescriptor> levels = new ArrayList<>();
+        try {
+            readLevels(first, count, levels);
+        } catch (IOException | XMLStreamException e) {
+            e.printStackTrace();
+        }
+        return levels;
+    }
+
+    /**
+     * Reads all levels, and fails instead of returning the levels read before an error.
+     * @return the levels in the file.
+     * @throws IOException when the file can not be read or is not a valid level file.
+     */
+    public List<LevelDescriptor> readAllLevelsStrict() throws IOException {
+        List<LevelDescriptor> levels = new ArrayList<>();
+        try {
+            readLevels(0, Integer.MAX_VALUE, levels);
+        } catch (XMLStreamException | NumberFormatException e) {
+            throw new IOException("Malformed level file " + file + " after "
+                    + levels.size() + " levels", e);
+        }
+        return levels;
+    }
+
+    /**
+     * Reads a range of levels into a list.
+     * @param first Index of the first level to be read.
+     * @param count Maximum amount of levels to be read.
+     * @param levels the list the levels are added to.
+     * @throws IOException when the file can not be read.
+     * @throws XMLStreamException when the file can't be parsed.
+     */
+    private void readLevels(int first, int count, List<LevelDescriptor> levels)
+            throws IOException, XMLStreamException {
+        if(first < 0 || count <= 0) {
+            return;
+        }
+        try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = factory.createXMLStreamReader(input);
+            try {
+                int index = 0;
+                while(levels.size() < count && nextLevel(reader)) {
+                    if(index >= first) {
+                        levels.add(parseLevel(reader));
+                    } else {
+                        skipElement(reader);
+                    }
+                    index++;
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Counts the levels in the file without parsing them.
+     * @return the amount of levels, or 0 if the file can not be read.
+     */
+    public int countLevels() {
+        int count = 0;
+        try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = factory.createXMLStreamReader(input);
+            try {
+                while(nextLevel(reader)) {
+                    skipElement(reader);
+                    count++;
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            count = 0;
+        }
+        return count;
+    }
+
+    /**
+     * Moves the reader to the start of the next level.
+     * @param reader the reader of the file.
+     * @return true if a level was found, false at the end of the file.
+     * @throws XMLStreamException when the file can't be parsed.
+     */
+    private static boolean nextLevel(XMLStreamReader reader) throws XMLStreamException {
+        while(reader.hasNext()) {
+            if(reader.next() == XMLStreamConstants.START_ELEMENT
+                    && LEVEL.equals(reader.getLocalName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves the reader to the end of the current element.
+     * @param reader the reader, positioned at the start of an element.
+     * @throws XMLStreamException when the file can't be parsed.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while(depth > 0) {
+            int event = reader.next();
+            if(event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if(event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Parses all objects of the current level in a single pass.
+     * @param reader the reader, positioned at the start of a level.
+     * @return the parsed level.
+     * @throws XMLStreamException when the file can't be parsed.
+     */
+    private static LevelDescriptor parseLevel(XMLStreamReader reader) throws XMLStreamException {
+        int spawnX = Integer.parseInt(reader.getAttributeValue(null, "spawnX"));
+        int spawnY = Integer.parseInt(reader.getAttributeValue(null, "spawnY"));
+        String background = reader.getAttributeValue(null, "background");
+
+        List<LevelDescriptor.Border> walls = new ArrayList<>();
+        List<LevelDescriptor.Border> floors = new ArrayList<>();
+        List<LevelDescriptor.Border> movableWalls = new ArrayList<>();
+        List<LevelDescriptor.Border> movableFloors = new ArrayList<>();
+        List<LevelDescriptor.BubbleSpawn> bubbles = new ArrayList<>();
+
+        int depth = 1;
+        while(depth > 0) {
+            int event = reader.next();
+            if(event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if(event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                switch(reader.getLocalName()) {
+                    case "Wall":
+                        walls.add(parseBorder(reader, false));
+                        break;
+                    case "Floor":
+                        floors.add(parseBorder(reader, false));
+                        break;
+                    case "MovableWall":
+                        movableWalls.add(parseBorder(reader, true));
+                        break;
+                    case "MovableFloor":
+                        movableFloors.add(parseBorder(reader, true));
+                        break;
+                    case "Bubble":
+                        bubbles.add(parseBubble(reader));
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return new LevelDescriptor(spawnX, spawnY, background, walls, floors,
+                movableWalls, movableFloors, bubbles);
+    }
+
+    /**
+     * Parses the attributes of a wall or floor.
+     * @param reader the reader, positioned at the start of the border.
+     * @param movable true if the border has a speed and direction.
+     * @return the parsed border.
+     */
+    private static LevelDescriptor.Border parseBorder(XMLStreamReader reader, boolean movable) {
+        float x = parseFloat(reader, "x");
+        float y = parseFloat(reader, "y");
+        float width = parseFloat(reader, "width");
+        float height = parseFloat(reader, "height");
+        if(!movable) {
+            return new LevelDescriptor.Border(x, y, width, height);
+        }
+        float speed = parseFloat(reader, "speed");
+        Direction direction = Direction.stringToDirection(
+                reader.getAttributeValue(null, "direction"));
+        return new LevelDescriptor.Border(x, y, width, height, speed, direction);
+    }
+
+    /**
+     * Parses the attributes of a bubble.
+     * @param reader the reader, positioned at the start of the bubble.
+     * @return the parsed bubble.
+     */
+    private static LevelDescriptor.BubbleSpawn parseBubble(XMLStreamReader reader) {
+        int size = Integer.parseInt(reader.getAttributeValue(null, "size"));
+        return new LevelDescriptor.BubbleSpawn(size, parseFloat(reader, "x"),
+                parseFloat(reader, "y"));
+    }
+
+    /**
+     * Parses a float attribute of the current element.
+     * @param reader the reader, positioned at the start of an element.
+     * @param name the name of the attribute.
+     * @return the value of the attribute.
+     */
+    private static float parseFloat(XMLStreamReader reader, String name) {
+        return Float.parseFloat(reader.getAttributeValue(null, name));
+    }
+}
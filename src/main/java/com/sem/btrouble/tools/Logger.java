@@ -4,27 +4,53 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
+import com.sem.btrouble.event.BubblePoppedEvent;
 import com.sem.btrouble.event.Event;
-import com.sem.btrouble.observering.Observer;
+import com.sem.btrouble.event.EventListener;
+import com.sem.btrouble.event.PooledEvent;
 
 /**
  * Class which represents the logger.
- *
+ * Logging does not block the calling thread: a log line is put in a ring buffer of
+ * pre-allocated records, which is drained by a background writer thread. The writer
+ * formats and writes the records in batches and flushes once per batch.
+ * Events are formatted by the writer thread as well. A record keeps a reference to
+ * an event that does not change, like an enum constant. Pooled events are reused
+ * after dispatch, so their payload is copied into the record instead.
+ * When the buffer is full new records are dropped and counted, and the amount of
+ * dropped records is written to the log. Everything in the buffer is written and
+ * flushed when the logger is closed, or when the JVM shuts down.
  */
-public class Logger implements Observer {
+public class Logger implements EventListener<Event> {
 
-    private FileWriter fw;
-    private BufferedWriter bw;
-    private boolean doConsoleLog;
     public static final String DEFAULT_LOGGER_PATH = "log.txt";
+    public static final int DEFAULT_CAPACITY = 1024;
+    private static final int BATCH_SIZE = 64;
+    private static final long IDLE_NANOS = 1000000L;
+
+    private final Record[] records;
+    private final int mask;
+    private final AtomicLong claimed;
+    private final AtomicLong consumed;
+    private final AtomicLong dropped;
+    private long reportedDropped;
+
+    private final Writer writer;
+    private final boolean doConsoleLog;
+    private final Thread thread;
+    private final Thread shutdownHook;
+    private volatile boolean running;
 
     /**
      * Initializes the logger, opening the file to which the log data is
      * written. This method should be called before any other Logger method is
      * called.
-     * 
+     *
      * @param fileName
      *            should be a string representing the file name
      * @param doConsoleLog
@@ -32,6 +58,64 @@ public class Logger implements Observer {
      *            the console.
      */
     public Logger(String fileName, boolean doConsoleLog) {
+        this(open(fileName), doConsoleLog, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Initializes the logger with the writer to which the log data is written.
+     *
+     * @param writer
+     *            the writer of the log, or null if nothing should be written
+     * @param doConsoleLog
+     *            should be a boolean representing whether to write log lines to
+     *            the console.
+     * @param capacity
+     *            the amount of records that can wait to be written, rounded up
+     *            to a power of two.
+     */
+    public Logger(Writer writer, boolean doConsoleLog, int capacity) {
+        int size = 1;
+        while(size < capacity) {
+            size *= 2;
+        }
+        this.records = new Record[size];
+        for(int i = 0; i < size; i++) {
+            records[i] = new Record();
+        }
+        this.mask = size - 1;
+        this.claimed = new AtomicLong();
+        this.consumed = new AtomicLong();
+        this.dropped = new AtomicLong();
+        this.writer = writer;
+        this.doConsoleLog = doConsoleLog;
+        this.running = true;
+
+        this.thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                drainUntilClosed();
+            }
+        }, "logger");
+        thread.setDaemon(true);
+        thread.start();
+
+        this.shutdownHook = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                stop();
+            }
+        }, "logger-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Opens the log file.
+     *
+     * @param fileName
+     *            should be a string representing the file name
+     * @return the writer of the file, or null if it can not be opened.
+     */
+    private static Writer open(String fileName) {
         try {
             File file = new File(fileName);
 
@@ -39,44 +123,249 @@ public class Logger implements Observer {
                 file.createNewFile();
             }
 
-            fw = new FileWriter(file.getAbsoluteFile());
-            bw = new BufferedWriter(fw);
-            this.doConsoleLog = doConsoleLog;
+            return new BufferedWriter(new FileWriter(file.getAbsoluteFile()));
         } catch (IOException e) {
             e.printStackTrace();
+            return null;
         }
     }
-    
+
     /**
-     * Logs a String to the log file. This method writes a new line in the
-     * log file, containing a Date stamp and the output of the toString() method
-     * of the provided GameEvent.
-     * 
+     * Logs a String to the log file. The line is written by the writer thread,
+     * with a Date stamp of the moment it was logged.
+     *
      * @param event
      *            should be the String to be written to the log file.
+     * @return true if the line was added, false if the buffer was full
+     *         or the logger is closed.
      */
-    private void log(String event) {
-        try {
-            Date date = new Date();
-            String currentDate = date.toString();
-            String temp = currentDate + " " + event;
-            bw.write(temp);
-            if (doConsoleLog) {
-                System.out.println("Log: " + event);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+    public boolean log(String event) {
+        long sequence = claim();
+        if(sequence < 0) {
+            return false;
         }
+        Record record = records[(int) (sequence & mask)];
+        record.timestamp = System.currentTimeMillis();
+        record.message = event;
+        record.sequence = sequence;
+        return true;
     }
 
     /**
-     * Logs a GameEvent to the log file. 
+     * Logs a GameEvent to the log file. The line is formatted by the writer thread.
+     * Pooled events other than BubblePoppedEvent are formatted right away, since
+     * their payload is not known to the logger.
      * @param event
      *            should be the GameEvent to be written to the log file.
      */
     @Override
     public void update(Event event) {
-        log("<"+ event.getClass().getSimpleName()+": "+event.toString() + ">");
+        if(event instanceof PooledEvent && !(event instanceof BubblePoppedEvent)) {
+            log(format(event));
+            return;
+        }
+        long sequence = claim();
+        if(sequence < 0) {
+            return;
+        }
+        Record record = records[(int) (sequence & mask)];
+        record.timestamp = System.currentTimeMillis();
+        if(event instanceof BubblePoppedEvent) {
+            BubblePoppedEvent popped = (BubblePoppedEvent) event;
+            record.popped = true;
+            record.size = popped.getSize();
+            record.x = popped.getX();
+            record.y = popped.getY();
+        } else {
+            record.event = event;
+        }
+        record.sequence = sequence;
+    }
+
+    /**
+     * Claims the next record of the ring buffer.
+     *
+     * @return the sequence of the record, or -1 if the buffer is full
+     *         or the logger is closed.
+     */
+    private long claim() {
+        if(!running) {
+            dropped.incrementAndGet();
+            return -1;
+        }
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if(sequence - consumed.get() >= records.length) {
+                dropped.incrementAndGet();
+                return -1;
+            }
+        } while(!claimed.compareAndSet(sequence, sequence + 1));
+        return sequence;
+    }
+
+    /**
+     * Formats an event as a log line.
+     *
+     * @param event
+     *            the event
+     * @return the log line.
+     */
+    private static String format(Event event) {
+        return "<" + event.getClass().getSimpleName() + ": " + event.toString() + ">";
+    }
+
+    /**
+     * Formats the line of a record. This is run on the writer thread.
+     *
+     * @param record
+     *            the record
+     * @return the log line.
+     */
+    private static String format(Record record) {
+        if(record.popped) {
+            return "<" + BubblePoppedEvent.class.getSimpleName() + ": "
+                    + BubblePoppedEvent.describe(record.size, record.x, record.y) + ">";
+        }
+        if(record.event != null) {
+            return format(record.event);
+        }
+        return record.message;
     }
 
+    /**
+     * Get the amount of log lines that were dropped because the buffer was full
+     * or the logger was closed.
+     *
+     * @return the amount of dropped lines.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Writes all lines that were logged, flushes and closes the log file.
+     * Lines that are logged after closing are dropped.
+     */
+    public void close() {
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // Already shutting down, the hook stops the logger.
+        }
+        stop();
+    }
+
+    /**
+     * Stops the writer thread and waits until it has written everything.
+     */
+    private void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes batches of records until the logger is closed and the buffer is empty.
+     * This is run on the writer thread.
+     */
+    private void drainUntilClosed() {
+        while(true) {
+            boolean stopping = !running;
+            if(drain() == 0) {
+                if(stopping && consumed.get() == claimed.get()) {
+                    break;
+                }
+                LockSupport.parkNanos(this, IDLE_NANOS);
+            }
+        }
+        try {
+            if(writer != null) {
+                writer.close();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes a batch of records and flushes the log file.
+     * This is run on the writer thread.
+     *
+     * @return the amount of written records.
+     */
+    private int drain() {
+        int count = 0;
+        long next = consumed.get();
+        while(count < BATCH_SIZE) {
+            Record record = records[(int) (next & mask)];
+            if(record.sequence != next) {
+                break;
+            }
+            write(record.timestamp, format(record));
+            record.message = null;
+            record.event = null;
+            record.popped = false;
+            next++;
+            consumed.lazySet(next);
+            count++;
+        }
+        boolean written = count > 0;
+        long lost = dropped.get();
+        if(lost != reportedDropped) {
+            write(System.currentTimeMillis(), (lost - reportedDropped) + " log lines dropped");
+            reportedDropped = lost;
+            written = true;
+        }
+        if(written && writer != null) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes a line to the log file, and to the console if enabled.
+     *
+     * @param timestamp
+     *            the moment the line was logged
+     * @param message
+     *            the line
+     */
+    private void write(long timestamp, String message) {
+        if(writer != null) {
+            try {
+                writer.write(new Date(timestamp).toString() + " " + message);
+                writer.write(System.lineSeparator());
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        if (doConsoleLog) {
+            System.out.println("Log: " + message);
+        }
+    }
+
+    /**
+     * A pre-allocated slot of the ring buffer. The sequence is written last by
+     * the logging thread, so the writer thread sees the complete record.
+     * A record holds a message, an event, or the payload of a popped bubble.
+     */
+    private static final class Record {
+        private volatile long sequence = -1;
+        private long timestamp;
+        private String message;
+        private Event event;
+        private boolean popped;
+        private int size;
+        private float x;
+        private float y;
+    }
 }
@@ -0,0 +1,87 @@
+package com.sem.btrouble.tools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.IntBuffer;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.openal.AL10;
+import org.newdawn.slick.openal.AudioLoader;
+import org.newdawn.slick.openal.SoundStore;
+import org.newdawn.slick.util.ResourceLoader;
+
+/**
+ * Audio device of the sound bank that plays on OpenAL. Sounds are decoded by the
+ * Slick sound store, which has to be initialised first; the game container does that
+ * when it starts. The voices are OpenAL sources of their own, next to the ones the
+ * sound store uses for music.
+ */
+public class OpenAlDevice implements SoundBank.Device {
+
+    /**
+     * Decodes a WAV sound into an OpenAL buffer.
+     * @param resource the location of the sound.
+     * @return the id of the buffer.
+     * @throws IOException when the sound can not be read or decoded.
+     */
+    @Override
+    public int createBuffer(String resource) throws IOException {
+        try (InputStream input = ResourceLoader.getResourceAsStream(resource)) {
+            return AudioLoader.getAudio("WAV", input).getBufferID();
+        }
+    }
+
+    /**
+     * Creates an OpenAL source.
+     * @return the id of the source, or -1 if sound does not work or no more
+     *         sources can be created.
+     */
+    @Override
+    public int createVoice() {
+        if(!SoundStore.get().soundWorks()) {
+            return -1;
+        }
+        IntBuffer ids = BufferUtils.createIntBuffer(1);
+        AL10.alGenSources(ids);
+        if(AL10.alGetError() != AL10.AL_NO_ERROR) {
+            return -1;
+        }
+        return ids.get(0);
+    }
+
+    /**
+     * Plays a buffer on an OpenAL source.
+     * @param voice the id of the source.
+     * @param buffer the id of the buffer.
+     * @param pitch the pitch of the sound.
+     * @param gain the volume of the sound.
+     */
+    @Override
+    public void play(int voice, int buffer, float pitch, float gain) {
+        AL10.alSourceStop(voice);
+        AL10.alSourcei(voice, AL10.AL_BUFFER, buffer);
+        AL10.alSourcef(voice, AL10.AL_PITCH, pitch);
+        AL10.alSourcef(voice, AL10.AL_GAIN, gain);
+        AL10.alSourcei(voice, AL10.AL_LOOPING, AL10.AL_FALSE);
+        AL10.alSourcePlay(voice);
+    }
+
+    /**
+     * Stops an OpenAL source.
+     * @param voice the id of the source.
+     */
+    @Override
+    public void stop(int voice) {
+        AL10.alSourceStop(voice);
+    }
+
+    /**
+     * Checks if an OpenAL source is playing.
+     * @param voice the id of the source.
+     * @return true if the source is playing.
+     */
+    @Override
+    public boolean isPlaying(int voice) {
+        return AL10.alGetSourcei(voice, AL10.AL_SOURCE_STATE) == AL10.AL_PLAYING;
+    }
+}
@@ -0,0 +1,268 @@
+package com.sem.btrouble.tools;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bank of the sound effects of the game. Every effect is decoded once, when it is
+ * loaded, into a buffer of the audio device. The effects are played on a fixed pool
+ * of voices; when all voices are busy the voice that started playing first is taken.
+ * Playing an effect only queues a command, so the thread that raises a game event
+ * never touches the audio device. The queued commands are executed by flush, which
+ * should be called on the thread that owns the audio device, once per frame.
+ */
+public class SoundBank {
+    public static final int DEFAULT_VOICES = 8;
+    public static final int DEFAULT_QUEUE = 32;
+
+    private final Device device;
+    private final Map<String, Integer> buffers;
+
+    private final int[] voices;
+    private final long[] started;
+    private long plays;
+    private int stolen;
+
+    private final int[] queuedBuffers;
+    private final float[] queuedPitches;
+    private final float[] queuedGains;
+    private int head;
+    private int count;
+    private int dropped;
+
+    /**
+     * The audio device the sound bank plays on. This is the only place where the
+     * bank decodes sounds or plays them.
+     */
+    public interface Device {
+        /**
+         * Decodes a sound into a buffer.
+         * @param resource the location of the sound.
+         * @return the id of the buffer.
+         * @throws IOException when the sound can not be read or decoded.
+         */
+        int createBuffer(String resource) throws IOException;
+
+        /**
+         * Creates a voice that can play buffers.
+         * @return the id of the voice, or -1 if no more voices can be created.
+         */
+        int createVoice();
+
+        /**
+         * Plays a buffer on a voice, stopping whatever the voice was playing.
+         * @param voice the id of the voice.
+         * @param buffer the id of the buffer.
+         * @param pitch the pitch of the sound.
+         * @param gain the volume of the sound.
+         */
+        void play(int voice, int buffer, float pitch, float gain);
+
+        /**
+         * Stops a voice.
+         * @param voice the id of the voice.
+         */
+        void stop(int voice);
+
+        /**
+         * Checks if a voice is playing.
+         * @param voice the id of the voice.
+         * @return true if the voice is playing.
+         */
+        boolean isPlaying(int voice);
+    }
+
+    /**
+     * Constructor for a sound bank with the default amount of voices.
+     * @param device the audio device.
+     */
+    public SoundBank(Device device) {
+        this(device, DEFAULT_VOICES, DEFAULT_QUEUE);
+    }
+
+    /**
+     * Constructor for a sound bank. The voices are created right away; if the
+     * device has less voices, the bank uses the ones it could create.
+     * @param device the audio device.
+     * @param voiceCount the amount of sounds that can play at the same time.
+     * @param queueCapacity the amount of commands that can wait for a flush.
+     */
+    public SoundBank(Device device, int voiceCount, int queueCapacity) {
+        this.device = device;
+        this.buffers = new HashMap<>();
+        int created = 0;
+        int[] pool = new int[voiceCount];
+        for(int i = 0; i < voiceCount; i++) {
+            int voice = device.createVoice();
+            if(voice < 0) {
+                break;
+            }
+            pool[created++] = voice;
+        }
+        this.voices = new int[created];
+        System.arraycopy(pool, 0, voices, 0, created);
+        this.started = new long[created];
+        this.queuedBuffers = new int[queueCapacity];
+        this.queuedPitches = new float[queueCapacity];
+        this.queuedGains = new float[queueCapacity];
+    }
+
+    /**
+     * Decodes sound effects, skipping the ones that are loaded already.
+     * @param resources the locations of the sounds.
+     * @return the amount of sounds that are loaded.
+     */
+    public int preload(String... resources) {
+        int loaded = 0;
+        for(String resource : resources) {
+            if(load(resource)) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Decodes a sound effect, unless it is loaded already.
+     * @param resource the location of the sound.
+     * @return true if the sound is loaded.
+     */
+    public synchronized boolean load(String resource) {
+        if(buffers.containsKey(resource)) {
+            return true;
+        }
+        try {
+            buffers.put(resource, device.createBuffer(resource));
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Checks if a sound effect is loaded.
+     * @param resource the location of the sound.
+     * @return true if the sound is loaded.
+     */
+    public synchronized boolean isLoaded(String resource) {
+        return buffers.containsKey(resource);
+    }
+
+    /**
+     * Queues a sound effect to be played at its normal pitch and volume.
+     * @param resource the location of the sound.
+     * @return true if the sound was queued.
+     */
+    public boolean play(String resource) {
+        return play(resource, 1.0f, 1.0f);
+    }
+
+    /**
+     * Queues a sound effect to be played on the next flush. Sounds that are not
+     * loaded are not decoded here, and sounds are dropped when the queue is full.
+     * @param resource the location of the sound.
+     * @param pitch the pitch of the sound.
+     * @param gain the volume of the sound.
+     * @return true if the sound was queued.
+     */
+    public synchronized boolean play(String resource, float pitch, float gain) {
+        Integer buffer = buffers.get(resource);
+        if(buffer == null || count == queuedBuffers.length) {
+            dropped++;
+            return false;
+        }
+        int index = (head + count) % queuedBuffers.length;
+        queuedBuffers[index] = buffer;
+        queuedPitches[index] = pitch;
+        queuedGains[index] = gain;
+        count++;
+        return true;
+    }
+
+    /**
+     * Plays all queued sounds, in the order in which they were queued.
+     * @return the amount of sounds that were started.
+     */
+    public synchronized int flush() {
+        int flushed = 0;
+        while(count > 0) {
+            int voice = takeVoice();
+            if(voice >= 0) {
+                device.play(voices[voice], queuedBuffers[head],
+                        queuedPitches[head], queuedGains[head]);
+                started[voice] = ++plays;
+                flushed++;
+            }
+            head = (head + 1) % queuedBuffers.length;
+            count--;
+        }
+        return flushed;
+    }
+
+    /**
+     * Finds the voice to play the next sound on: a voice that is not playing,
+     * or else the voice that started playing first.
+     * @return the index of the voice, or -1 if there are no voices.
+     */
+    private int takeVoice() {
+        int oldest = -1;
+        for(int i = 0; i < voices.length; i++) {
+            if(!device.isPlaying(voices[i])) {
+                return i;
+            }
+            if(oldest < 0 || started[i] < started[oldest]) {
+                oldest = i;
+            }
+        }
+        if(oldest >= 0) {
+            stolen++;
+        }
+        return oldest;
+    }
+
+    /**
+     * Stops all voices and drops the queued sounds.
+     */
+    public synchronized void stopAll() {
+        for(int voice : voices) {
+            device.stop(voice);
+        }
+        head = 0;
+        count = 0;
+    }
+
+    /**
+     * Get the amount of sounds that can play at the same time.
+     * @return the amount of voices.
+     */
+    public int getVoiceCount() {
+        return voices.length;
+    }
+
+    /**
+     * Get the amount of queued sounds.
+     * @return the amount of sounds waiting for a flush.
+     */
+    public synchronized int getPending() {
+        return count;
+    }
+
+    /**
+     * Get the amount of times a playing voice was taken for a new sound.
+     * @return the amount of stolen voices.
+     */
+    public synchronized int getStolen() {
+        return stolen;
+    }
+
+    /**
+     * Get the amount of sounds that were not played because they were not loaded
+     * or the queue was full.
+     * @return the amount of dropped sounds.
+     */
+    public synchronized int getDropped() {
+        return dropped;
+    }
+}
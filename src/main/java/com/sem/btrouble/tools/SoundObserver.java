@@ -1,96 +1,95 @@
 package com.sem.btrouble.tools;
 
-import java.io.IOException;
-import org.newdawn.slick.openal.Audio;
-import org.newdawn.slick.openal.AudioLoader;
-import org.newdawn.slick.openal.SoundStore;
-import org.newdawn.slick.util.ResourceLoader;
-
 import com.sem.btrouble.event.ControllerEvent;
-import com.sem.btrouble.event.Event;
+import com.sem.btrouble.event.EventBus;
+import com.sem.btrouble.event.EventListener;
 import com.sem.btrouble.event.PlayerEvent;
-import com.sem.btrouble.observering.Observer;
 
 /**
  * Observes the sound.
- * 
+ * The sound effects are loaded in the sound bank when the observer is created,
+ * so an event only queues its sound.
+ *
  * @author Martin
  *
  */
-public class SoundObserver implements Observer {
+public class SoundObserver {
+
+    public static final String LOST_SOUND = "fail-trombone-02.wav";
+    public static final String WON_SOUND = "Winning-sound-effect.wav";
+    public static final String WOOSH_SOUND = "soundscrate-17-woosh2.wav";
 
-    private Audio wavEffect;
+    private final SoundBank sounds;
+
+    /**
+     * Constructor for the sound observer, which loads its sound effects.
+     *
+     * @param sounds
+     *            the sound bank the effects are played on
+     */
+    public SoundObserver(SoundBank sounds) {
+        this.sounds = sounds;
+        sounds.preload(LOST_SOUND, WON_SOUND, WOOSH_SOUND);
+    }
 
     /**
      * The update method for audio. When an event is triggered, the audio is
      * updated.
-     * 
+     *
      * @param event
      *            the event that is triggered
      */
     public void update(ControllerEvent event) {
-        try {
-            switch (event) {
-                case GAMELOST:
-                    wavEffect = AudioLoader.getAudio("WAV", ResourceLoader
-                            .getResourceAsStream("fail-trombone-02.wav"));
-
-                    wavEffect.playAsSoundEffect(1.0f, 1.0f, false);
-                    SoundStore.get().poll(0);
-                    break;
-                case GAMEWON:
-                    wavEffect = AudioLoader.getAudio("WAV", ResourceLoader
-                            .getResourceAsStream("Winning-sound-effect.wav"));
-
-                    wavEffect.playAsSoundEffect(1.0f, 1.0f, false);
-                    SoundStore.get().poll(0);
-                    break;
-                case NEXTROOM:
-                case RESTARTROOM:
-                    wavEffect = AudioLoader.getAudio("WAV", ResourceLoader
-                            .getResourceAsStream("soundscrate-17-woosh2.wav"));
-
-                    wavEffect.playAsSoundEffect(1.0f, 1.0f, false);
-                    SoundStore.get().poll(0);
-                    break;
-                default:
-                    break;
-
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+        switch (event) {
+            case GAMELOST:
+                sounds.play(LOST_SOUND);
+                break;
+            case GAMEWON:
+                sounds.play(WON_SOUND);
+                break;
+            case NEXTROOM:
+            case RESTARTROOM:
+                sounds.play(WOOSH_SOUND);
+                break;
+            default:
+                break;
         }
     }
 
     /**
      * Update the sounds.
-     * 
+     *
      * @param event
      *            the event
      */
     public void update(PlayerEvent event) {
-        switch ((PlayerEvent) event) {
+        switch (event) {
             case SHOOT:
-                try {
-                    wavEffect = AudioLoader.getAudio("WAV", ResourceLoader
-                            .getResourceAsStream("soundscrate-17-woosh2.wav"));
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
-                wavEffect.playAsSoundEffect(1.0f, 1.0f, false);
-                SoundStore.get().poll(0);
+                sounds.play(WOOSH_SOUND);
                 break;
             default:
                 break;
         }
     }
 
-    @Override
-    public void update(Event event) {
-        if (event instanceof PlayerEvent) {
-            update((PlayerEvent) event);
-        } else if (event instanceof ControllerEvent) {
-            update((ControllerEvent) event);
-        }
+    /**
+     * Listens to the controller and player events of an event bus.
+     *
+     * @param bus
+     *            the event bus
+     */
+    public void subscribe(EventBus bus) {
+        bus.subscribe(ControllerEvent.class, new EventListener<ControllerEvent>() {
+            @Override
+            public void update(ControllerEvent event) {
+                SoundObserver.this.update(event);
+            }
+        });
+        bus.subscribe(PlayerEvent.class, new EventListener<PlayerEvent>() {
+            @Override
+            public void update(PlayerEvent event) {
+                SoundObserver.this.update(event);
+            }
+        });
     }
 }
@@ -0,0 +1,131 @@
+package com.sem.btrouble.tools;
+
+import org.newdawn.slick.Image;
+
+import java.util.Arrays;
+
+/**
+ * Collects the sprites of a frame and draws them grouped by texture.
+ * Every texture is bound once per flush and all its sprites are sent between a
+ * single startUse and endUse, so the amount of draw calls only depends on the
+ * amount of different textures, not on the amount of sprites.
+ * Sub-images of the same texture, like the sprites of a texture atlas,
+ * are drawn together.
+ * The storage is reused between frames.
+ */
+public class SpriteBatch {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int INITIAL_TEXTURES = 4;
+
+    private Object[] textures;
+    private Image[] firstImages;
+    private int textureCount;
+
+    private Image[] images;
+    private int[] textureOf;
+    private float[] quads;
+    private int count;
+
+    private int drawCalls;
+
+    /**
+     * Constructor for an empty batch.
+     */
+    public SpriteBatch() {
+        textures = new Object[INITIAL_TEXTURES];
+        firstImages = new Image[INITIAL_TEXTURES];
+        images = new Image[INITIAL_CAPACITY];
+        textureOf = new int[INITIAL_CAPACITY];
+        quads = new float[INITIAL_CAPACITY * 4];
+    }
+
+    /**
+     * Adds a sprite to the batch. It is drawn on the next flush.
+     * @param image the image of the sprite.
+     * @param x x position of the left side of the sprite.
+     * @param y y position of the top of the sprite.
+     * @param width width of the sprite.
+     * @param height height of the sprite.
+     */
+    public void draw(Image image, float x, float y, float width, float height) {
+        if(count == textureOf.length) {
+            images = Arrays.copyOf(images, count * 2);
+            textureOf = Arrays.copyOf(textureOf, count * 2);
+            quads = Arrays.copyOf(quads, count * 8);
+        }
+        images[count] = image;
+        textureOf[count] = textureIndex(image);
+        int offset = count * 4;
+        quads[offset] = x;
+        quads[offset + 1] = y;
+        quads[offset + 2] = width;
+        quads[offset + 3] = height;
+        count++;
+    }
+
+    /**
+     * Returns the index of the texture of an image, adding it if it is new this frame.
+     * Images without a texture are compared themselves.
+     * @param image the image of a sprite.
+     * @return the index of the texture.
+     */
+    private int textureIndex(Image image) {
+        Object texture = image.getTexture() == null ? image : image.getTexture();
+        for(int i = 0; i < textureCount; i++) {
+            if(textures[i] == texture) {
+                return i;
+            }
+        }
+        if(textureCount == textures.length) {
+            textures = Arrays.copyOf(textures, textureCount * 2);
+            firstImages = Arrays.copyOf(firstImages, textureCount * 2);
+        }
+        textures[textureCount] = texture;
+        firstImages[textureCount] = image;
+        return textureCount++;
+    }
+
+    /**
+     * Draws all sprites in the batch and empties it. Textures are drawn in the
+     * order in which they were first added, sprites of the same texture in the
+     * order in which they were added.
+     */
+    public void flush() {
+        drawCalls = 0;
+        for(int t = 0; t < textureCount; t++) {
+            Image first = firstImages[t];
+            first.startUse();
+            for(int i = 0; i < count; i++) {
+                if(textureOf[i] == t) {
+                    int offset = i * 4;
+                    images[i].drawEmbedded(quads[offset], quads[offset + 1],
+                            quads[offset + 2], quads[offset + 3]);
+                }
+            }
+            first.endUse();
+            drawCalls++;
+        }
+        Arrays.fill(textures, 0, textureCount, null);
+        Arrays.fill(firstImages, 0, textureCount, null);
+        Arrays.fill(images, 0, count, null);
+        textureCount = 0;
+        count = 0;
+    }
+
+    /**
+     * Get the amount of sprites waiting for the next flush.
+     * @return the amount of sprites.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Get the amount of draw calls of the last flush.
+     * @return the amount of draw calls.
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+}
@@ -0,0 +1,217 @@
+package com.sem.btrouble.tools;
+
+import org.newdawn.slick.util.ResourceLoader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of a texture atlas: the pages, which are the packed images, and the
+ * region of every sprite on its page. The index is a text file, written by the
+ * AtlasPacker, with a line "page &lt;path&gt;" for every page, followed by a line
+ * "&lt;sprite path&gt; &lt;x&gt; &lt;y&gt; &lt;width&gt; &lt;height&gt;" for every sprite
+ * on that page.
+ */
+public final class TextureAtlas {
+    private static final String PAGE = "page";
+
+    private final List<String> pages;
+    private final Map<String, Region> regions;
+
+    /**
+     * Constructor for an atlas index.
+     * @param pages the paths of the pages.
+     * @param regions the regions of the sprites.
+     */
+    public TextureAtlas(List<String> pages, List<Region> regions) {
+        this.pages = Collections.unmodifiableList(new ArrayList<>(pages));
+        this.regions = new LinkedHashMap<>();
+        for(Region region : regions) {
+            this.regions.put(region.getPath(), region);
+        }
+    }
+
+    /**
+     * Loads the index of an atlas from the resources.
+     * @param index the location of the index.
+     * @return the atlas, or null if the index does not exist or can not be read.
+     */
+    public static TextureAtlas load(String index) {
+        if(!ResourceLoader.resourceExists(index)) {
+            return null;
+        }
+        try (InputStream input = ResourceLoader.getResourceAsStream(index)) {
+            return read(input);
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Reads the index of an atlas. Empty lines and lines starting with # are skipped.
+     * @param input the index.
+     * @return the atlas.
+     * @throws IOException when the index can not be read or is malformed.
+     */
+    public static TextureAtlas read(InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<String> pages = new ArrayList<>();
+        List<Region> regions = new ArrayList<>();
+        String line;
+        while((line = reader.readLine()) != null) {
+            line = line.trim();
+            if(line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\\s+");
+            if(fields.length == 2 && PAGE.equals(fields[0])) {
+                pages.add(fields[1]);
+            } else if(fields.length == 5 && !pages.isEmpty()) {
+                try {
+                    regions.add(new Region(fields[0], pages.get(pages.size() - 1),
+                            Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+                            Integer.parseInt(fields[3]), Integer.parseInt(fields[4])));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Malformed region: " + line, e);
+                }
+            } else {
+                throw new IOException("Malformed atlas line: " + line);
+            }
+        }
+        return new TextureAtlas(pages, regions);
+    }
+
+    /**
+     * Writes the index of the atlas.
+     * @param writer the writer of the index.
+     * @throws IOException when the index can not be written.
+     */
+    public void write(Writer writer) throws IOException {
+        writer.write("# Texture atlas, generated by the AtlasPacker.\n");
+        for(String page : pages) {
+            writer.write(PAGE + " " + page + "\n");
+            for(Region region : regions.values()) {
+                if(region.getPage().equals(page)) {
+                    writer.write(region.getPath() + " " + region.getX() + " " + region.getY()
+                            + " " + region.getWidth() + " " + region.getHeight() + "\n");
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Get the paths of the pages.
+     * @return the pages.
+     */
+    public List<String> getPages() {
+        return pages;
+    }
+
+    /**
+     * Get the regions of all sprites.
+     * @return the regions.
+     */
+    public Collection<Region> getRegions() {
+        return Collections.unmodifiableCollection(regions.values());
+    }
+
+    /**
+     * Get the region of a sprite.
+     * @param path the original location of the sprite.
+     * @return the region, or null if the sprite is not in the atlas.
+     */
+    public Region getRegion(String path) {
+        return regions.get(path);
+    }
+
+    /**
+     * The location of a sprite on a page of the atlas.
+     */
+    public static final class Region {
+        private final String path;
+        private final String page;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        /**
+         * Constructor for a region.
+         * @param path the original location of the sprite.
+         * @param page the page the sprite is packed on.
+         * @param x x position of the left side of the sprite on the page.
+         * @param y y position of the top of the sprite on the page.
+         * @param width width of the sprite.
+         * @param height height of the sprite.
+         */
+        public Region(String path, String page, int x, int y, int width, int height) {
+            this.path = path;
+            this.page = page;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Get the original location of the sprite.
+         * @return the path.
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Get the page the sprite is packed on.
+         * @return the path of the page.
+         */
+        public String getPage() {
+            return page;
+        }
+
+        /**
+         * Get the x position of the sprite on the page.
+         * @return the x position.
+         */
+        public int getX() {
+            return x;
+        }
+
+        /**
+         * Get the y position of the sprite on the page.
+         * @return the y position.
+         */
+        public int getY() {
+            return y;
+        }
+
+        /**
+         * Get the width of the sprite.
+         * @return the width.
+         */
+        public int getWidth() {
+            return width;
+        }
+
+        /**
+         * Get the height of the sprite.
+         * @return the height.
+         */
+        public int getHeight() {
+            return height;
+        }
+    }
+}
@@ -2,13 +2,18 @@ package com.sem.btrouble.view;
 
 import com.sem.btrouble.BTrouble;
 import com.sem.btrouble.game.AbstractGame;
+import com.sem.btrouble.game.PlayerInput;
+import com.sem.btrouble.game.Replay;
 import com.sem.btrouble.game.SinglePlayerGame;
 import com.sem.btrouble.game.SinglePlayerSurvivalGame;
+import com.sem.btrouble.model.Bubble;
 import com.sem.btrouble.model.Player;
 import com.sem.btrouble.model.Room;
-import com.sem.btrouble.observering.Direction;
 import com.sem.btrouble.observering.LevelObserver;
+import com.sem.btrouble.tools.AssetCache;
 import com.sem.btrouble.tools.DataLoader;
+import com.sem.btrouble.tools.LevelCatalog;
+import com.sem.btrouble.tools.LevelPrefetcher;
 import org.newdawn.slick.Color;
 import org.newdawn.slick.GameContainer;
 import org.newdawn.slick.Graphics;
@@ -23,18 +28,31 @@ import org.newdawn.slick.state.transition.FadeInTransition;
 import org.newdawn.slick.state.transition.FadeOutTransition;
 import org.newdawn.slick.util.ResourceLoader;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
 
 /**
  * Test state.
  */
 public class GameState extends BasicGameState implements LevelObserver {
+    // Name of the session, so its recordings do not overwrite those of other sessions.
+    private static final String SESSION =
+            new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+    private static int recordings;
     private TrueTypeFont font;
+    private HudText walletText = new HudText();
     private AbstractGame game;
     private Player player;
     private StateBasedGame stateBasedGame;
-    private DataLoader dataloader;
+    private LevelCatalog levels;
+    private LevelPrefetcher prefetcher;
+    private SpriteSheet livesImage;
     private int currentLevel;
+    private Replay replay;
+    private boolean replayEnded;
     
 
     /**
@@ -48,8 +66,8 @@ public class GameState extends BasicGameState implements LevelObserver {
     public void init(GameContainer gc, StateBasedGame sbg) throws SlickException {
         this.stateBasedGame = sbg;
         this.currentLevel = 0;
-        this.dataloader = new DataLoader(DataLoader.STANDARD_LOCATION); 
-
+        this.levels = LevelCatalog.load(DataLoader.STANDARD_LOCATION);
+        this.prefetcher = new LevelPrefetcher(levels);
         loadFont();
 
         player = new Player(1f, 1f);
@@ -57,9 +75,23 @@ public class GameState extends BasicGameState implements LevelObserver {
 
     /**
      * Loads a new game.
+     * A level that has been prefetched is used instead of creating it here.
+     * The level of the previous game is disposed.
      */
     private void newGame() {
-        Room room = dataloader.loadRoom(currentLevel);
+        if(game != null) {
+            game.getLevel().dispose();
+        }
+        LevelPrefetcher.PreparedLevel prepared = prefetcher.take(currentLevel);
+        Room room;
+        List<Bubble> bubbles;
+        if(prepared != null) {
+            room = prepared.getRoom();
+            bubbles = prepared.getBubbles();
+        } else {
+            room = levels.createRoom(currentLevel);
+            bubbles = levels.createBubbles(currentLevel);
+        }
 
         if(BTrouble.getSurvival()) {
             game = new SinglePlayerSurvivalGame(room, this);
@@ -67,13 +99,21 @@ public class GameState extends BasicGameState implements LevelObserver {
             game = new SinglePlayerGame(room, this);
         }
 
-        game.spawnBubbles(dataloader.loadBubbles(currentLevel));
+        game.spawnBubbles(bubbles);
         game.addPlayer(player);
         game.startGame();
+        replay = null;
+        if(BTrouble.getReplays()) {
+            replay = new Replay(currentLevel, game.getLevel().getSeed(),
+                    BTrouble.getSurvival(), 1);
+            replay.setPlayer(0, player);
+        }
     }
 
     /**
      * Update method of the slick2d library.
+     * When replays are turned on in the menu, every frame is recorded, and the
+     * recording is saved when the level ends.
      *
      * @param gc should be the GameContainer containing the game
      * @param sbg the reference to the StateBasedGame.
@@ -83,18 +123,35 @@ public class GameState extends BasicGameState implements LevelObserver {
     @Override
     public void update(GameContainer gc, StateBasedGame sbg, int delta) throws SlickException {
         Input input = gc.getInput();
-        if (input.isKeyDown(Input.KEY_LEFT)) {
-            game.movePlayer(player, Direction.LEFT, delta);
-        } else if (input.isKeyDown(Input.KEY_RIGHT)) {
-            game.movePlayer(player, Direction.RIGHT, delta);
-        }
-        if(input.isKeyPressed(Input.KEY_SPACE)) {
-            game.fireRope(player);
-        }
+        int buttons = PlayerInput.press(0, 0, input.isKeyDown(Input.KEY_LEFT),
+                input.isKeyDown(Input.KEY_RIGHT), input.isKeyPressed(Input.KEY_SPACE));
+        game.applyInput(buttons, delta, player);
         if (input.isKeyPressed(Input.KEY_ESCAPE)) {
             sbg.enterState(0, new FadeOutTransition(), new FadeInTransition());
         }
-        game.updateGame();
+        game.updateGame(delta);
+        if(replay != null) {
+            replay.addFrame(delta, buttons, game.getLevelChanges());
+            if(replayEnded) {
+                saveReplay(replay);
+                replay = null;
+            }
+        }
+        replayEnded = false;
+    }
+
+    /**
+     * Saves the recording of a game, so it can be played again. The recordings of
+     * a session are numbered, so they do not overwrite each other.
+     * @param recording the recording.
+     */
+    static synchronized void saveReplay(Replay recording) {
+        recordings++;
+        try {
+            recording.save(Replay.location(SESSION, recordings));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
     }
 
     /**
@@ -116,10 +173,12 @@ public class GameState extends BasicGameState implements LevelObserver {
      * @param graphics Graphics handler.
      */
     public void drawLives(Graphics graphics) {
-        SpriteSheet livesImage = null;
         graphics.setColor(Color.white);
         try {
-            livesImage = new SpriteSheet("Sprites/lives_spritesheet.jpg", 381, 171);
+            if(livesImage == null) {
+                livesImage = AssetCache.getInstance().getSpriteSheet(
+                        "Sprites/lives_spritesheet.jpg", 381, 171);
+            }
             livesImage.getSprite(Math.max(player.getLives(), 0), 0).draw(190, 670, (float) 0.286);
         } catch(SlickException e) {
             e.printStackTrace();
@@ -143,7 +202,7 @@ public class GameState extends BasicGameState implements LevelObserver {
     private void drawWallet(Graphics graphics) {
         graphics.setColor(Color.white);
         graphics.setFont(font);
-        graphics.drawString(String.valueOf(player.getWallet().getValue()), 1000, 660);
+        walletText.draw(graphics, player.getWallet().getValue(), 1000, 660);
     }
 
     /**
@@ -173,9 +232,11 @@ public class GameState extends BasicGameState implements LevelObserver {
      */
     @Override
     public void levelWon() {
+        replayEnded = true;
         stateBasedGame.enterState(3, new FadeInTransition(Color.gray), 
                 new BlobbyTransition(Color.red));
         currentLevel++;
+        prefetcher.prefetch(currentLevel);
     }
 
     /**
@@ -183,6 +244,7 @@ public class GameState extends BasicGameState implements LevelObserver {
      */
     @Override
     public void levelLost() {
+        replayEnded = true;
         stateBasedGame.enterState(4, new FadeOutTransition(Color.white), 
                 new FadeInTransition(Color.black));
     }
@@ -0,0 +1,89 @@
+package com.sem.btrouble.view;
+
+import org.newdawn.slick.Graphics;
+
+/**
+ * A number on the HUD, like a wallet or a price, with a fixed label in front of it.
+ * The text is only rebuilt when the watched value changes, so drawing it every
+ * frame does not create any garbage.
+ */
+public class HudText {
+
+    private final String label;
+    private final StringBuilder builder;
+    private int value;
+    private String text;
+    private int rebuilds;
+
+    /**
+     * Constructor for a HUD text without a label.
+     */
+    public HudText() {
+        this("");
+    }
+
+    /**
+     * Constructor for a HUD text.
+     * @param label the text in front of the value.
+     */
+    public HudText(String label) {
+        this.label = label;
+        this.builder = new StringBuilder(label.length() + 11);
+    }
+
+    /**
+     * Sets the watched value. The text is rebuilt if the value changed.
+     * @param value the new value.
+     * @return true if the text was rebuilt.
+     */
+    public boolean setValue(int value) {
+        if(text != null && value == this.value) {
+            return false;
+        }
+        this.value = value;
+        builder.setLength(0);
+        builder.append(label).append(value);
+        text = builder.toString();
+        rebuilds++;
+        return true;
+    }
+
+    /**
+     * Get the watched value.
+     * @return the value.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Get the text of the label and the value.
+     * @return the text.
+     */
+    public String getText() {
+        if(text == null) {
+            setValue(value);
+        }
+        return text;
+    }
+
+    /**
+     * Get the amount of times the text has been built.
+     * @return the amount of rebuilds.
+     */
+    public int getRebuilds() {
+        return rebuilds;
+    }
+
+    /**
+     * Sets the watched value and draws the text.
+     * @param graphics the graphics.
+     * @param value the current value.
+     * @param x x position of the text.
+     * @param y y position of the text.
+     */
+    public void draw(Graphics graphics, int value, float x, float y) {
+        setValue(value);
+        graphics.drawString(text, x, y);
+    }
+}
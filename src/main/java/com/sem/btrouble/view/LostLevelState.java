@@ -1,12 +1,12 @@
 package com.sem.btrouble.view;
 
 import com.sem.btrouble.BTrouble;
+import com.sem.btrouble.tools.AssetCache;
 import org.newdawn.slick.GameContainer;
 import org.newdawn.slick.Graphics;
 import org.newdawn.slick.Image;
 import org.newdawn.slick.Input;
 import org.newdawn.slick.SlickException;
-import org.newdawn.slick.SpriteSheet;
 import org.newdawn.slick.TrueTypeFont;
 import org.newdawn.slick.state.BasicGameState;
 import org.newdawn.slick.state.StateBasedGame;
@@ -34,7 +34,7 @@ public class LostLevelState extends BasicGameState {
      *             when the game could not be initialized.
      */
     public void init(GameContainer gc, StateBasedGame sbg) throws SlickException {
-        background = new Image("Sprites/lostlevel1280x720.png");
+        background = AssetCache.getInstance().get("Sprites/lostlevel1280x720.png");
         loadFont();
     }
 
@@ -79,8 +79,6 @@ public class LostLevelState extends BasicGameState {
 
         graphics.drawString("You died. Press enter to restart this Level", 350, 250);
         graphics.drawString("Press enter", 1000, 660);
-
-        SpriteSheet livesImage = new SpriteSheet("Sprites/lives_spritesheet.jpg", 381, 171);
     }
 
     /**
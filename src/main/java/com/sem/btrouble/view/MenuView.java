@@ -1,6 +1,7 @@
 package com.sem.btrouble.view;
 
 import com.sem.btrouble.BTrouble;
+import com.sem.btrouble.tools.AssetCache;
 import org.newdawn.slick.Color;
 import org.newdawn.slick.GameContainer;
 import org.newdawn.slick.Graphics;
@@ -30,6 +31,7 @@ public class MenuView extends BasicGameState {
     private MouseOverArea multiplayerButton;
     private MouseOverArea versusButton;
     private MouseOverArea survivalButton;
+    private MouseOverArea replaysButton;
     private Audio wavEffect;
 
     /**
@@ -43,11 +45,12 @@ public class MenuView extends BasicGameState {
      *             when the game could not be initialized.
      */
     public void init(GameContainer gc, StateBasedGame sbg) throws SlickException {
-        background = new Image("Sprites/menu1280x720.png");
+        background = AssetCache.getInstance().get("Sprites/menu1280x720.png");
         audioButton = new MouseOverArea(gc, background, 500, 410, 250, 50);
         multiplayerButton = new MouseOverArea(gc, background, 500, 460, 250, 50);
         versusButton = new MouseOverArea(gc, background, 500, 510, 250, 50);
         survivalButton = new MouseOverArea(gc, background, 500, 560, 250, 50);
+        replaysButton = new MouseOverArea(gc, background, 500, 610, 250, 50);
         try {
             wavEffect = AudioLoader.getAudio("WAV",
                     ResourceLoader.getResourceAsStream("Bubble_Trouble_Theme.wav"));
@@ -88,6 +91,8 @@ public class MenuView extends BasicGameState {
                 BTrouble.setVersus(!BTrouble.getVersus());
             } else if(survivalButton.isMouseOver()) {
                 BTrouble.setSurvival(!BTrouble.getSurvival());
+            } else if(replaysButton.isMouseOver()) {
+                BTrouble.setReplays(!BTrouble.getReplays());
             }
         }
         if(wavEffect.isPlaying() && !BTrouble.getAudioOn()) {
@@ -119,6 +124,7 @@ public class MenuView extends BasicGameState {
         drawMultiplayerButton(graphics);
         drawVersusButton(graphics);
         drawSurvivalButton(graphics);
+        drawReplaysButton(graphics);
     }
 
     /**
@@ -177,6 +183,20 @@ public class MenuView extends BasicGameState {
         graphics.drawString(survivalSetting, survivalButton.getX(), survivalButton.getY());
     }
 
+    /**
+     * Draws the preferences button for recording replays to the screen.
+     * @param graphics should be the graphics handler of the game.
+     */
+    public void drawReplaysButton(Graphics graphics) {
+        String replaysSetting = "Replays: ";
+        if (BTrouble.getReplays()) {
+            replaysSetting = replaysSetting + "on";
+        } else {
+            replaysSetting = replaysSetting + "off";
+        }
+        graphics.drawString(replaysSetting, replaysButton.getX(), replaysButton.getY());
+    }
+
     @Override
     public void enter(GameContainer container, StateBasedGame game) throws SlickException {
 
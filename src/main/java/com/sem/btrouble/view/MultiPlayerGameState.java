@@ -4,11 +4,16 @@ import com.sem.btrouble.BTrouble;
 import com.sem.btrouble.game.AbstractGame;
 import com.sem.btrouble.game.MultiPlayerGame;
 import com.sem.btrouble.game.MultiPlayerSurvivalGame;
+import com.sem.btrouble.game.PlayerInput;
+import com.sem.btrouble.game.Replay;
+import com.sem.btrouble.model.Bubble;
 import com.sem.btrouble.model.Player;
 import com.sem.btrouble.model.Room;
-import com.sem.btrouble.observering.Direction;
 import com.sem.btrouble.observering.LevelObserver;
+import com.sem.btrouble.tools.AssetCache;
 import com.sem.btrouble.tools.DataLoader;
+import com.sem.btrouble.tools.LevelCatalog;
+import com.sem.btrouble.tools.LevelPrefetcher;
 import org.newdawn.slick.Color;
 import org.newdawn.slick.GameContainer;
 import org.newdawn.slick.Graphics;
@@ -25,17 +30,24 @@ import org.newdawn.slick.state.transition.SelectTransition;
 import org.newdawn.slick.util.ResourceLoader;
 
 import java.io.InputStream;
+import java.util.List;
 
 /**
  * Test state.
  */
 public class MultiPlayerGameState extends BasicGameState implements LevelObserver {
     private TrueTypeFont font;
+    private HudText firstWalletText = new HudText("Player 1: ");
+    private HudText secondWalletText = new HudText("Player 2: ");
     private AbstractGame game;
     private Player player;
     private Player secondPlayer;
-    private DataLoader dataloader;
+    private LevelCatalog levels;
+    private LevelPrefetcher prefetcher;
+    private SpriteSheet livesImage;
     private int currentLevel;
+    private Replay replay;
+    private boolean replayEnded;
 
     private StateBasedGame stateBasedGame;
 
@@ -50,16 +62,30 @@ public class MultiPlayerGameState extends BasicGameState implements LevelObserve
     public void init(GameContainer gc, StateBasedGame sbg) throws SlickException {
         this.stateBasedGame = sbg;
         this.currentLevel = 0;
-        this.dataloader = new DataLoader(DataLoader.STANDARD_LOCATION);
-
+        this.levels = LevelCatalog.load(DataLoader.STANDARD_LOCATION);
+        this.prefetcher = new LevelPrefetcher(levels);
         loadFont();
     }
 
     /**
      * Loads a new game.
+     * A level that has been prefetched is used instead of creating it here.
+     * The level of the previous game is disposed.
      */
     private void newGame() {
-        Room room = dataloader.loadRoom(currentLevel);
+        if(game != null) {
+            game.getLevel().dispose();
+        }
+        LevelPrefetcher.PreparedLevel prepared = prefetcher.take(currentLevel);
+        Room room;
+        List<Bubble> bubbles;
+        if(prepared != null) {
+            room = prepared.getRoom();
+            bubbles = prepared.getBubbles();
+        } else {
+            room = levels.createRoom(currentLevel);
+            bubbles = levels.createBubbles(currentLevel);
+        }
 
         if(BTrouble.getSurvival()) {
             game = new MultiPlayerSurvivalGame(room, this);
@@ -70,12 +96,21 @@ public class MultiPlayerGameState extends BasicGameState implements LevelObserve
         game.addPlayer(secondPlayer);
         player = new Player(1f, 1f);
         game.addPlayer(player);
-        game.spawnBubbles(dataloader.loadBubbles(currentLevel));
+        game.spawnBubbles(bubbles);
         game.startGame();
+        replay = null;
+        if(BTrouble.getReplays()) {
+            replay = new Replay(currentLevel, game.getLevel().getSeed(),
+                    BTrouble.getSurvival(), 2);
+            replay.setPlayer(0, player);
+            replay.setPlayer(1, secondPlayer);
+        }
     }
 
     /**
      * Update method of the slick2d library.
+     * When replays are turned on in the menu, every frame is recorded, and the
+     * recording is saved when the level ends.
      *
      * @param gc should be the GameContainer containing the game
      * @param sbg the reference to the StateBasedGame.
@@ -85,28 +120,25 @@ public class MultiPlayerGameState extends BasicGameState implements LevelObserve
     @Override
     public void update(GameContainer gc, StateBasedGame sbg, int delta) throws SlickException {
         Input input = gc.getInput();
-        if (input.isKeyDown(Input.KEY_LEFT)) {
-            game.movePlayer(player, Direction.LEFT, delta);
-        } else if (input.isKeyDown(Input.KEY_RIGHT)) {
-            game.movePlayer(player, Direction.RIGHT, delta);
-        }
-        if(input.isKeyPressed(Input.KEY_SPACE)) {
-            game.fireRope(player);
-        }
+        int buttons = PlayerInput.press(0, 0, input.isKeyDown(Input.KEY_LEFT),
+                input.isKeyDown(Input.KEY_RIGHT), input.isKeyPressed(Input.KEY_SPACE));
         if(BTrouble.getMultiplayer()) {
-            if (input.isKeyDown(Input.KEY_A)) {
-                game.movePlayer(secondPlayer, Direction.LEFT, delta);
-            } else if (input.isKeyDown(Input.KEY_D)) {
-                game.movePlayer(secondPlayer, Direction.RIGHT, delta);
-            }
-            if(input.isKeyPressed(Input.KEY_W)) {
-                game.fireRope(secondPlayer);
-            }
+            buttons = PlayerInput.press(buttons, 1, input.isKeyDown(Input.KEY_A),
+                    input.isKeyDown(Input.KEY_D), input.isKeyPressed(Input.KEY_W));
         }
+        game.applyInput(buttons, delta, player, secondPlayer);
         if(input.isKeyPressed(Input.KEY_ESCAPE)) {
             sbg.enterState(0, new SelectTransition(), new SelectTransition());
         }
-        game.updateGame();
+        game.updateGame(delta);
+        if(replay != null) {
+            replay.addFrame(delta, buttons, game.getLevelChanges());
+            if(replayEnded) {
+                GameState.saveReplay(replay);
+                replay = null;
+            }
+        }
+        replayEnded = false;
     }
 
     /**
@@ -114,10 +146,12 @@ public class MultiPlayerGameState extends BasicGameState implements LevelObserve
      * @param graphics Graphics handler.
      */
     public void drawLives(Graphics graphics) {
-        SpriteSheet livesImage = null;
         graphics.setColor(Color.white);
         try {
-            livesImage = new SpriteSheet("Sprites/lives_spritesheet.jpg", 381, 171);
+            if(livesImage == null) {
+                livesImage = AssetCache.getInstance().getSpriteSheet(
+                        "Sprites/lives_spritesheet.jpg", 381, 171);
+            }
             graphics.setColor(Color.white);
             graphics.drawString("Player 1: ", 190, 670);
             livesImage.getSprite(Math.max(player.getLives(), 0), 0).draw(310, 670, (float) 0.286);
@@ -159,8 +193,8 @@ public class MultiPlayerGameState extends BasicGameState implements LevelObserve
      */
     private void drawWallet(Graphics graphics) {
         graphics.setColor(Color.white);
-        graphics.drawString("Player 1: " + player.getWallet().getValue(), 950, 670);
-        graphics.drawString("Player 2: " + secondPlayer.getWallet().getValue(), 950, 685);
+        firstWalletText.draw(graphics, player.getWallet().getValue(), 950, 670);
+        secondWalletText.draw(graphics, secondPlayer.getWallet().getValue(), 950, 685);
     }
 
     /**
@@ -190,9 +224,11 @@ public class MultiPlayerGameState extends BasicGameState implements LevelObserve
      */
     @Override
     public void levelWon() {
+        replayEnded = true;
         stateBasedGame.enterState(0, new FadeOutTransition(Color.gray), 
                 new BlobbyTransition(Color.red));
         currentLevel++;
+        prefetcher.prefetch(currentLevel);
     }
 
     /**
@@ -200,6 +236,7 @@ public class MultiPlayerGameState extends BasicGameState implements LevelObserve
      */
     @Override
     public void levelLost() {
+        replayEnded = true;
         stateBasedGame.enterState(4, new FadeOutTransition(Color.white), 
                 new FadeInTransition(Color.black));
     }
@@ -5,6 +5,7 @@ import com.sem.btrouble.model.Player;
 import com.sem.btrouble.model.PlayerInfo;
 import com.sem.btrouble.model.StayRopePowerUp;
 import com.sem.btrouble.model.LifePowerUp;
+import com.sem.btrouble.tools.AssetCache;
 import org.newdawn.slick.GameContainer;
 import org.newdawn.slick.Graphics;
 import org.newdawn.slick.Image;
@@ -30,6 +31,10 @@ public class ShopView extends BasicGameState {
     private int receiptBubbles = 0;
     private int receiptTime = 0;
     private int receiptLife = 0;
+    private HudText sumText = new HudText();
+    private HudText receiptBubblesText = new HudText();
+    private HudText receiptTimeText = new HudText();
+    private HudText receiptLifeText = new HudText();
     private MouseOverArea ropeButton;
     private MouseOverArea timeButton;
     private MouseOverArea lifeButton;
@@ -45,11 +50,12 @@ public class ShopView extends BasicGameState {
      *             when the game could not be initialized.
      */
     public void init(GameContainer gc, StateBasedGame sbg) throws SlickException {
-        background = new Image("Sprites/store1280x720.png");
+        AssetCache assets = AssetCache.getInstance();
+        background = assets.get("Sprites/store1280x720.png");
 
-        ropeButton = new MouseOverArea(gc, new Image("Sprites/bubbles_button.jpg"), 170, 80);
-        timeButton = new MouseOverArea(gc, new Image("Sprites/time_button.jpg"), 187, 230);
-        lifeButton = new MouseOverArea(gc, new Image("Sprites/life_button.jpg"), 154, 391);
+        ropeButton = new MouseOverArea(gc, assets.get("Sprites/bubbles_button.jpg"), 170, 80);
+        timeButton = new MouseOverArea(gc, assets.get("Sprites/time_button.jpg"), 187, 230);
+        lifeButton = new MouseOverArea(gc, assets.get("Sprites/life_button.jpg"), 154, 391);
 
         loadFont();
     }
@@ -135,11 +141,11 @@ public class ShopView extends BasicGameState {
         for(Player player: players) {
             sum += player.getWallet().getValue();
         }
-        graphics.drawString("" + sum, 70, 660);
+        sumText.draw(graphics, sum, 70, 660);
         graphics.drawString("Press enter", 1000, 660);
-        graphics.drawString("" + receiptBubbles, 1175, 520);
-        graphics.drawString("" + receiptTime, 1175, 570);
-        graphics.drawString("" + receiptLife, 1175, 620);
+        receiptBubblesText.draw(graphics, receiptBubbles, 1175, 520);
+        receiptTimeText.draw(graphics, receiptTime, 1175, 570);
+        receiptLifeText.draw(graphics, receiptLife, 1175, 620);
     }
 
     /**
@@ -0,0 +1,186 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.tools.AssetCache;
+import com.sem.btrouble.tools.TextureAtlas;
+import org.junit.Before;
+import org.junit.Test;
+import org.newdawn.slick.Image;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the AssetCache.
+ */
+public class AssetCacheTest {
+
+    private static final String PATH = "Sprites/rope.png";
+
+    private List<String> loaded;
+    private AssetCache cache;
+
+    /**
+     * Create a cache with a loader that does not need OpenGL.
+     */
+    @Before
+    public void setUp() {
+        loaded = new ArrayList<>();
+        cache = new AssetCache(new AssetCache.ImageLoader() {
+            @Override
+            public Image load(String path) {
+                loaded.add(path);
+                return new Image() {
+                    @Override
+                    public void destroy() {
+                        destroyed = true;
+                    }
+
+                    @Override
+                    public Image getSubImage(int x, int y, int width, int height) {
+                        return new Image() {
+                            @Override
+                            public void destroy() {
+                                destroyed = true;
+                            }
+                        };
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * An image should only be loaded once.
+     * @throws Exception when the image can not be loaded.
+     */
+    @Test
+    public void loadOnceTest() throws Exception {
+        Image first = cache.acquire(PATH);
+        Image second = cache.get(PATH);
+        Image third = cache.acquire(PATH);
+        assertSame(first, second);
+        assertSame(first, third);
+        assertEquals(1, loaded.size());
+        assertEquals(2, cache.getReferenceCount(PATH));
+    }
+
+    /**
+     * An image should be destroyed when the last reference is released.
+     * @throws Exception when the image can not be loaded.
+     */
+    @Test
+    public void releaseTest() throws Exception {
+        Image image = cache.acquire(PATH);
+        cache.acquire(PATH);
+        cache.release(PATH);
+        assertTrue(cache.contains(PATH));
+        assertFalse(image.isDestroyed());
+        cache.release(PATH);
+        assertFalse(cache.contains(PATH));
+        assertTrue(image.isDestroyed());
+        assertEquals(0, cache.getReferenceCount(PATH));
+
+        cache.release(PATH);
+        cache.get(PATH);
+        assertEquals(2, loaded.size());
+    }
+
+    /**
+     * All images in the manifest should be loaded and kept.
+     */
+    @Test
+    public void preloadTest() {
+        int count = cache.preload(AssetCache.DEFAULT_MANIFEST);
+        assertTrue(count > 0);
+        assertEquals(count, loaded.size());
+        assertTrue(cache.contains(PATH));
+        assertEquals(1, cache.getReferenceCount(PATH));
+        assertFalse(loaded.contains(""));
+    }
+
+    /**
+     * An image that was put in the cache should not be loaded.
+     * @throws Exception when the image can not be loaded.
+     */
+    @Test
+    public void putTest() throws Exception {
+        Image image = new Image() {
+        };
+        cache.put(PATH, image);
+        assertSame(image, cache.get(PATH));
+        assertTrue(loaded.isEmpty());
+    }
+
+    /**
+     * Clearing the cache should destroy all images.
+     * @throws Exception when the image can not be loaded.
+     */
+    @Test
+    public void clearTest() throws Exception {
+        Image image = cache.acquire(PATH);
+        cache.clear();
+        assertTrue(image.isDestroyed());
+        assertFalse(cache.contains(PATH));
+    }
+
+    /**
+     * Sprites of an atlas should share the page, which is loaded once
+     * and kept until all its sprites are released.
+     * @throws Exception when the image can not be loaded.
+     */
+    @Test
+    public void atlasTest() throws Exception {
+        String other = "Sprites/idle.png";
+        TextureAtlas atlas = new TextureAtlas(Arrays.asList("Sprites/sprites-0.png"),
+                Arrays.asList(new TextureAtlas.Region(PATH, "Sprites/sprites-0.png", 1, 1, 60, 790),
+                        new TextureAtlas.Region(other, "Sprites/sprites-0.png", 63, 1, 100, 175)));
+        assertEquals(2, cache.addAtlas(atlas));
+        assertEquals(Arrays.asList("Sprites/sprites-0.png"), loaded);
+        assertTrue(cache.isInAtlas(PATH));
+        assertEquals(2, cache.getReferenceCount("Sprites/sprites-0.png"));
+
+        Image page = cache.get("Sprites/sprites-0.png");
+        Image sprite = cache.get(PATH);
+        assertNotSame(page, sprite);
+        assertEquals(1, loaded.size());
+
+        cache.release(PATH);
+        assertFalse(cache.contains(PATH));
+        assertFalse(sprite.isDestroyed());
+        assertFalse(page.isDestroyed());
+        cache.release(other);
+        assertTrue(page.isDestroyed());
+        assertFalse(cache.contains("Sprites/sprites-0.png"));
+    }
+
+    /**
+     * Sprites that are already cached should not be replaced by the atlas.
+     * @throws Exception when the image can not be loaded.
+     */
+    @Test
+    public void atlasCachedTest() throws Exception {
+        Image image = cache.get(PATH);
+        TextureAtlas atlas = new TextureAtlas(Arrays.asList("Sprites/sprites-0.png"),
+                Arrays.asList(new TextureAtlas.Region(PATH, "Sprites/sprites-0.png",
+                        1, 1, 60, 790)));
+        assertEquals(0, cache.addAtlas(atlas));
+        assertSame(image, cache.get(PATH));
+        assertFalse(cache.isInAtlas(PATH));
+    }
+
+    /**
+     * An atlas that does not exist should not add anything.
+     */
+    @Test
+    public void missingAtlasTest() {
+        assertEquals(0, cache.loadAtlas("Sprites/missing.atlas"));
+        assertTrue(loaded.isEmpty());
+    }
+}
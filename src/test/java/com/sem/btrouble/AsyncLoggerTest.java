@@ -0,0 +1,163 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.event.BubbleEvent;
+import com.sem.btrouble.event.BubblePoppedEvent;
+import com.sem.btrouble.event.EventBus;
+import com.sem.btrouble.tools.Logger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the ring buffer and writer thread of the Logger.
+ */
+public class AsyncLoggerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * All logged lines should be written in order when the logger is closed.
+     */
+    @Test
+    public void closeTest() {
+        StringWriter output = new StringWriter();
+        Logger logger = new Logger(output, false, 16);
+        for(int i = 0; i < 1000; i++) {
+            while(!logger.log("line " + i)) {
+                Thread.yield();
+            }
+        }
+        logger.close();
+
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertEquals(1000 + countDropReports(lines), lines.length);
+        int expected = 0;
+        for(String line : lines) {
+            if(line.endsWith("line " + expected)) {
+                expected++;
+            }
+        }
+        assertEquals(1000, expected);
+    }
+
+    /**
+     * Counts the lines that report dropped lines.
+     * @param lines the written lines.
+     * @return the amount of reports.
+     */
+    private int countDropReports(String[] lines) {
+        int reports = 0;
+        for(String line : lines) {
+            if(line.endsWith("log lines dropped")) {
+                reports++;
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * When the writer can not keep up, new lines should be dropped and reported,
+     * without blocking the logging thread.
+     * @throws Exception when the test is interrupted.
+     */
+    @Test
+    public void backpressureTest() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final StringBuilder output = new StringBuilder();
+        Writer blocking = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                output.append(buffer, offset, length);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = new Logger(blocking, false, 4);
+        int accepted = 0;
+        for(int i = 0; i < 10; i++) {
+            if(logger.log("line " + i)) {
+                accepted++;
+            }
+        }
+        assertEquals(4, accepted);
+        assertEquals(6, logger.getDropped());
+
+        release.countDown();
+        logger.close();
+        assertTrue(output.toString().contains("6 log lines dropped"));
+        assertTrue(output.toString().contains("line 3"));
+        assertFalse(output.toString().contains("line 4"));
+    }
+
+    /**
+     * Lines logged after closing should be dropped.
+     */
+    @Test
+    public void logAfterCloseTest() {
+        StringWriter output = new StringWriter();
+        Logger logger = new Logger(output, false, 4);
+        logger.close();
+        assertFalse(logger.log("late"));
+        assertEquals(1, logger.getDropped());
+        assertEquals("", output.toString());
+    }
+
+    /**
+     * Events should be written to the log file, one per line.
+     * @throws Exception when the file can not be read.
+     */
+    @Test
+    public void fileTest() throws Exception {
+        File file = new File(folder.getRoot(), "log.txt");
+        Logger logger = new Logger(file.getPath(), false);
+        logger.update(BubbleEvent.COLLISION_ROPE);
+        logger.update(BubbleEvent.COLLISION_ROPE);
+        logger.close();
+
+        List<String> lines = Files.readAllLines(file.toPath(), Charset.defaultCharset());
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith("<BubbleEvent: COLLISION_ROPE>"));
+    }
+
+    /**
+     * A pooled event should be written with the payload it had when it was logged,
+     * also when it has been reused since.
+     */
+    @Test
+    public void pooledEventTest() {
+        StringWriter output = new StringWriter();
+        Logger logger = new Logger(output, false, 16);
+        EventBus bus = new EventBus();
+        BubblePoppedEvent event = BubblePoppedEvent.obtain(bus, 2, 3, 4, null);
+        logger.update(event);
+        event.release();
+        BubblePoppedEvent.obtain(bus, 1, 5, 6, null).release();
+        logger.close();
+
+        assertTrue(output.toString().trim().endsWith("<BubblePoppedEvent: size 2 at (3.0, 4.0)>"));
+    }
+}
@@ -0,0 +1,147 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.tools.AtlasPacker;
+import com.sem.btrouble.tools.TextureAtlas;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the AtlasPacker.
+ */
+public class AtlasPackerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Creates a sprite of a single color.
+     * @param width width of the sprite.
+     * @param height height of the sprite.
+     * @param color the color of the sprite.
+     * @return the sprite.
+     */
+    private BufferedImage sprite(int width, int height, int color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for(int y = 0; y < height; y++) {
+            for(int x = 0; x < width; x++) {
+                image.setRGB(x, y, color);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Sprites should not overlap, including their padding, and fit on their page.
+     */
+    @Test
+    public void layoutTest() {
+        Map<String, BufferedImage> sprites = new LinkedHashMap<>();
+        for(int i = 0; i < 20; i++) {
+            sprites.put("s" + i, sprite(10 + i * 3, 5 + (i * 7) % 40, 0xFF000000));
+        }
+        TextureAtlas atlas = AtlasPacker.layout("atlas", sprites, 128);
+        assertTrue(atlas.getPages().size() > 1);
+        assertEquals(sprites.size(), atlas.getRegions().size());
+
+        int padding = AtlasPacker.PADDING;
+        List<TextureAtlas.Region> regions = new ArrayList<>(atlas.getRegions());
+        for(TextureAtlas.Region region : regions) {
+            assertEquals(sprites.get(region.getPath()).getWidth(), region.getWidth());
+            assertEquals(sprites.get(region.getPath()).getHeight(), region.getHeight());
+            assertTrue(region.getX() >= padding && region.getY() >= padding);
+            assertTrue(region.getX() + region.getWidth() + padding <= 128);
+            assertTrue(region.getY() + region.getHeight() + padding <= 128);
+            for(TextureAtlas.Region other : regions) {
+                if(other != region && other.getPage().equals(region.getPage())) {
+                    assertFalse(region.getX() + region.getWidth() + padding
+                            > other.getX() - padding
+                            && other.getX() + other.getWidth() + padding
+                            > region.getX() - padding
+                            && region.getY() + region.getHeight() + padding
+                            > other.getY() - padding
+                            && other.getY() + other.getHeight() + padding
+                            > region.getY() - padding);
+                }
+            }
+        }
+    }
+
+    /**
+     * A sprite that is larger than a page can not be packed.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void tooLargeTest() {
+        Map<String, BufferedImage> sprites = new LinkedHashMap<>();
+        sprites.put("large", sprite(200, 10, 0xFF000000));
+        AtlasPacker.layout("atlas", sprites, 128);
+    }
+
+    /**
+     * Sprites should be drawn on their region, with their edge pixels as padding,
+     * on a page with a size that is a power of two.
+     */
+    @Test
+    public void renderTest() {
+        Map<String, BufferedImage> sprites = new LinkedHashMap<>();
+        sprites.put("red", sprite(30, 20, 0xFFFF0000));
+        sprites.put("blue", sprite(10, 10, 0xFF0000FF));
+        TextureAtlas atlas = AtlasPacker.layout("atlas", sprites, 128);
+        BufferedImage page = AtlasPacker.render(atlas, atlas.getPages().get(0), sprites);
+        assertEquals(64, page.getWidth());
+        assertEquals(32, page.getHeight());
+
+        TextureAtlas.Region red = atlas.getRegion("red");
+        assertEquals(0xFFFF0000, page.getRGB(red.getX(), red.getY()));
+        assertEquals(0xFFFF0000, page.getRGB(red.getX() - 1, red.getY() - 1));
+        TextureAtlas.Region blue = atlas.getRegion("blue");
+        assertEquals(0xFF0000FF, page.getRGB(blue.getX() + 9, blue.getY() + 9));
+        assertEquals(0xFF0000FF, page.getRGB(blue.getX() + 10, blue.getY() + 10));
+        assertEquals(0, page.getRGB(63, 31));
+    }
+
+    /**
+     * Packing should write the pages and an index that can be read back.
+     * @throws IOException when the files can not be written or read.
+     */
+    @Test
+    public void packTest() throws IOException {
+        File resources = folder.newFolder("resources");
+        new File(resources, "Sprites").mkdirs();
+        ImageIO.write(sprite(30, 20, 0xFFFF0000), "png", new File(resources, "Sprites/a.png"));
+        ImageIO.write(sprite(10, 40, 0xFF00FF00), "png", new File(resources, "Sprites/b.png"));
+        Files.write(new File(resources, "list.txt").toPath(), Arrays.asList(
+                "# sprites", "Sprites/a.png", "", "Sprites/b.png"), StandardCharsets.UTF_8);
+        File output = folder.newFolder("output");
+
+        AtlasPacker.pack(resources, "list.txt", output, "Sprites/sprites.atlas");
+
+        TextureAtlas atlas;
+        try (InputStream input = new FileInputStream(new File(output, "Sprites/sprites.atlas"))) {
+            atlas = TextureAtlas.read(input);
+        }
+        assertEquals(Arrays.asList("Sprites/sprites-0.png"), atlas.getPages());
+        assertEquals(2, atlas.getRegions().size());
+        BufferedImage page = ImageIO.read(new File(output, "Sprites/sprites-0.png"));
+        TextureAtlas.Region b = atlas.getRegion("Sprites/b.png");
+        assertEquals(0xFF00FF00, page.getRGB(b.getX() + 5, b.getY() + 20));
+    }
+}
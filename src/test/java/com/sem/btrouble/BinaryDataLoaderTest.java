@@ -0,0 +1,188 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.model.Floor;
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.model.Wall;
+import com.sem.btrouble.tools.BinaryDataLoader;
+import com.sem.btrouble.tools.DataLoader;
+import com.sem.btrouble.tools.LevelCompiler;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the LevelCompiler and BinaryDataLoader.
+ */
+public class BinaryDataLoaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private DataLoader dataLoader;
+    private BinaryDataLoader binaryLoader;
+
+    /**
+     * Compile the standard data file.
+     * @throws IOException when the data file could not be compiled.
+     */
+    @Before
+    public void setUp() throws IOException {
+        dataLoader = new DataLoader(DataLoader.STANDARD_LOCATION);
+        File target = folder.newFile("data.btl");
+        LevelCompiler.compile(DataLoader.STANDARD_LOCATION, target.getPath());
+        binaryLoader = new BinaryDataLoader(target.getPath());
+    }
+
+    /**
+     * The binary file should contain the same levels as the XML file.
+     */
+    @Test
+    public void hasRoomTest() {
+        assertTrue(binaryLoader.getLevelCount() > 0);
+        for(int i = 0; i <= binaryLoader.getLevelCount(); i++) {
+            assertEquals(dataLoader.hasRoom(i), binaryLoader.hasRoom(i));
+        }
+        assertFalse(binaryLoader.hasRoom(-1));
+    }
+
+    /**
+     * Every room should equal the room of the DataLoader.
+     */
+    @Test
+    public void loadRoomTest() {
+        for(int i = 0; i <= binaryLoader.getLevelCount(); i++) {
+            Room expected = dataLoader.loadRoom(i);
+            Room actual = binaryLoader.loadRoom(i);
+            assertEquals(expected, actual);
+            assertWallsEqual(expected.getWalls(), actual.getWalls());
+            assertFloorsEqual(expected.getFloors(), actual.getFloors());
+            assertWallsEqual(expected.getMoveableWalls(), actual.getMoveableWalls());
+            assertFloorsEqual(expected.getMoveableFloors(), actual.getMoveableFloors());
+        }
+    }
+
+    /**
+     * Every list of bubbles should equal the bubbles of the DataLoader.
+     */
+    @Test
+    public void loadBubblesTest() {
+        for(int i = 0; i <= binaryLoader.getLevelCount(); i++) {
+            assertEquals(dataLoader.loadBubbles(i), binaryLoader.loadBubbles(i));
+        }
+    }
+
+    /**
+     * A file that is not a binary level file should give empty levels.
+     * @throws IOException when the file could not be written.
+     */
+    @Test
+    public void wrongFormatTest() throws IOException {
+        File file = folder.newFile("wrong.btl");
+        try (OutputStream output = new FileOutputStream(file)) {
+            output.write(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        }
+        BinaryDataLoader wrong = new BinaryDataLoader(file.getPath());
+        assertFalse(wrong.hasRoom(0));
+        assertTrue(wrong.loadBubbles(0).isEmpty());
+        assertTrue(wrong.loadRoom(0).getWalls().isEmpty());
+    }
+
+    /**
+     * A missing file should give empty levels.
+     */
+    @Test
+    public void missingFileTest() {
+        BinaryDataLoader missing = new BinaryDataLoader("random");
+        assertEquals(0, missing.getLevelCount());
+        assertTrue(missing.loadBubbles(0).isEmpty());
+        assertTrue(missing.loadRoom(0).getWalls().isEmpty());
+    }
+
+    /**
+     * Compiling a file without levels should fail.
+     */
+    @Test(expected = IOException.class)
+    public void compileMissingFileTest() throws IOException {
+        LevelCompiler.compile("random", new File(folder.getRoot(), "out.btl").getPath());
+    }
+
+    /**
+     * Compiling a file that breaks off after the first level should fail,
+     * instead of compiling only the first level.
+     * @throws IOException when the file can't be written.
+     */
+    @Test(expected = IOException.class)
+    public void compileTruncatedFileTest() throws IOException {
+        compileXml("<Levels><Level spawnX=\"1\" spawnY=\"2\" background=\"a.png\">"
+                + "<Bubble size=\"1\" x=\"3\" y=\"4\"/></Level>"
+                + "<Level spawnX=\"1\" spawnY=\"2\" background=\"a.png\"><Bub");
+    }
+
+    /**
+     * Compiling a file with a number that can't be parsed should fail.
+     * @throws IOException when the file can't be written.
+     */
+    @Test(expected = IOException.class)
+    public void compileMalformedNumberTest() throws IOException {
+        compileXml("<Levels><Level spawnX=\"1\" spawnY=\"2\" background=\"a.png\">"
+                + "<Bubble size=\"one\" x=\"3\" y=\"4\"/></Level></Levels>");
+    }
+
+    /**
+     * Writes a level file and compiles it.
+     * @param xml the contents of the level file.
+     * @throws IOException when the file can't be written or compiled.
+     */
+    private void compileXml(String xml) throws IOException {
+        File source = folder.newFile("levels.xml");
+        try (OutputStream output = new FileOutputStream(source)) {
+            output.write(xml.getBytes("UTF-8"));
+        }
+        LevelCompiler.compile(source.getPath(), new File(folder.getRoot(), "out.btl").getPath());
+    }
+
+    /**
+     * Checks that two lists of walls are the same, also after moving them once.
+     * @param expected the expected walls.
+     * @param actual the actual walls.
+     */
+    private static void assertWallsEqual(List<Wall> expected, List<Wall> actual) {
+        assertEquals(expected.size(), actual.size());
+        for(int i = 0; i < expected.size(); i++) {
+            expected.get(i).move();
+            actual.get(i).move();
+            assertEquals(expected.get(i).getX(), actual.get(i).getX(), 0);
+            assertEquals(expected.get(i).getY(), actual.get(i).getY(), 0);
+            assertEquals(expected.get(i).getWidth(), actual.get(i).getWidth(), 0);
+            assertEquals(expected.get(i).getHeight(), actual.get(i).getHeight(), 0);
+        }
+    }
+
+    /**
+     * Checks that two lists of floors are the same, also after moving them once.
+     * @param expected the expected floors.
+     * @param actual the actual floors.
+     */
+    private static void assertFloorsEqual(List<Floor> expected, List<Floor> actual) {
+        assertEquals(expected.size(), actual.size());
+        for(int i = 0; i < expected.size(); i++) {
+            expected.get(i).move();
+            actual.get(i).move();
+            assertEquals(expected.get(i).getX(), actual.get(i).getX(), 0);
+            assertEquals(expected.get(i).getY(), actual.get(i).getY(), 0);
+            assertEquals(expected.get(i).getWidth(), actual.get(i).getWidth(), 0);
+            assertEquals(expected.get(i).getHeight(), actual.get(i).getHeight(), 0);
+        }
+    }
+}
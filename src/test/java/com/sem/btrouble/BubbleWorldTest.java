@@ -0,0 +1,171 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.BubbleView;
+import com.sem.btrouble.model.BubbleWorld;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the BubbleWorld and BubbleView.
+ */
+public class BubbleWorldTest {
+
+    private static final float DELTA = 0.0001f;
+    private static final int STRESS_BUBBLES = 10000;
+    private static final int STRESS_TICKS = 60;
+    private static final int STRESS_SAMPLE = 997;
+
+    private BubbleWorld world;
+
+    /**
+     * Set up an empty world.
+     */
+    @Before
+    public void setUp() {
+        world = new BubbleWorld(2);
+    }
+
+    /**
+     * Bubbles in the world should move like Bubbles.
+     */
+    @Test
+    public void moveTest() {
+        Bubble bubble = new Bubble(2, 100, 50, 4, -3);
+        int index = world.add(bubble);
+        for(int i = 0; i < 10; i++) {
+            bubble.move();
+            world.move();
+        }
+        assertSameBubble(bubble, index);
+    }
+
+    /**
+     * Splitting in the world should give the same bubbles as Bubble.split.
+     */
+    @Test
+    public void splitTest() {
+        Bubble bubble = new Bubble(3, 100, 50, -4, 2);
+        world.add(bubble);
+        world.add(2, 300, 300);
+        List<Bubble> halves = bubble.split();
+
+        world.setCollided(0);
+        world.splitCollided();
+        assertEquals(3, world.getCount());
+        assertEquals(300, world.getCenterX(0), DELTA);
+        assertSameBubble(halves.get(0), 1);
+        assertSameBubble(halves.get(1), 2);
+    }
+
+    /**
+     * The smallest bubbles should disappear when hit.
+     */
+    @Test
+    public void splitSmallestTest() {
+        world.add(1, 100, 100);
+        assertEquals(1, world.hitArea(95, 0, 105, 200));
+        world.update();
+        assertEquals(0, world.getCount());
+    }
+
+    /**
+     * Bubbles should bounce off the sides of the area.
+     */
+    @Test
+    public void bounceInsideTest() {
+        world.add(1, 5, 100, -3, 0);
+        world.add(1, 100, 395, 3, 5);
+        world.bounceInside(0, 0, 400, 400);
+        assertEquals(3, world.getVelocityX(0), DELTA);
+        assertEquals(-13, world.getVelocityY(1), DELTA);
+    }
+
+    /**
+     * The view should show the bubble it points at.
+     */
+    @Test
+    public void viewTest() {
+        world.add(1, 10, 20);
+        world.add(2, 30, 40, 1, 2);
+        BubbleView view = new BubbleView(world);
+        assertEquals(10, view.at(0).getCenterX(), DELTA);
+        assertEquals(2, view.at(1).getSize());
+        assertEquals(40, view.getCenterY(), DELTA);
+        view.bounceXLeft();
+        assertEquals(-1, world.getVelocityX(1), DELTA);
+        view.setCollided();
+        assertTrue(world.isCollided(1));
+        assertFalse(view.at(0).getCollidedStatus());
+    }
+
+    /**
+     * The view should not point outside the world.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void viewOutOfBoundsTest() {
+        new BubbleView(world).at(0);
+    }
+
+    /**
+     * Ten thousand bubbles should move like each of them would on its own.
+     */
+    @Test
+    public void stressTest() {
+        for(int i = 0; i < STRESS_BUBBLES; i++) {
+            addStressBubble(world, i);
+        }
+        runStressTicks(world);
+        assertEquals(STRESS_BUBBLES, world.getCount());
+        for(int i = 0; i < STRESS_BUBBLES; i += STRESS_SAMPLE) {
+            BubbleWorld single = new BubbleWorld(1);
+            addStressBubble(single, i);
+            runStressTicks(single);
+            assertEquals(single.getCenterX(0), world.getCenterX(i), DELTA);
+            assertEquals(single.getCenterY(0), world.getCenterY(i), DELTA);
+            assertEquals(single.getVelocityX(0), world.getVelocityX(i), DELTA);
+            assertEquals(single.getVelocityY(0), world.getVelocityY(i), DELTA);
+        }
+    }
+
+    /**
+     * Adds a bubble of the stress test to a world.
+     * @param target World to add the bubble to.
+     * @param i Number of the bubble in the stress test.
+     */
+    private static void addStressBubble(BubbleWorld target, int i) {
+        target.add(1 + i % 4, 50 + i % 1100, 50 + i % 500);
+    }
+
+    /**
+     * Simulates the ticks of the stress test in a world of the size of the screen.
+     * @param target World to simulate.
+     */
+    private static void runStressTicks(BubbleWorld target) {
+        for(int i = 0; i < STRESS_TICKS; i++) {
+            target.update();
+            target.bounceInside(0, 0, 1280, 720);
+        }
+    }
+
+    /**
+     * Check that the bubble in the world has the same state as the Bubble.
+     * @param bubble Expected state.
+     * @param index Index of the bubble in the world.
+     */
+    private void assertSameBubble(Bubble bubble, int index) {
+        assertEquals(bubble.getSize(), world.getSize(index));
+        assertEquals(bubble.getCenterX(), world.getCenterX(index), DELTA);
+        assertEquals(bubble.getCenterY(), world.getCenterY(index), DELTA);
+        assertEquals(bubble.getVelocityX(), world.getVelocityX(index), DELTA);
+        assertEquals(bubble.getVelocityY(), world.getVelocityY(index), DELTA);
+        assertEquals(bubble.getAccelerationY(), world.getAccelerationY(index), DELTA);
+        assertEquals(bubble, world.toBubble(index));
+    }
+}
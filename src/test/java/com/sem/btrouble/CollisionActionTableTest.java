@@ -0,0 +1,119 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.controller.Collidable;
+import com.sem.btrouble.controller.CollisionAction;
+import com.sem.btrouble.controller.CollisionActionTable;
+import com.sem.btrouble.controller.CollisionHandler;
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Floor;
+import com.sem.btrouble.model.Player;
+import com.sem.btrouble.model.Rope;
+import com.sem.btrouble.model.Wall;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the CollisionActionTable and the cached collision actions.
+ */
+public class CollisionActionTableTest {
+
+    private static final int BUBBLES = 50;
+    private static final int WARMUP_TICKS = 50;
+    private static final int MEASURED_TICKS = 100;
+    private static final long MAX_BYTES_PER_TICK = 1024;
+
+    /**
+     * The table should return the actions it was built with.
+     */
+    @Test
+    public void lookupTest() {
+        CollisionAction action = new CollisionAction() {
+            @Override
+            public void onCollision(Collidable collider) {
+            }
+        };
+        Map<Class<? extends Collidable>, CollisionAction> actions = new HashMap<>();
+        actions.put(Wall.class, action);
+        CollisionActionTable table = new CollisionActionTable(actions);
+
+        assertSame(action, table.get(Wall.class));
+        assertNull(table.get(Floor.class));
+        assertNull(table.get("Wall"));
+        assertTrue(table.containsKey(Wall.class));
+        assertFalse(table.containsKey(Floor.class));
+        assertEquals(1, table.size());
+        assertEquals(actions, table);
+    }
+
+    /**
+     * The table should not be modifiable.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void immutableTest() {
+        new Bubble(1, 0, 0).getCollideActions().put(Wall.class, new CollisionAction() {
+            @Override
+            public void onCollision(Collidable collider) {
+            }
+        });
+    }
+
+    /**
+     * Collidables should build their actions only once.
+     */
+    @Test
+    public void cachedTest() {
+        Bubble bubble = new Bubble(1, 0, 0);
+        assertSame(bubble.getCollideActions(), bubble.getCollideActions());
+        Player player = new Player(0, 0);
+        assertSame(player.getCollideActions(), player.getCollideActions());
+        Rope rope = new Rope(0, 0);
+        assertSame(rope.getCollideActions(), rope.getCollideActions());
+        Wall wall = new Wall(0, 0, 10, 10);
+        assertSame(wall.getCollideActions(), wall.getCollideActions());
+    }
+
+    /**
+     * Checking collisions between many overlapping bubbles should not allocate
+     * per pair once the collision structures have grown large enough.
+     */
+    @Test
+    public void steadyStateAllocationTest() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        List<Bubble> bubbles = new ArrayList<>();
+        for(int i = 0; i < BUBBLES; i++) {
+            bubbles.add(new Bubble(2, 100 + i * 2, 100, 0, 0));
+        }
+        CollisionHandler collisionHandler = new CollisionHandler();
+        collisionHandler.addListReference(bubbles);
+
+        for(int i = 0; i < WARMUP_TICKS; i++) {
+            collisionHandler.checkAllCollisions();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < MEASURED_TICKS; i++) {
+            collisionHandler.checkAllCollisions();
+        }
+        long perTick = (threadBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_TICKS;
+
+        assertEquals(BUBBLES, collisionHandler.getSize());
+        assertTrue("Allocated " + perTick + " bytes per tick", perTick < MAX_BYTES_PER_TICK);
+    }
+}
@@ -0,0 +1,73 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.controller.CollisionInterestMatrix;
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Floor;
+import com.sem.btrouble.model.Player;
+import com.sem.btrouble.model.Rope;
+import com.sem.btrouble.model.Wall;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the CollisionInterestMatrix.
+ */
+public class CollisionInterestMatrixTest {
+
+    private CollisionInterestMatrix matrix;
+
+    /**
+     * Set up the matrix.
+     */
+    @Before
+    public void setUp() {
+        matrix = new CollisionInterestMatrix();
+    }
+
+    /**
+     * A class should only be registered once.
+     */
+    @Test
+    public void registerTest() {
+        int id = matrix.register(new Wall(0, 0, 1, 1));
+        assertEquals(id, matrix.register(new Wall(1, 1, 1, 1)));
+        assertEquals(1, matrix.getTypeCount());
+        matrix.register(new Floor(0, 0, 1, 1));
+        assertEquals(2, matrix.getTypeCount());
+    }
+
+    /**
+     * Borders have no actions for each other.
+     */
+    @Test
+    public void borderPairTest() {
+        assertFalse(matrix.isInterested(new Wall(0, 0, 1, 1), new Floor(0, 0, 1, 1)));
+        assertFalse(matrix.isInterested(new Floor(0, 0, 1, 1), new Floor(0, 0, 1, 1)));
+    }
+
+    /**
+     * One interested side is enough, in both orders.
+     */
+    @Test
+    public void oneSideInterestedTest() {
+        Bubble bubble = new Bubble(1, 0, 0);
+        Wall wall = new Wall(0, 0, 1, 1);
+        assertTrue(matrix.isInterested(bubble, wall));
+        assertTrue(matrix.isInterested(wall, bubble));
+        assertTrue(matrix.isInterested(bubble, new Bubble(2, 0, 0)));
+    }
+
+    /**
+     * Players and ropes do not have actions for each other.
+     */
+    @Test
+    public void playerRopeTest() {
+        Player player = new Player(0, 0);
+        assertFalse(matrix.isInterested(player, new Rope(0, 0, player)));
+        assertTrue(matrix.isInterested(player, new Bubble(1, 0, 0)));
+    }
+}
@@ -0,0 +1,152 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.controller.EntityList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the EntityList.
+ */
+public class EntityListTest {
+
+    private EntityList<String> list;
+
+    /**
+     * Set up a list with three entities.
+     */
+    @Before
+    public void setUp() {
+        list = new EntityList<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+    }
+
+    /**
+     * Entities added while iterating should only be seen by new iterators.
+     */
+    @Test
+    public void addWhileIteratingTest() {
+        int seen = 0;
+        for(String entity : list) {
+            list.add(entity + entity);
+            seen++;
+        }
+        assertEquals(3, seen);
+        assertEquals(6, list.size());
+        assertEquals(Arrays.asList("a", "b", "c", "aa", "bb", "cc"), list);
+    }
+
+    /**
+     * Entities removed while iterating should be skipped.
+     */
+    @Test
+    public void removeWhileIteratingTest() {
+        StringBuilder seen = new StringBuilder();
+        for(String entity : list) {
+            seen.append(entity);
+            list.remove("b");
+        }
+        assertEquals("ac", seen.toString());
+        assertEquals(Arrays.asList("a", "c"), list);
+        assertEquals("c", list.get(1));
+    }
+
+    /**
+     * Removing through the iterator should remove the last returned entity.
+     */
+    @Test
+    public void iteratorRemoveTest() {
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(2, list.size());
+        assertFalse(list.contains("a"));
+        assertTrue(iterator.hasNext());
+        assertEquals("b", iterator.next());
+    }
+
+    /**
+     * Flushing should compact the list and keep the order.
+     */
+    @Test
+    public void flushTest() {
+        list.remove(0);
+        list.add("d");
+        list.flush();
+        assertEquals(Arrays.asList("b", "c", "d"), list);
+        for(int i = 0; i < 100; i++) {
+            list.add("e" + i);
+        }
+        list.clear();
+        list.flush();
+        assertTrue(list.isEmpty());
+        list.add("f");
+        assertEquals("f", list.get(0));
+    }
+
+    /**
+     * Growing the list while iterating should not disturb the iterator.
+     */
+    @Test
+    public void growWhileIteratingTest() {
+        Iterator<String> iterator = list.iterator();
+        for(int i = 0; i < 100; i++) {
+            list.add("e" + i);
+        }
+        list.remove("c");
+        assertEquals("a", iterator.next());
+        assertEquals("b", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(102, list.size());
+    }
+
+    /**
+     * Entities should be removed by identity, and only be in the list once.
+     */
+    @Test
+    public void identityTest() {
+        String copy = new String("a");
+        assertFalse(list.remove(copy));
+        assertFalse(list.add("a"));
+        assertTrue(list.add(copy));
+        assertTrue(list.remove("a"));
+        assertEquals(Arrays.asList("b", "c", "a"), list);
+        assertTrue(list.get(2) == copy);
+    }
+
+    /**
+     * Access by index should see the entities in order while there are empty slots.
+     */
+    @Test
+    public void getWithEmptySlotsTest() {
+        for(int i = 0; i < 100; i++) {
+            list.add("e" + i);
+        }
+        list.remove("b");
+        list.remove(50);
+        list.add("f");
+        assertEquals("a", list.get(0));
+        assertEquals("c", list.get(1));
+        assertEquals("e47", list.get(49));
+        assertEquals("e49", list.get(50));
+        assertEquals("f", list.get(101));
+        assertEquals(102, list.size());
+    }
+
+    /**
+     * Indices outside the list should be rejected.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBoundsTest() {
+        list.remove("a");
+        list.get(2);
+    }
+}
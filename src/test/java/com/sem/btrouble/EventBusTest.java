@@ -0,0 +1,165 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.event.BubbleEvent;
+import com.sem.btrouble.event.BubblePoppedEvent;
+import com.sem.btrouble.event.ControllerEvent;
+import com.sem.btrouble.event.Event;
+import com.sem.btrouble.event.EventBus;
+import com.sem.btrouble.event.EventListener;
+import com.sem.btrouble.event.PlayerEvent;
+import com.sem.btrouble.model.Player;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test for the EventBus.
+ */
+public class EventBusTest {
+
+    private EventBus bus;
+    private List<String> received;
+
+    /**
+     * Create an empty bus.
+     */
+    @Before
+    public void setUp() {
+        bus = new EventBus();
+        received = new ArrayList<>();
+    }
+
+    /**
+     * Creates a listener that records the events it receives.
+     * @param name the name of the listener.
+     * @param <E> the type of the events.
+     * @return the listener.
+     */
+    private <E extends Event> EventListener<E> listener(final String name) {
+        return new EventListener<E>() {
+            @Override
+            public void update(E event) {
+                received.add(name + " " + event);
+            }
+        };
+    }
+
+    /**
+     * Events should only be delivered to the listeners of their type
+     * and to the listeners of all events.
+     */
+    @Test
+    public void typedTest() {
+        bus.subscribe(ControllerEvent.class, this.<ControllerEvent>listener("controller"));
+        bus.subscribe(PlayerEvent.class, this.<PlayerEvent>listener("player"));
+        bus.subscribe(Event.class, this.<Event>listener("all"));
+        bus.publish(PlayerEvent.SHOOT);
+        bus.publish(BubbleEvent.COLLISION_ROPE);
+        assertEquals("[player SHOOT, all SHOOT, all COLLISION_ROPE]", received.toString());
+    }
+
+    /**
+     * Posted events should wait for dispatch and keep their order.
+     */
+    @Test
+    public void deferredTest() {
+        bus.subscribe(ControllerEvent.class, this.<ControllerEvent>listener("controller"));
+        for(int i = 0; i < 100; i++) {
+            bus.post(ControllerEvent.GAMEWON);
+            bus.post(ControllerEvent.GAMELOST);
+        }
+        assertEquals(0, received.size());
+        assertEquals(200, bus.getPending());
+        assertEquals(200, bus.dispatch());
+        assertEquals(0, bus.getPending());
+        assertEquals("controller GAMEWON", received.get(0));
+        assertEquals("controller GAMELOST", received.get(199));
+    }
+
+    /**
+     * A removed listener should not receive events anymore.
+     */
+    @Test
+    public void unsubscribeTest() {
+        EventListener<PlayerEvent> first = listener("first");
+        EventListener<PlayerEvent> second = listener("second");
+        bus.subscribe(PlayerEvent.class, first);
+        bus.subscribe(PlayerEvent.class, second);
+        bus.unsubscribe(PlayerEvent.class, first);
+        assertEquals(1, bus.getListenerCount(PlayerEvent.class));
+        bus.publish(PlayerEvent.SHOOT);
+        assertEquals("[second SHOOT]", received.toString());
+    }
+
+    /**
+     * Pooled events should be returned to the pool after dispatch and reused.
+     */
+    @Test
+    public void pooledTest() {
+        final Player player = new Player(1f, 1f);
+        final List<Integer> sizes = new ArrayList<>();
+        bus.subscribe(BubblePoppedEvent.class, new EventListener<BubblePoppedEvent>() {
+            @Override
+            public void update(BubblePoppedEvent event) {
+                sizes.add(event.getSize());
+                assertSame(player, event.getPlayer());
+            }
+        });
+        int created = BubblePoppedEvent.getPool(bus).getCreated();
+
+        BubblePoppedEvent first = BubblePoppedEvent.obtain(bus, 3, 10f, 20f, player);
+        bus.post(first);
+        bus.dispatch();
+        assertNull(first.getPlayer());
+        assertEquals(1, BubblePoppedEvent.getPool(bus).getFree());
+        for(int i = 0; i < 100; i++) {
+            BubblePoppedEvent event = BubblePoppedEvent.obtain(bus, 2, 0f, 0f, player);
+            assertSame(first, event);
+            bus.publish(event);
+        }
+        assertEquals(101, sizes.size());
+        assertEquals(3, (int) sizes.get(0));
+        assertEquals(created + 1, BubblePoppedEvent.getPool(bus).getCreated());
+    }
+
+    /**
+     * Every bus should have its own pools, so buses on different threads
+     * never hand out the same event.
+     */
+    @Test
+    public void poolPerBusTest() {
+        EventBus other = new EventBus();
+        assertSame(BubblePoppedEvent.getPool(bus), BubblePoppedEvent.getPool(bus));
+        assertNotSame(BubblePoppedEvent.getPool(bus), BubblePoppedEvent.getPool(other));
+
+        BubblePoppedEvent event = BubblePoppedEvent.obtain(other, 1, 0f, 0f, null);
+        other.publish(event);
+        assertEquals(1, BubblePoppedEvent.getPool(other).getFree());
+        assertEquals(0, BubblePoppedEvent.getPool(bus).getFree());
+        assertNotSame(event, BubblePoppedEvent.obtain(bus, 1, 0f, 0f, null));
+    }
+
+    /**
+     * Events posted by a listener during dispatch should be dispatched as well.
+     */
+    @Test
+    public void postDuringDispatchTest() {
+        bus.subscribe(PlayerEvent.class, new EventListener<PlayerEvent>() {
+            @Override
+            public void update(PlayerEvent event) {
+                bus.post(ControllerEvent.NEXTROOM);
+            }
+        });
+        bus.subscribe(ControllerEvent.class, this.<ControllerEvent>listener("controller"));
+        bus.post(PlayerEvent.SHOOT);
+        assertEquals(2, bus.dispatch());
+        assertEquals("[controller NEXTROOM]", received.toString());
+    }
+}
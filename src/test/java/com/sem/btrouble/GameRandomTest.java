@@ -0,0 +1,88 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.controller.Level;
+import com.sem.btrouble.model.PowerUp;
+import com.sem.btrouble.model.PowerUpFactory;
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.tools.GameRandom;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the seeded random numbers of a level.
+ */
+public class GameRandomTest {
+
+    @Test
+    public void sameSeedSameSequenceTest() {
+        GameRandom first = new GameRandom(42);
+        GameRandom second = new GameRandom(42);
+        for(int i = 0; i < 1000; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+    }
+
+    @Test
+    public void differentSeedTest() {
+        assertNotEquals(new GameRandom(1).nextLong(), new GameRandom(2).nextLong());
+    }
+
+    @Test
+    public void zeroSeedTest() {
+        GameRandom random = new GameRandom(0);
+        assertNotEquals(random.nextLong(), random.nextLong());
+        assertEquals(0, random.getSeed());
+    }
+
+    @Test
+    public void rangeTest() {
+        GameRandom random = new GameRandom(7);
+        int[] counts = new int[5];
+        for(int i = 0; i < 10000; i++) {
+            double value = random.nextDouble();
+            assertTrue(value >= 0 && value < 1);
+            float single = random.nextFloat();
+            assertTrue(single >= 0 && single < 1);
+            counts[random.nextInt(5)]++;
+        }
+        for(int count : counts) {
+            assertTrue(count > 1800 && count < 2200);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void badBoundTest() {
+        new GameRandom(7).nextInt(0);
+    }
+
+    @Test
+    public void splitTest() {
+        GameRandom parent = new GameRandom(9);
+        GameRandom child = parent.split();
+        GameRandom again = new GameRandom(9).split();
+        assertEquals(child.getSeed(), again.getSeed());
+        assertEquals(child.nextLong(), again.nextLong());
+        assertNotEquals(parent.nextLong(), child.nextLong());
+    }
+
+    @Test
+    public void powerUpDropsTest() {
+        GameRandom first = new GameRandom(5);
+        GameRandom second = new GameRandom(5);
+        for(int i = 0; i < 100; i++) {
+            PowerUp drop = PowerUpFactory.generate(1, 1, first);
+            assertEquals(drop, PowerUpFactory.generate(1, 1, second));
+        }
+    }
+
+    @Test
+    public void levelSeedTest() {
+        Level first = new Level(new Room(), 11);
+        Level second = new Level(new Room(), 11);
+        assertEquals(11, first.getSeed());
+        assertEquals(first.getRandom().nextLong(), second.getRandom().nextLong());
+    }
+}
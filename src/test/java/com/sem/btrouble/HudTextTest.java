@@ -0,0 +1,72 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.view.HudText;
+import org.junit.Test;
+import org.newdawn.slick.Graphics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the HudText.
+ */
+public class HudTextTest {
+
+    /**
+     * The text should contain the label and the value.
+     */
+    @Test
+    public void textTest() {
+        HudText text = new HudText("Player 1: ");
+        text.setValue(250);
+        assertEquals("Player 1: 250", text.getText());
+        assertEquals(250, text.getValue());
+        text.setValue(-3);
+        assertEquals("Player 1: -3", text.getText());
+        assertEquals("0", new HudText().getText());
+    }
+
+    /**
+     * The text should only be rebuilt when the value changes.
+     */
+    @Test
+    public void rebuildTest() {
+        HudText text = new HudText();
+        assertTrue(text.setValue(100));
+        String first = text.getText();
+        for(int i = 0; i < 100; i++) {
+            assertFalse(text.setValue(100));
+        }
+        assertSame(first, text.getText());
+        assertEquals(1, text.getRebuilds());
+        assertTrue(text.setValue(200));
+        assertEquals(2, text.getRebuilds());
+    }
+
+    /**
+     * Drawing every frame should draw the same text until the value changes.
+     */
+    @Test
+    public void drawTest() {
+        final List<String> drawn = new ArrayList<>();
+        Graphics graphics = new Graphics() {
+            @Override
+            public void drawString(String string, float x, float y) {
+                drawn.add(string);
+            }
+        };
+        HudText text = new HudText("Player 2: ");
+        text.draw(graphics, 5, 0, 0);
+        text.draw(graphics, 5, 0, 0);
+        text.draw(graphics, 6, 0, 0);
+        assertEquals(3, drawn.size());
+        assertSame(drawn.get(0), drawn.get(1));
+        assertEquals("Player 2: 6", drawn.get(2));
+        assertEquals(2, text.getRebuilds());
+    }
+}
@@ -0,0 +1,147 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.tools.LayerCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.newdawn.slick.Graphics;
+import org.newdawn.slick.Image;
+import org.newdawn.slick.SlickException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the LayerCache.
+ */
+public class LayerCacheTest {
+
+    private List<Graphics> painted;
+    private int blits;
+    private Image image;
+    private Graphics offscreen;
+    private Graphics screen;
+    private LayerCache.Painter painter;
+
+    /**
+     * Create an offscreen image and graphics that do not need OpenGL.
+     */
+    @Before
+    public void setUp() {
+        painted = new ArrayList<>();
+        blits = 0;
+        offscreen = new Graphics() {
+            @Override
+            public void clear() {
+            }
+
+            @Override
+            public void flush() {
+            }
+        };
+        screen = new Graphics();
+        image = new Image() {
+            @Override
+            public Graphics getGraphics() {
+                return offscreen;
+            }
+
+            @Override
+            public void draw(float x, float y) {
+                blits++;
+            }
+
+            @Override
+            public void destroy() {
+                destroyed = true;
+            }
+        };
+        painter = new LayerCache.Painter() {
+            @Override
+            public void paint(Graphics graphics) {
+                painted.add(graphics);
+            }
+        };
+    }
+
+    /**
+     * Creates a cache with the offscreen image.
+     * @return the cache.
+     */
+    private LayerCache cache() {
+        return new LayerCache(1280, 720, painter) {
+            @Override
+            protected Image createImage(int width, int height) {
+                return image;
+            }
+        };
+    }
+
+    /**
+     * The layer should be painted once and then drawn from the image.
+     */
+    @Test
+    public void cachedTest() {
+        LayerCache cache = cache();
+        for(int i = 0; i < 10; i++) {
+            cache.draw(screen);
+        }
+        assertTrue(cache.isCached());
+        assertEquals(1, cache.getPaints());
+        assertEquals(1, painted.size());
+        assertSame(offscreen, painted.get(0));
+        assertEquals(10, blits);
+    }
+
+    /**
+     * An invalidated layer should be painted again on the next draw.
+     */
+    @Test
+    public void invalidateTest() {
+        LayerCache cache = cache();
+        cache.draw(screen);
+        cache.invalidate();
+        assertFalse(cache.isCached());
+        cache.draw(screen);
+        cache.draw(screen);
+        assertEquals(2, cache.getPaints());
+        assertEquals(3, blits);
+    }
+
+    /**
+     * A destroyed layer should destroy its image and create a new one when drawn.
+     */
+    @Test
+    public void destroyTest() {
+        LayerCache cache = cache();
+        cache.draw(screen);
+        cache.destroy();
+        assertTrue(image.isDestroyed());
+        assertFalse(cache.isCached());
+        cache.draw(screen);
+        assertEquals(2, cache.getPaints());
+    }
+
+    /**
+     * Without offscreen images the layer should be painted on the screen every frame.
+     */
+    @Test
+    public void unsupportedTest() {
+        LayerCache cache = new LayerCache(1280, 720, painter) {
+            @Override
+            protected Image createImage(int width, int height) throws SlickException {
+                throw new SlickException("No offscreen images");
+            }
+        };
+        cache.draw(screen);
+        cache.draw(screen);
+        assertFalse(cache.isCached());
+        assertEquals(2, cache.getPaints());
+        assertSame(screen, painted.get(1));
+        assertEquals(0, blits);
+    }
+}
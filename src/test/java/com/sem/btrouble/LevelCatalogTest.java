@@ -0,0 +1,138 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Movable;
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.tools.DataLoader;
+import com.sem.btrouble.tools.LevelCatalog;
+import org.junit.Before;
+import org.junit.Test;
+import org.newdawn.slick.geom.Rectangle;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the LevelCatalog.
+ */
+public class LevelCatalogTest {
+
+    private DataLoader dataLoader;
+    private LevelCatalog catalog;
+
+    /**
+     * Load the standard data file.
+     */
+    @Before
+    public void setUp() {
+        dataLoader = new DataLoader(DataLoader.STANDARD_LOCATION);
+        catalog = LevelCatalog.load(DataLoader.STANDARD_LOCATION);
+    }
+
+    /**
+     * The catalog should contain the same levels as the DataLoader.
+     */
+    @Test
+    public void sizeTest() {
+        assertTrue(catalog.size() > 0);
+        for(int i = 0; i <= catalog.size(); i++) {
+            assertEquals(dataLoader.hasRoom(i), catalog.hasLevel(i));
+        }
+        assertFalse(catalog.hasLevel(-1));
+    }
+
+    /**
+     * Every room should equal the room of the DataLoader.
+     */
+    @Test
+    public void createRoomTest() {
+        for(int i = 0; i < catalog.size(); i++) {
+            Room expected = dataLoader.loadRoom(i);
+            Room actual = catalog.createRoom(i);
+            assertEquals(expected, actual);
+            assertBordersEqual(expected.getWalls(), actual.getWalls());
+            assertBordersEqual(expected.getFloors(), actual.getFloors());
+            assertBordersEqual(expected.getMoveableWalls(), actual.getMoveableWalls());
+            assertBordersEqual(expected.getMoveableFloors(), actual.getMoveableFloors());
+        }
+    }
+
+    /**
+     * Every list of bubbles should equal the bubbles of the DataLoader.
+     */
+    @Test
+    public void createBubblesTest() {
+        for(int i = 0; i < catalog.size(); i++) {
+            assertEquals(dataLoader.loadBubbles(i), catalog.createBubbles(i));
+        }
+    }
+
+    /**
+     * Every call should create new objects.
+     */
+    @Test
+    public void freshInstancesTest() {
+        Room first = catalog.createRoom(0);
+        Room second = catalog.createRoom(0);
+        assertNotSame(first, second);
+        assertNotSame(first.getWalls().get(0), second.getWalls().get(0));
+
+        List<Bubble> bubbles = catalog.createBubbles(0);
+        bubbles.get(0).move();
+        assertEquals(dataLoader.loadBubbles(0), catalog.createBubbles(0));
+    }
+
+    /**
+     * An unknown index should fall back to the first level.
+     */
+    @Test
+    public void unknownIndexTest() {
+        assertEquals(catalog.createBubbles(0), catalog.createBubbles(catalog.size()));
+        assertEquals(catalog.createRoom(0), catalog.createRoom(-1));
+    }
+
+    /**
+     * A missing file should give an empty catalog with empty levels.
+     */
+    @Test
+    public void missingFileTest() {
+        LevelCatalog empty = LevelCatalog.load("random");
+        assertEquals(0, empty.size());
+        assertFalse(empty.hasLevel(0));
+        assertTrue(empty.createBubbles(0).isEmpty());
+        assertTrue(empty.createRoom(0).getWalls().isEmpty());
+    }
+
+    /**
+     * Checks that two lists of borders have the same bounds, also after moving
+     * them once, so the speed and direction are compared as well.
+     * @param expected the expected borders.
+     * @param actual the actual borders.
+     */
+    private static void assertBordersEqual(List<? extends Rectangle> expected,
+            List<? extends Rectangle> actual) {
+        assertEquals(expected.size(), actual.size());
+        for(int i = 0; i < expected.size(); i++) {
+            assertBoundsEqual(expected.get(i), actual.get(i));
+            ((Movable) expected.get(i)).move();
+            ((Movable) actual.get(i)).move();
+            assertBoundsEqual(expected.get(i), actual.get(i));
+        }
+    }
+
+    /**
+     * Checks that two rectangles have the same bounds.
+     * @param expected the expected rectangle.
+     * @param actual the actual rectangle.
+     */
+    private static void assertBoundsEqual(Rectangle expected, Rectangle actual) {
+        assertEquals(expected.getX(), actual.getX(), 0);
+        assertEquals(expected.getY(), actual.getY(), 0);
+        assertEquals(expected.getWidth(), actual.getWidth(), 0);
+        assertEquals(expected.getHeight(), actual.getHeight(), 0);
+    }
+}
@@ -0,0 +1,122 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.controller.Level;
+import com.sem.btrouble.event.ControllerEvent;
+import com.sem.btrouble.event.EventBus;
+import com.sem.btrouble.event.EventListener;
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Player;
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.observering.LevelObserver;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests that a level is won or lost exactly once.
+ */
+public class LevelOutcomeTest {
+
+    private Level level;
+    private Player player;
+    private int won;
+    private int lost;
+
+    @Before
+    public void setUp() {
+        level = new Level(new Room());
+        player = new Player(0, 0);
+        level.addPlayer(player);
+        level.registerObserver(new LevelObserver() {
+            @Override
+            public void levelWon() {
+                won++;
+            }
+
+            @Override
+            public void levelLost() {
+                lost++;
+            }
+        });
+        level.start();
+    }
+
+    @Test
+    public void alivePlayersCountedTest() {
+        Player other = new Player(0, 0);
+        level.addPlayer(other);
+        assertEquals(2, level.getAlivePlayers());
+        other.setAlive(false);
+        other.setAlive(false);
+        assertEquals(1, level.getAlivePlayers());
+        other.setAlive(true);
+        assertEquals(2, level.getAlivePlayers());
+    }
+
+    @Test
+    public void lostOnceTest() {
+        level.addBubble(Collections.singletonList(new Bubble(2, 100, 100)));
+        player.setAlive(false);
+        level.notifyObserver();
+        level.notifyObserver();
+        level.loseLevel();
+        level.winLevel();
+        assertEquals(1, lost);
+        assertEquals(0, won);
+        assertEquals(false, level.isLevelRunning());
+    }
+
+    @Test
+    public void wonOnceTest() {
+        level.notifyObserver();
+        level.notifyObserver();
+        level.winLevel();
+        level.loseLevel();
+        assertEquals(1, won);
+        assertEquals(0, lost);
+    }
+
+    @Test
+    public void decidedAgainAfterStartTest() {
+        level.winLevel();
+        level.start();
+        level.winLevel();
+        assertEquals(2, won);
+    }
+
+    @Test
+    public void noOutcomeWhilePlayingTest() {
+        level.addBubble(Collections.singletonList(new Bubble(2, 100, 100)));
+        level.notifyObserver();
+        assertEquals(0, won + lost);
+        assertEquals(1, level.getRemainingBubbles());
+    }
+
+    @Test
+    public void ownEventBusTest() {
+        EventBus events = new EventBus();
+        Level other = new Level(new Room(), 1, events);
+        final List<ControllerEvent> received = new ArrayList<>();
+        events.subscribe(ControllerEvent.class, new EventListener<ControllerEvent>() {
+            @Override
+            public void update(ControllerEvent event) {
+                received.add(event);
+            }
+        });
+        other.winLevel();
+        level.winLevel();
+
+        assertSame(events, other.getEventBus());
+        assertNotSame(events, level.getEventBus());
+        assertEquals(0, EventBus.getInstance().getPending());
+        assertEquals(1, events.dispatch());
+        assertEquals(Collections.singletonList(ControllerEvent.GAMEWON), received);
+    }
+}
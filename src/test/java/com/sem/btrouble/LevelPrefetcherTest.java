@@ -0,0 +1,109 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.tools.AssetCache;
+import com.sem.btrouble.tools.DataLoader;
+import com.sem.btrouble.tools.LevelCatalog;
+import com.sem.btrouble.tools.LevelPrefetcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.newdawn.slick.Image;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the LevelPrefetcher.
+ */
+public class LevelPrefetcherTest {
+
+    private LevelCatalog catalog;
+    private LevelPrefetcher prefetcher;
+
+    /**
+     * Create a prefetcher for the standard levels.
+     */
+    @Before
+    public void setUp() {
+        catalog = LevelCatalog.load(DataLoader.STANDARD_LOCATION);
+        prefetcher = new LevelPrefetcher(catalog);
+    }
+
+    /**
+     * Stop the background thread.
+     */
+    @After
+    public void tearDown() {
+        prefetcher.shutdown();
+    }
+
+    /**
+     * A prefetched level should be the same as a level from the catalog.
+     */
+    @Test
+    public void takeTest() {
+        prefetcher.prefetch(1);
+        LevelPrefetcher.PreparedLevel level = prefetcher.take(1);
+        assertNotNull(level);
+        assertEquals(catalog.createRoom(1), level.getRoom());
+        assertEquals(catalog.createRoom(1).getWalls().size(), level.getRoom().getWalls().size());
+        assertEquals(catalog.createBubbles(1), level.getBubbles());
+    }
+
+    /**
+     * The background should be decoded on the background thread.
+     */
+    @Test
+    public void backgroundDecodedTest() {
+        prefetcher.prefetch(0);
+        LevelPrefetcher.PreparedLevel level = prefetcher.take(0);
+        assertNotNull(level.getBackgroundData());
+        assertEquals(1280, level.getBackgroundData().getWidth());
+        assertEquals(720, level.getBackgroundData().getHeight());
+    }
+
+    /**
+     * A background that is already in the asset cache should not be decoded again.
+     */
+    @Test
+    public void cachedBackgroundTest() {
+        AssetCache assets = new AssetCache(null);
+        String path = Room.backgroundPath(catalog.getLevel(0).getBackground());
+        Image cached = new Image() {
+        };
+        assets.put(path, cached);
+        LevelPrefetcher cachedPrefetcher = new LevelPrefetcher(catalog, assets);
+        cachedPrefetcher.prefetch(0);
+        LevelPrefetcher.PreparedLevel level = cachedPrefetcher.take(0);
+        cachedPrefetcher.shutdown();
+        assertNull(level.getBackgroundData());
+        assertTrue(assets.contains(path));
+    }
+
+    /**
+     * A level can only be taken once.
+     */
+    @Test
+    public void takeOnceTest() {
+        prefetcher.prefetch(0);
+        assertNotNull(prefetcher.take(0));
+        assertNull(prefetcher.take(0));
+        assertFalse(prefetcher.isReady(0));
+    }
+
+    /**
+     * A level that was not prefetched should not be returned.
+     */
+    @Test
+    public void otherLevelTest() {
+        assertNull(prefetcher.take(0));
+        prefetcher.prefetch(0);
+        prefetcher.prefetch(2);
+        assertNull(prefetcher.take(0));
+        assertEquals(catalog.createBubbles(2), prefetcher.take(2).getBubbles());
+    }
+}
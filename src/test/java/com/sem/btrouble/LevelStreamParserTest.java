@@ -0,0 +1,121 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.tools.DataLoader;
+import com.sem.btrouble.tools.LevelDescriptor;
+import com.sem.btrouble.tools.LevelStreamParser;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the LevelStreamParser.
+ */
+public class LevelStreamParserTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private DataLoader dataLoader;
+    private LevelStreamParser parser;
+
+    /**
+     * Parse the standard data file.
+     */
+    @Before
+    public void setUp() {
+        dataLoader = new DataLoader(DataLoader.STANDARD_LOCATION);
+        parser = new LevelStreamParser(DataLoader.STANDARD_LOCATION);
+    }
+
+    /**
+     * The parser should find the same levels as the DataLoader.
+     */
+    @Test
+    public void countLevelsTest() {
+        int count = parser.countLevels();
+        assertTrue(dataLoader.hasRoom(count - 1));
+        assertFalse(dataLoader.hasRoom(count));
+    }
+
+    /**
+     * Every room and list of bubbles should equal the ones of the DataLoader.
+     */
+    @Test
+    public void sameAsDataLoaderTest() {
+        for(int i = 0; i <= parser.countLevels(); i++) {
+            Room expected = dataLoader.loadRoom(i);
+            Room actual = parser.loadRoom(i);
+            assertEquals(expected, actual);
+            assertEquals(expected.getWalls().size(), actual.getWalls().size());
+            assertEquals(expected.getFloors().size(), actual.getFloors().size());
+            assertEquals(expected.getMoveableWalls().size(), actual.getMoveableWalls().size());
+            assertEquals(expected.getMoveableFloors().size(),
+                    actual.getMoveableFloors().size());
+            assertEquals(dataLoader.loadBubbles(i), parser.loadBubbles(i));
+        }
+    }
+
+    /**
+     * Reading a range should skip the levels before it and stop after it.
+     */
+    @Test
+    public void readLevelsTest() {
+        List<LevelDescriptor> levels = parser.readLevels(1, 2);
+        assertEquals(2, levels.size());
+        assertEquals(parser.readLevel(1).getSpawnX(), levels.get(0).getSpawnX());
+        assertEquals(parser.readLevel(2).getBubbles().size(), levels.get(1).getBubbles().size());
+        assertTrue(parser.readLevels(-1, 2).isEmpty());
+        assertNull(parser.readLevel(parser.countLevels()));
+    }
+
+    /**
+     * Reading should stop after the requested level, so a broken
+     * level further in the pack does not matter.
+     * @throws IOException when the pack could not be written.
+     */
+    @Test
+    public void stopAfterLevelTest() throws IOException {
+        File pack = folder.newFile("pack.xml");
+        try (PrintWriter writer = new PrintWriter(pack, "UTF-8")) {
+            writer.println("<GameData>");
+            for(int i = 0; i < 1000; i++) {
+                writer.println("<Level spawnX=\"" + i + "\" spawnY=\"1\" background=\"b.png\">");
+                writer.println("<Wall x=\"0\" y=\"0\" width=\"20\" height=\"626\"></Wall>");
+                writer.println("<Bubble size=\"2\" x=\"640\" y=\"200\"></Bubble>");
+                writer.println("</Level>");
+            }
+            writer.println("<Level><Broken></Level>");
+        }
+        LevelStreamParser packParser = new LevelStreamParser(pack.getPath());
+        LevelDescriptor level = packParser.readLevel(999);
+        assertNotNull(level);
+        assertEquals(999, level.getSpawnX());
+        assertEquals(1, level.getWalls().size());
+        assertEquals(1, level.getBubbles().size());
+    }
+
+    /**
+     * A missing file should give empty levels.
+     */
+    @Test
+    public void missingFileTest() {
+        LevelStreamParser missing = new LevelStreamParser("random");
+        assertEquals(0, missing.countLevels());
+        assertNull(missing.readLevel(0));
+        assertTrue(missing.loadBubbles(0).isEmpty());
+        assertTrue(missing.loadRoom(0).getWalls().isEmpty());
+    }
+}
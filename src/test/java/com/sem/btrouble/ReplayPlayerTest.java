@@ -0,0 +1,167 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.event.EventBus;
+import com.sem.btrouble.game.AbstractGame;
+import com.sem.btrouble.game.MultiPlayerSurvivalGame;
+import com.sem.btrouble.game.PlayerInput;
+import com.sem.btrouble.game.Replay;
+import com.sem.btrouble.game.ReplayPlayer;
+import com.sem.btrouble.game.SinglePlayerGame;
+import com.sem.btrouble.model.Player;
+import com.sem.btrouble.model.StayRopePowerUp;
+import com.sem.btrouble.observering.LevelObserver;
+import com.sem.btrouble.tools.DataLoader;
+import com.sem.btrouble.tools.GameRandom;
+import com.sem.btrouble.tools.LevelCatalog;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that a recorded game plays the same when it is played again.
+ */
+public class ReplayPlayerTest {
+
+    private static final LevelObserver NO_VIEW = new LevelObserver() {
+        @Override
+        public void levelWon() {
+        }
+
+        @Override
+        public void levelLost() {
+        }
+    };
+
+    private LevelCatalog levels;
+
+    @Before
+    public void setUp() {
+        levels = LevelCatalog.load(DataLoader.STANDARD_LOCATION);
+    }
+
+    @After
+    public void tearDown() {
+        EventBus.getInstance().clear();
+    }
+
+    @Test
+    public void singlePlayerTest() throws IOException {
+        long seed = 1234L;
+        AbstractGame game = new SinglePlayerGame(levels.createRoom(0), NO_VIEW, seed);
+        game.spawnBubbles(levels.createBubbles(0));
+        Player player = new Player(1f, 1f);
+        game.addPlayer(player);
+        Replay replay = new Replay(0, seed, false, 1);
+        record(game, replay, 600, 1, player);
+
+        ReplayPlayer replayed = new ReplayPlayer(reread(replay), levels);
+        assertEquals(600, replayed.run());
+        assertFalse(replayed.step());
+        assertSame(game, new Player[] {player}, replayed);
+    }
+
+    @Test
+    public void survivalTest() throws IOException {
+        long seed = 99L;
+        AbstractGame game = new MultiPlayerSurvivalGame(levels.createRoom(1), NO_VIEW, seed);
+        Player second = new Player(2f, 2f);
+        game.addPlayer(second);
+        Player player = new Player(1f, 1f);
+        game.addPlayer(player);
+        game.spawnBubbles(levels.createBubbles(1));
+        Replay replay = new Replay(1, seed, true, 2);
+        record(game, replay, 1500, 2, player, second);
+
+        ReplayPlayer replayed = new ReplayPlayer(reread(replay), levels);
+        replayed.run();
+        assertSame(game, new Player[] {player, second}, replayed);
+    }
+
+    @Test
+    public void shopStateTest() throws IOException {
+        long seed = 4321L;
+        AbstractGame game = new SinglePlayerGame(levels.createRoom(0), NO_VIEW, seed);
+        game.spawnBubbles(levels.createBubbles(0));
+        Player player = new Player(1f, 1f);
+        player.loseLife();
+        player.getWallet().setValue(700);
+        player.getWallet().addPowerUp(new StayRopePowerUp(0));
+        game.addPlayer(player);
+        Replay replay = new Replay(0, seed, false, 1);
+        replay.setPlayer(0, player);
+        record(game, replay, 900, 1, player);
+
+        ReplayPlayer replayed = new ReplayPlayer(reread(replay), levels);
+        assertNotNull(replayed.getPlayers()[0].getWallet()
+                .containsPowerUp(StayRopePowerUp.class));
+        replayed.run();
+        assertSame(game, new Player[] {player}, replayed);
+    }
+
+    @Test
+    public void timeoutTest() throws IOException {
+        Replay replay = new Replay(0, 5L, false, 1);
+        replay.addFrame(16, 0, AbstractGame.LEVEL_STARTED);
+        replay.addFrame(16, PlayerInput.RIGHT, 0);
+        replay.addFrame(16, 0, AbstractGame.LEVEL_TIMED_OUT);
+        ReplayPlayer replayed = new ReplayPlayer(replay, levels);
+        assertTrue(replayed.step());
+        assertTrue(replayed.getGame().isLevelRunning());
+        replayed.run();
+        assertFalse(replayed.getGame().isLevelRunning());
+        assertTrue(replayed.isLost());
+    }
+
+    /**
+     * Plays a game with random input, like a game state does, and records it.
+     */
+    private static void record(AbstractGame game, Replay replay, int frames, int players,
+            Player... order) {
+        GameRandom input = new GameRandom(7);
+        for(int i = 0; i < frames; i++) {
+            int delta = 15 + input.nextInt(4);
+            int buttons = 0;
+            for(int p = 0; p < players; p++) {
+                buttons = PlayerInput.press(buttons, p, input.nextInt(3) == 0,
+                        input.nextInt(3) == 0, input.nextInt(20) == 0);
+            }
+            int changes = i == 0 ? AbstractGame.LEVEL_STARTED : 0;
+            game.applyInput(buttons, delta, order);
+            game.replayLevelChanges(changes);
+            game.updateGame(delta);
+            replay.addFrame(delta, buttons, changes);
+        }
+    }
+
+    private static Replay reread(Replay replay) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        replay.write(output);
+        return Replay.read(new ByteArrayInputStream(output.toByteArray()));
+    }
+
+    private static void assertSame(AbstractGame game, Player[] players, ReplayPlayer replayed) {
+        AbstractGame other = replayed.getGame();
+        assertTrue(game.getSimulation().getTicks() > 0);
+        assertEquals(game.getSimulation().getTicks(), other.getSimulation().getTicks());
+        assertEquals(game.isLevelRunning(), other.isLevelRunning());
+        assertEquals(game.getLevel().getRemainingBubbles(),
+                other.getLevel().getRemainingBubbles());
+        for(int i = 0; i < players.length; i++) {
+            Player player = replayed.getPlayers()[i];
+            assertEquals(players[i].getX(), player.getX(), 0f);
+            assertEquals(players[i].getY(), player.getY(), 0f);
+            assertEquals(players[i].isAlive(), player.isAlive());
+            assertEquals(players[i].getLives(), player.getLives());
+            assertEquals(players[i].getWallet().getValue(), player.getWallet().getValue());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.game.AbstractGame;
+import com.sem.btrouble.game.PlayerInput;
+import com.sem.btrouble.game.Replay;
+import com.sem.btrouble.model.Player;
+import com.sem.btrouble.model.StayRopePowerUp;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the recording of the input of a game and its file format.
+ */
+public class ReplayTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void pressTest() {
+        int buttons = PlayerInput.press(0, 0, true, true, false);
+        buttons = PlayerInput.press(buttons, 1, false, true, true);
+        assertTrue(PlayerInput.isDown(buttons, 0, PlayerInput.LEFT));
+        assertFalse(PlayerInput.isDown(buttons, 0, PlayerInput.RIGHT));
+        assertFalse(PlayerInput.isDown(buttons, 0, PlayerInput.FIRE));
+        assertFalse(PlayerInput.isDown(buttons, 1, PlayerInput.LEFT));
+        assertTrue(PlayerInput.isDown(buttons, 1, PlayerInput.RIGHT));
+        assertTrue(PlayerInput.isDown(buttons, 1, PlayerInput.FIRE));
+    }
+
+    @Test
+    public void framesTest() {
+        Replay replay = new Replay(3, 42L, true, 2);
+        for(int i = 0; i < 3000; i++) {
+            replay.addFrame(i % 20, i % 64, i == 0 ? AbstractGame.LEVEL_STARTED : 0);
+        }
+        assertEquals(3000, replay.getFrameCount());
+        assertEquals(19, replay.getDelta(19));
+        assertEquals(63, replay.getButtons(2047));
+        assertEquals(AbstractGame.LEVEL_STARTED, replay.getLevelChanges(0));
+        assertEquals(0, replay.getLevelChanges(1));
+    }
+
+    @Test
+    public void roundTripTest() throws IOException {
+        Replay replay = new Replay(3, -7L, true, 2);
+        replay.addFrame(16, 0, AbstractGame.LEVEL_STARTED);
+        replay.addFrame(17, PlayerInput.LEFT, 0);
+        replay.addFrame(17, PlayerInput.LEFT, 0);
+        replay.addFrame(5, PlayerInput.press(0, 1, false, true, true),
+                AbstractGame.LEVEL_TIMED_OUT);
+        replay.addFrame(500, 0, 0);
+
+        Replay read = Replay.read(new ByteArrayInputStream(toBytes(replay)));
+        assertEquals(3, read.getLevelIndex());
+        assertEquals(-7L, read.getSeed());
+        assertTrue(read.isSurvival());
+        assertEquals(2, read.getPlayerCount());
+        assertEquals(replay.getFrameCount(), read.getFrameCount());
+        for(int i = 0; i < replay.getFrameCount(); i++) {
+            assertEquals(replay.getDelta(i), read.getDelta(i));
+            assertEquals(replay.getButtons(i), read.getButtons(i));
+            assertEquals(replay.getLevelChanges(i), read.getLevelChanges(i));
+        }
+    }
+
+    @Test
+    public void playerStateTest() throws IOException {
+        Replay replay = new Replay(0, 1L, false, 2);
+        Player player = new Player(1f, 1f);
+        player.setLives(-1);
+        player.getWallet().setValue(12345);
+        player.getWallet().addPowerUp(new StayRopePowerUp(0));
+        replay.setPlayer(1, player);
+
+        Replay read = Replay.read(new ByteArrayInputStream(toBytes(replay)));
+        assertEquals(Player.INITIAL_LIVES, read.getLives(0));
+        assertEquals(0, read.getWalletValue(0));
+        assertEquals(0, read.getPowerUps(0));
+        assertEquals(-1, read.getLives(1));
+        assertEquals(12345, read.getWalletValue(1));
+        assertEquals(Replay.STAY_ROPE, read.getPowerUps(1));
+
+        Player restored = new Player(2f, 2f);
+        read.restorePlayer(1, restored);
+        assertEquals(-1, restored.getLives());
+        assertEquals(12345, restored.getWallet().getValue());
+        assertNotNull(restored.getWallet().containsPowerUp(StayRopePowerUp.class));
+    }
+
+    @Test
+    public void compactTest() throws IOException {
+        Replay replay = new Replay(0, 1L, false, 1);
+        for(int i = 0; i < 6000; i++) {
+            replay.addFrame(16, i / 100 % 2 == 0 ? PlayerInput.LEFT : 0, 0);
+        }
+        assertTrue(toBytes(replay).length < 300);
+    }
+
+    @Test
+    public void locationTest() {
+        String first = Replay.location("20151018-142501", 1);
+        String second = Replay.location("20151018-142501", 2);
+        assertTrue(first.startsWith(Replay.DIRECTORY + File.separator));
+        assertTrue(first.endsWith(".btr"));
+        assertNotEquals(first, second);
+        assertNotEquals(first, Replay.location("20151018-142502", 1));
+    }
+
+    @Test
+    public void saveTest() throws IOException {
+        Replay replay = new Replay(2, 3L, false, 1);
+        replay.addFrame(16, PlayerInput.FIRE, AbstractGame.LEVEL_STARTED);
+        File file = new File(folder.getRoot(), Replay.location("session", 1));
+        replay.save(file.getPath());
+
+        Replay read = Replay.load(file.getPath());
+        assertEquals(2, read.getLevelIndex());
+        assertEquals(1, read.getFrameCount());
+        assertEquals(PlayerInput.FIRE, read.getButtons(0));
+    }
+
+    @Test(expected = IOException.class)
+    public void badMagicTest() throws IOException {
+        Replay.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 1, 0}));
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedTest() throws IOException {
+        Replay replay = new Replay(0, 1L, false, 1);
+        replay.addFrame(16, 1, 0);
+        replay.addFrame(17, 2, 0);
+        byte[] bytes = toBytes(replay);
+        Replay.read(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 2)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooManyPlayersTest() {
+        new Replay(0, 1L, false, PlayerInput.MAX_PLAYERS + 1);
+    }
+
+    private static byte[] toBytes(Replay replay) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        replay.write(output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,149 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.controller.Level;
+import com.sem.btrouble.game.Simulation;
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Floor;
+import com.sem.btrouble.model.Player;
+import com.sem.btrouble.model.Room;
+import com.sem.btrouble.model.Wall;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the headless fixed timestep Simulation.
+ */
+public class SimulationTest {
+
+    private static final float DELTA = 0.001f;
+    private static final int GAMES = 200;
+
+    private Level level;
+    private Simulation simulation;
+    private int listenerTicks;
+
+    /**
+     * Set up a level in a closed room, without any rendering.
+     */
+    @Before
+    public void setUp() {
+        level = new Level(createRoom());
+        level.addPlayer(new Player(0, 0));
+        level.addBubble(Collections.singletonList(new Bubble(2, 900, 200)));
+        simulation = new Simulation(level, Simulation.DEFAULT_TICK_RATE, new Runnable() {
+            @Override
+            public void run() {
+                listenerTicks++;
+            }
+        });
+    }
+
+    /**
+     * Elapsed time should be spent in whole ticks, the rest is interpolated.
+     */
+    @Test
+    public void advanceTest() {
+        level.start();
+        assertEquals(3, simulation.advance(50));
+        assertEquals(0, simulation.advance(10));
+        assertEquals(10 / simulation.getTickMillis(), simulation.getInterpolation(), DELTA);
+        assertEquals(1, simulation.advance(10));
+        assertEquals(4, simulation.getTicks());
+        assertEquals(4, listenerTicks);
+    }
+
+    /**
+     * A long pause should not be caught up completely.
+     */
+    @Test
+    public void maxTicksTest() {
+        level.start();
+        assertEquals(10, simulation.advance(10000));
+        assertTrue(simulation.getInterpolation() < 1);
+        assertEquals(1, simulation.advance((int) simulation.getTickMillis() + 1));
+    }
+
+    /**
+     * A level that is not running should not be simulated.
+     */
+    @Test
+    public void notRunningTest() {
+        assertEquals(0, simulation.advance(100));
+        assertFalse(simulation.tick());
+        assertEquals(0, listenerTicks);
+    }
+
+    /**
+     * Interpolation should move between the previous and the current value.
+     */
+    @Test
+    public void interpolateTest() {
+        assertEquals(15, Simulation.interpolate(10, 20, .5f), DELTA);
+        assertEquals(10, Simulation.interpolate(10, 20, 0), DELTA);
+    }
+
+    /**
+     * A level without bubbles should be won right away.
+     */
+    @Test
+    public void runWonTest() {
+        Level empty = new Level(createRoom());
+        empty.addPlayer(new Player(0, 0));
+        Simulation emptySimulation = new Simulation(empty);
+        assertEquals(1, emptySimulation.run(100));
+        assertTrue(emptySimulation.isWon());
+        assertFalse(emptySimulation.isLost());
+    }
+
+    /**
+     * A bubble dropped on the player should lose the level.
+     */
+    @Test
+    public void runLostTest() {
+        Level dropped = new Level(createRoom());
+        dropped.addPlayer(new Player(0, 0));
+        dropped.addBubble(Collections.singletonList(new Bubble(1, 125, 200, 0, 0)));
+        Simulation droppedSimulation = new Simulation(dropped);
+        droppedSimulation.run(1000);
+        assertTrue(droppedSimulation.isLost());
+    }
+
+    /**
+     * Many games should be simulated without any display.
+     */
+    @Test
+    public void headlessGamesTest() {
+        long ticks = 0;
+        for(int i = 0; i < GAMES; i++) {
+            Level game = new Level(createRoom());
+            game.addPlayer(new Player(0, 0));
+            game.addBubble(Collections.singletonList(new Bubble(1 + i % 3, 300 + i, 200)));
+            Simulation gameSimulation = new Simulation(game);
+            ticks += gameSimulation.run(600);
+            assertTrue(gameSimulation.isFinished() || gameSimulation.getTicks() == 600);
+        }
+        assertTrue(ticks > GAMES);
+    }
+
+    /**
+     * Creates a closed room of 1280x720 pixels with the spawn position on the left.
+     * @return the room.
+     */
+    private static Room createRoom() {
+        List<Wall> walls = new ArrayList<>();
+        walls.add(new Wall(0, 0, 20, 720));
+        walls.add(new Wall(1260, 0, 20, 720));
+        List<Floor> floors = new ArrayList<>();
+        floors.add(new Floor(0, 0, 1280, 20));
+        floors.add(new Floor(0, 700, 1280, 20));
+        return new Room(walls, floors, 100, 500, "background1280x720.png");
+    }
+}
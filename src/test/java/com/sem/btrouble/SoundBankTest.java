@@ -0,0 +1,188 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.event.ControllerEvent;
+import com.sem.btrouble.event.EventBus;
+import com.sem.btrouble.event.PlayerEvent;
+import com.sem.btrouble.tools.SoundBank;
+import com.sem.btrouble.tools.SoundObserver;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the sound bank and the sound observer on a device that stands in for OpenAL.
+ */
+public class SoundBankTest {
+
+    private FakeDevice device;
+    private SoundBank bank;
+
+    @Before
+    public void setUp() {
+        device = new FakeDevice(8);
+        bank = new SoundBank(device, 3, 4);
+    }
+
+    @Test
+    public void decodedOnceTest() {
+        assertEquals(2, bank.preload("a.wav", "b.wav"));
+        assertEquals(2, bank.preload("a.wav", "b.wav"));
+        assertEquals(2, device.decoded.size());
+        assertTrue(bank.isLoaded("a.wav"));
+    }
+
+    @Test
+    public void missingSoundTest() {
+        assertFalse(bank.load("missing.wav"));
+        assertFalse(bank.play("missing.wav"));
+        assertEquals(1, bank.getDropped());
+    }
+
+    @Test
+    public void playQueuedUntilFlushTest() {
+        bank.load("a.wav");
+        assertTrue(bank.play("a.wav"));
+        assertEquals(0, device.played.size());
+        assertEquals(1, bank.getPending());
+        assertEquals(1, bank.flush());
+        assertEquals(0, bank.getPending());
+        assertEquals(1, device.played.size());
+        assertEquals((int) device.decoded.get("a.wav"), device.played.get(0)[1]);
+    }
+
+    @Test
+    public void queueFullTest() {
+        bank.load("a.wav");
+        for(int i = 0; i < 4; i++) {
+            assertTrue(bank.play("a.wav"));
+        }
+        assertFalse(bank.play("a.wav"));
+        assertEquals(1, bank.getDropped());
+        assertEquals(4, bank.flush());
+    }
+
+    @Test
+    public void voiceStealingTest() {
+        bank.load("a.wav");
+        for(int i = 0; i < 3; i++) {
+            bank.play("a.wav");
+        }
+        bank.flush();
+        assertEquals(0, bank.getStolen());
+        bank.play("a.wav");
+        bank.flush();
+        assertEquals(1, bank.getStolen());
+        assertEquals(device.played.get(0)[0], device.played.get(3)[0]);
+        bank.play("a.wav");
+        bank.flush();
+        assertEquals(device.played.get(1)[0], device.played.get(4)[0]);
+    }
+
+    @Test
+    public void freeVoiceReusedTest() {
+        bank.load("a.wav");
+        bank.play("a.wav");
+        bank.flush();
+        int voice = device.played.get(0)[0];
+        device.playing.remove(voice);
+        bank.play("a.wav");
+        bank.flush();
+        assertEquals(voice, device.played.get(1)[0]);
+        assertEquals(0, bank.getStolen());
+    }
+
+    @Test
+    public void limitedVoicesTest() {
+        SoundBank small = new SoundBank(new FakeDevice(2), 8, 4);
+        assertEquals(2, small.getVoiceCount());
+        SoundBank silent = new SoundBank(new FakeDevice(0), 8, 4);
+        silent.load("a.wav");
+        silent.play("a.wav");
+        assertEquals(0, silent.flush());
+        assertEquals(0, silent.getPending());
+    }
+
+    @Test
+    public void stopAllTest() {
+        bank.load("a.wav");
+        bank.play("a.wav");
+        bank.flush();
+        bank.play("a.wav");
+        bank.stopAll();
+        assertEquals(0, bank.getPending());
+        assertTrue(device.playing.isEmpty());
+    }
+
+    @Test
+    public void observerTest() {
+        EventBus bus = new EventBus();
+        new SoundObserver(bank).subscribe(bus);
+        assertEquals(3, device.decoded.size());
+        bus.publish(PlayerEvent.SHOOT);
+        bus.publish(ControllerEvent.GAMEWON);
+        assertEquals(0, device.played.size());
+        bank.flush();
+        assertEquals(3, device.decoded.size());
+        assertEquals((int) device.decoded.get(SoundObserver.WOOSH_SOUND), device.played.get(0)[1]);
+        assertEquals((int) device.decoded.get(SoundObserver.WON_SOUND), device.played.get(1)[1]);
+    }
+
+    /**
+     * Audio device that records what is decoded and played instead of using OpenAL.
+     */
+    private static final class FakeDevice implements SoundBank.Device {
+        private final int maxVoices;
+        private int voices;
+        private final Map<String, Integer> decoded = new HashMap<>();
+        private final List<int[]> played = new ArrayList<>();
+        private final List<Integer> playing = new ArrayList<>();
+
+        FakeDevice(int maxVoices) {
+            this.maxVoices = maxVoices;
+        }
+
+        @Override
+        public int createBuffer(String resource) throws IOException {
+            if(resource.startsWith("missing")) {
+                throw new IOException("Not found: " + resource);
+            }
+            decoded.put(resource, 100 + decoded.size());
+            return decoded.get(resource);
+        }
+
+        @Override
+        public int createVoice() {
+            if(voices == maxVoices) {
+                return -1;
+            }
+            return voices++;
+        }
+
+        @Override
+        public void play(int voice, int buffer, float pitch, float gain) {
+            played.add(new int[] {voice, buffer});
+            if(!playing.contains(voice)) {
+                playing.add(voice);
+            }
+        }
+
+        @Override
+        public void stop(int voice) {
+            playing.remove(Integer.valueOf(voice));
+        }
+
+        @Override
+        public boolean isPlaying(int voice) {
+            return playing.contains(voice);
+        }
+    }
+}
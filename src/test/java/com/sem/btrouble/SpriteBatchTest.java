@@ -0,0 +1,164 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.tools.AssetCache;
+import com.sem.btrouble.tools.SpriteBatch;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.newdawn.slick.Image;
+import org.newdawn.slick.opengl.Texture;
+import org.newdawn.slick.opengl.TextureImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test for the SpriteBatch.
+ */
+public class SpriteBatchTest {
+
+    private List<String> calls;
+    private SpriteBatch batch;
+
+    /**
+     * Create an empty batch.
+     */
+    @Before
+    public void setUp() {
+        calls = new ArrayList<>();
+        batch = new SpriteBatch();
+    }
+
+    /**
+     * Remove the images the tests put in the asset cache.
+     */
+    @After
+    public void tearDown() {
+        AssetCache.getInstance().clear();
+    }
+
+    /**
+     * Creates an image that records how it is drawn, without OpenGL.
+     * @param label the label of the image in the recorded calls.
+     * @return the image.
+     */
+    private Image texture(final String label) {
+        return texture(label, null);
+    }
+
+    /**
+     * Creates an image of a texture that records how it is drawn, without OpenGL.
+     * @param label the label of the image in the recorded calls.
+     * @param shared the texture of the image.
+     * @return the image.
+     */
+    private Image texture(final String label, final Texture shared) {
+        return new Image() {
+            {
+                texture = shared;
+            }
+
+            @Override
+            public void startUse() {
+                calls.add("start " + label);
+            }
+
+            @Override
+            public void drawEmbedded(float x, float y, float width, float height) {
+                calls.add(label + " " + (int) x);
+            }
+
+            @Override
+            public void endUse() {
+                calls.add("end " + label);
+            }
+
+            @Override
+            public void destroy() {
+            }
+        };
+    }
+
+    /**
+     * The amount of draw calls should not depend on the amount of sprites.
+     */
+    @Test
+    public void drawCallsTest() {
+        Image bubble = texture("bubble");
+        Image rope = texture("rope");
+        for(int sprites = 1; sprites <= 1000; sprites *= 10) {
+            for(int i = 0; i < sprites; i++) {
+                batch.draw(bubble, i, 0, 10, 10);
+                batch.draw(rope, i, 0, 10, 10);
+            }
+            assertEquals(sprites * 2, batch.size());
+            batch.flush();
+            assertEquals(2, batch.getDrawCalls());
+            assertEquals(0, batch.size());
+        }
+    }
+
+    /**
+     * Sprites should be grouped by texture, keeping the order in which they were added.
+     */
+    @Test
+    public void orderTest() {
+        Image bubble = texture("bubble");
+        Image rope = texture("rope");
+        batch.draw(bubble, 1, 0, 10, 10);
+        batch.draw(rope, 2, 0, 10, 10);
+        batch.draw(bubble, 3, 0, 10, 10);
+        batch.flush();
+        assertEquals("[start bubble, bubble 1, bubble 3, end bubble, "
+                + "start rope, rope 2, end rope]", calls.toString());
+    }
+
+    /**
+     * Flushing an empty batch should not draw anything.
+     */
+    @Test
+    public void emptyTest() {
+        batch.flush();
+        assertEquals(0, batch.getDrawCalls());
+        assertEquals(0, calls.size());
+    }
+
+    /**
+     * Images of the same texture, like sprites of an atlas, should be drawn together.
+     */
+    @Test
+    public void sharedTextureTest() {
+        Texture atlas = new TextureImpl("atlas", 0, 0);
+        Image rope = texture("rope", atlas);
+        Image life = texture("life", atlas);
+        Image bubble = texture("bubble");
+        batch.draw(rope, 1, 0, 10, 10);
+        batch.draw(bubble, 2, 0, 10, 10);
+        batch.draw(life, 3, 0, 10, 10);
+        batch.flush();
+        assertEquals(2, batch.getDrawCalls());
+        assertEquals("[start rope, rope 1, life 3, end rope, "
+                + "start bubble, bubble 2, end bubble]", calls.toString());
+    }
+
+    /**
+     * A bubble should be drawn between its position before and after the last move.
+     * @throws Exception when the sprite can not be loaded.
+     */
+    @Test
+    public void interpolationTest() throws Exception {
+        AssetCache.getInstance().put("Sprites/bubble_disc.png", texture("bubble"));
+        Bubble bubble = new Bubble(1, 100, 50, 4, 0);
+        bubble.move();
+        bubble.draw(batch, 0);
+        bubble.draw(batch, .5f);
+        bubble.draw(batch, 1);
+        batch.flush();
+        int left = (int) (100 - bubble.getRadius());
+        assertEquals("[start bubble, bubble " + left + ", bubble " + (left + 2)
+                + ", bubble " + (left + 4) + ", end bubble]", calls.toString());
+    }
+}
@@ -0,0 +1,99 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.controller.Collidable;
+import com.sem.btrouble.controller.CollisionHandler;
+import com.sem.btrouble.controller.StaticCollisionLayer;
+import com.sem.btrouble.model.Floor;
+import com.sem.btrouble.model.Player;
+import com.sem.btrouble.model.Wall;
+import com.sem.btrouble.observering.Direction;
+import org.junit.Before;
+import org.junit.Test;
+import org.newdawn.slick.geom.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the StaticCollisionLayer.
+ */
+public class StaticCollisionLayerTest {
+
+    private StaticCollisionLayer layer;
+    private List<Collidable> candidates;
+
+    /**
+     * Set up a layer of 400x200 pixels.
+     */
+    @Before
+    public void setUp() {
+        layer = new StaticCollisionLayer(new Rectangle(0, 0, 400, 200));
+        candidates = new ArrayList<>();
+    }
+
+    /**
+     * A collidable near a wall should find that wall once.
+     */
+    @Test
+    public void queryTest() {
+        Wall floor = new Wall(0, 180, 400, 20);
+        layer.add(floor);
+        layer.add(new Wall(380, 0, 20, 100));
+        layer.query(new Wall(0, 150, 300, 40), candidates);
+        assertEquals(1, candidates.size());
+        assertTrue(candidates.contains(floor));
+    }
+
+    /**
+     * Adding the same collidable twice should not duplicate it.
+     */
+    @Test
+    public void addTwiceTest() {
+        Wall wall = new Wall(0, 0, 20, 200);
+        layer.add(wall);
+        layer.add(wall);
+        assertEquals(1, layer.size());
+    }
+
+    /**
+     * A moved collidable should be found at its new position only.
+     */
+    @Test
+    public void updateTest() {
+        Wall wall = new Wall(0, 0, 20, 20, 150, Direction.DOWN);
+        layer.add(wall);
+        wall.move();
+        layer.update(wall);
+        layer.query(new Wall(0, 0, 10, 10), candidates);
+        assertTrue(candidates.isEmpty());
+        layer.query(new Wall(0, 160, 10, 10), candidates);
+        assertEquals(1, candidates.size());
+    }
+
+    /**
+     * Dynamic collidables should still collide with the static layer.
+     */
+    @Test
+    public void collisionHandlerStaticTest() {
+        CollisionHandler collisionHandler = new CollisionHandler();
+        List<Floor> floors = new ArrayList<>();
+        floors.add(new Floor(0, 150, 400, 20));
+        floors.add(new Floor(0, 160, 400, 20));
+        List<Player> players = new ArrayList<>();
+        Player player = new Player(10, 0);
+        players.add(player);
+
+        collisionHandler.addStaticListReference(floors);
+        collisionHandler.addListReference(players);
+        assertEquals(2, collisionHandler.getStaticSize());
+        assertEquals(0, collisionHandler.getSize());
+
+        collisionHandler.checkAllCollisions();
+        assertFalse(player.isFalling());
+        assertEquals(1, collisionHandler.getSize());
+    }
+}
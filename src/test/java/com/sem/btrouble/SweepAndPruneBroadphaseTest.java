@@ -0,0 +1,113 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.controller.BruteForceBroadphase;
+import com.sem.btrouble.controller.Collidable;
+import com.sem.btrouble.controller.SweepAndPruneBroadphase;
+import com.sem.btrouble.model.Wall;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the SweepAndPruneBroadphase.
+ */
+public class SweepAndPruneBroadphaseTest {
+
+    private SweepAndPruneBroadphase broadphase;
+    private List<Collidable> collidables;
+    private List<Collidable> pairs;
+
+    /**
+     * Set up the broadphase.
+     */
+    @Before
+    public void setUp() {
+        broadphase = new SweepAndPruneBroadphase();
+        collidables = new ArrayList<>();
+        pairs = new ArrayList<>();
+    }
+
+    /**
+     * Overlapping collidables should be a pair.
+     */
+    @Test
+    public void overlapTest() {
+        collidables.add(new Wall(0, 0, 10, 10));
+        collidables.add(new Wall(5, 5, 10, 10));
+        broadphase.findPairs(collidables, pairs);
+        assertEquals(2, pairs.size());
+    }
+
+    /**
+     * Collidables that only overlap on the x-axis should not be a pair.
+     */
+    @Test
+    public void noOverlapYTest() {
+        collidables.add(new Wall(0, 0, 10, 10));
+        collidables.add(new Wall(5, 50, 10, 10));
+        broadphase.findPairs(collidables, pairs);
+        assertTrue(pairs.isEmpty());
+    }
+
+    /**
+     * The order should be repaired after collidables have moved,
+     * and removed collidables should be forgotten.
+     */
+    @Test
+    public void movedAndRemovedTest() {
+        Wall left = new Wall(0, 0, 10, 10);
+        Wall right = new Wall(100, 0, 10, 10);
+        Wall removed = new Wall(0, 0, 10, 10);
+        collidables.add(left);
+        collidables.add(right);
+        collidables.add(removed);
+        broadphase.findPairs(collidables, pairs);
+        assertEquals(2, pairs.size());
+
+        collidables.remove(removed);
+        left.setX(200);
+        pairs.clear();
+        broadphase.findPairs(collidables, pairs);
+        assertTrue(pairs.isEmpty());
+
+        right.setX(195);
+        broadphase.findPairs(collidables, pairs);
+        assertEquals(2, pairs.size());
+        assertEquals(right, pairs.get(0));
+        assertEquals(left, pairs.get(1));
+    }
+
+    /**
+     * Every pair of overlapping collidables found by brute force
+     * should also be found by sweep and prune.
+     */
+    @Test
+    public void sameAsBruteForceTest() {
+        for(int i = 0; i < 50; i++) {
+            collidables.add(new Wall((i * 37) % 300, (i * 53) % 200, 10 + i % 7, 10 + i % 5));
+        }
+        List<Collidable> bruteForcePairs = new ArrayList<>();
+        new BruteForceBroadphase().findPairs(collidables, bruteForcePairs);
+        broadphase.findPairs(collidables, pairs);
+
+        int overlapping = 0;
+        for(int i = 0; i < bruteForcePairs.size(); i += 2) {
+            if(bruteForcePairs.get(i).intersectsCollidable(bruteForcePairs.get(i + 1))) {
+                overlapping++;
+            }
+        }
+        int found = 0;
+        for(int i = 0; i < pairs.size(); i += 2) {
+            if(pairs.get(i).intersectsCollidable(pairs.get(i + 1))) {
+                found++;
+            }
+        }
+        assertEquals(50 * 49 / 2 * 2, bruteForcePairs.size());
+        assertEquals(overlapping, found);
+    }
+}
@@ -0,0 +1,120 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.controller.CollisionHandler;
+import com.sem.btrouble.controller.SweptCollision;
+import com.sem.btrouble.model.Bubble;
+import com.sem.btrouble.model.Floor;
+import com.sem.btrouble.model.Wall;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the continuous collision detection.
+ */
+public class SweptCollisionTest {
+
+    private static final float DELTA = 0.001f;
+
+    private CollisionHandler collisionHandler;
+    private List<Bubble> bubbles;
+    private List<Floor> floors;
+    private List<Wall> walls;
+
+    /**
+     * Set up a continuous collision handler with a thin floor and wall.
+     */
+    @Before
+    public void setUp() {
+        collisionHandler = new CollisionHandler();
+        collisionHandler.setContinuous(true);
+        bubbles = new ArrayList<>();
+        floors = new ArrayList<>();
+        floors.add(new Floor(0, 300, 600, 5));
+        walls = new ArrayList<>();
+        walls.add(new Wall(400, 0, 5, 280));
+        collisionHandler.addStaticListReference(floors);
+        collisionHandler.addStaticListReference(walls);
+        collisionHandler.addListReference(bubbles);
+    }
+
+    /**
+     * A circle moving onto a side should hit it when it touches it.
+     */
+    @Test
+    public void faceImpactTest() {
+        float time = SweptCollision.timeOfImpact(0, 50, 100, 50, 10, 60, 0, 70, 100);
+        assertEquals(0.5f, time, DELTA);
+    }
+
+    /**
+     * A circle passing a corner should hit the rounded corner.
+     */
+    @Test
+    public void cornerImpactTest() {
+        float time = SweptCollision.timeOfImpact(0, -8, 100, -8, 10, 60, 0, 70, 100);
+        assertEquals((60 - 6) / 100f, time, DELTA);
+        time = SweptCollision.timeOfImpact(0, -11, 100, -11, 10, 60, 0, 70, 100);
+        assertEquals(SweptCollision.NO_IMPACT, time, DELTA);
+    }
+
+    /**
+     * A circle that overlaps at the start is left to the discrete test.
+     */
+    @Test
+    public void startOverlapTest() {
+        float time = SweptCollision.timeOfImpact(55, 50, 100, 50, 10, 60, 0, 70, 100);
+        assertEquals(SweptCollision.NO_IMPACT, time, DELTA);
+    }
+
+    /**
+     * A fast bubble should bounce on a thin floor instead of falling through.
+     */
+    @Test
+    public void floorTunnelTest() {
+        Bubble bubble = new Bubble(1, 100, 250, 0, 100);
+        bubbles.add(bubble);
+        bubble.move();
+        assertTrue(bubble.getCenterY() > 305);
+
+        collisionHandler.checkAllCollisions();
+        assertEquals(290, bubble.getCenterY(), DELTA);
+        assertTrue(bubble.getVelocityY() < 0);
+    }
+
+    /**
+     * A fast bubble should bounce on a thin wall instead of passing it.
+     */
+    @Test
+    public void wallTunnelTest() {
+        Bubble bubble = new Bubble(1, 350, 100, 100, 0);
+        bubble.setAccelerationY(0);
+        bubbles.add(bubble);
+        bubble.move();
+        assertTrue(bubble.getCenterX() > 405);
+
+        collisionHandler.checkAllCollisions();
+        assertEquals(390, bubble.getCenterX(), DELTA);
+        assertTrue(bubble.getVelocityX() < 0);
+    }
+
+    /**
+     * Without continuous collision detection the bubble tunnels.
+     */
+    @Test
+    public void discreteTunnelTest() {
+        collisionHandler.setContinuous(false);
+        Bubble bubble = new Bubble(1, 100, 250, 0, 100);
+        bubbles.add(bubble);
+        bubble.move();
+        collisionHandler.checkAllCollisions();
+        assertTrue(bubble.getCenterY() > 305);
+        assertFalse(bubble.getVelocityY() < 0);
+    }
+}
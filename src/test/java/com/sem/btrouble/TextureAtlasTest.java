@@ -0,0 +1,104 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.tools.TextureAtlas;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test for the TextureAtlas index.
+ */
+public class TextureAtlasTest {
+
+    /**
+     * Creates a stream of a text.
+     * @param text the text.
+     * @return the stream.
+     */
+    private InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Regions should belong to the page above them.
+     * @throws IOException when the index can not be read.
+     */
+    @Test
+    public void readTest() throws IOException {
+        TextureAtlas atlas = TextureAtlas.read(stream("# comment\n"
+                + "page Sprites/a-0.png\n"
+                + "Sprites/rope.png 1 2 60 790\n"
+                + "\n"
+                + "page Sprites/a-1.png\n"
+                + "Sprites/idle.png 3 4 100 175\n"));
+        assertEquals(Arrays.asList("Sprites/a-0.png", "Sprites/a-1.png"), atlas.getPages());
+        assertEquals(2, atlas.getRegions().size());
+
+        TextureAtlas.Region rope = atlas.getRegion("Sprites/rope.png");
+        assertEquals("Sprites/a-0.png", rope.getPage());
+        assertEquals(1, rope.getX());
+        assertEquals(2, rope.getY());
+        assertEquals(60, rope.getWidth());
+        assertEquals(790, rope.getHeight());
+        assertEquals("Sprites/a-1.png", atlas.getRegion("Sprites/idle.png").getPage());
+        assertNull(atlas.getRegion("Sprites/menu.png"));
+    }
+
+    /**
+     * A written index should be read back the same.
+     * @throws IOException when the index can not be written or read.
+     */
+    @Test
+    public void writeTest() throws IOException {
+        TextureAtlas atlas = new TextureAtlas(Arrays.asList("p0.png", "p1.png"), Arrays.asList(
+                new TextureAtlas.Region("b.png", "p1.png", 5, 6, 7, 8),
+                new TextureAtlas.Region("a.png", "p0.png", 1, 2, 3, 4)));
+        StringWriter writer = new StringWriter();
+        atlas.write(writer);
+
+        TextureAtlas read = TextureAtlas.read(stream(writer.toString()));
+        assertEquals(atlas.getPages(), read.getPages());
+        for(TextureAtlas.Region region : atlas.getRegions()) {
+            TextureAtlas.Region other = read.getRegion(region.getPath());
+            assertEquals(region.getPage(), other.getPage());
+            assertEquals(region.getX(), other.getX());
+            assertEquals(region.getY(), other.getY());
+            assertEquals(region.getWidth(), other.getWidth());
+            assertEquals(region.getHeight(), other.getHeight());
+        }
+    }
+
+    /**
+     * A region before the first page can not be read.
+     * @throws IOException always.
+     */
+    @Test(expected = IOException.class)
+    public void regionWithoutPageTest() throws IOException {
+        TextureAtlas.read(stream("Sprites/rope.png 1 2 60 790\n"));
+    }
+
+    /**
+     * A region with a malformed number can not be read.
+     * @throws IOException always.
+     */
+    @Test(expected = IOException.class)
+    public void malformedRegionTest() throws IOException {
+        TextureAtlas.read(stream("page p.png\nSprites/rope.png 1 x 60 790\n"));
+    }
+
+    /**
+     * An atlas that does not exist should not be loaded.
+     */
+    @Test
+    public void missingTest() {
+        assertNull(TextureAtlas.load("Sprites/missing.atlas"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.sem.btrouble;
+
+import com.sem.btrouble.controller.Collidable;
+import com.sem.btrouble.controller.UniformGridBroadphase;
+import com.sem.btrouble.model.Wall;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the UniformGridBroadphase.
+ */
+public class UniformGridBroadphaseTest {
+
+    private UniformGridBroadphase grid;
+    private List<Collidable> collidables;
+    private List<Collidable> pairs;
+
+    /**
+     * Set up a 4x2 grid with cells of 100 pixels.
+     */
+    @Before
+    public void setUp() {
+        grid = new UniformGridBroadphase(0, 0, 400, 200, 100);
+        collidables = new ArrayList<>();
+        pairs = new ArrayList<>();
+    }
+
+    /**
+     * Test the dimensions of the grid.
+     */
+    @Test
+    public void dimensionsTest() {
+        assertEquals(4, grid.getColumns());
+        assertEquals(2, grid.getRows());
+    }
+
+    /**
+     * Collidables in the same cell should be a pair.
+     */
+    @Test
+    public void sameCellTest() {
+        Wall first = new Wall(10, 10, 10, 10);
+        Wall second = new Wall(50, 50, 10, 10);
+        collidables.add(first);
+        collidables.add(second);
+        grid.findPairs(collidables, pairs);
+        assertEquals(2, pairs.size());
+        assertTrue(pairs.contains(first));
+        assertTrue(pairs.contains(second));
+    }
+
+    /**
+     * Collidables in different cells should not be a pair.
+     */
+    @Test
+    public void differentCellTest() {
+        collidables.add(new Wall(10, 10, 10, 10));
+        collidables.add(new Wall(310, 110, 10, 10));
+        grid.findPairs(collidables, pairs);
+        assertTrue(pairs.isEmpty());
+    }
+
+    /**
+     * A pair sharing multiple cells should only be reported once.
+     */
+    @Test
+    public void multipleSharedCellsTest() {
+        collidables.add(new Wall(0, 90, 400, 20));
+        collidables.add(new Wall(90, 0, 20, 200));
+        grid.findPairs(collidables, pairs);
+        assertEquals(2, pairs.size());
+    }
+
+    /**
+     * Collidables outside the grid should be clamped to the border cells.
+     */
+    @Test
+    public void outsideBoundsTest() {
+        collidables.add(new Wall(-500, -500, 10, 10));
+        collidables.add(new Wall(0, 0, 10, 10));
+        grid.findPairs(collidables, pairs);
+        assertEquals(2, pairs.size());
+    }
+
+    /**
+     * Rebuilding the grid should forget the collidables of the previous tick.
+     */
+    @Test
+    public void rebuildTest() {
+        for(int i = 0; i < 100; i++) {
+            collidables.add(new Wall(i, i, 10, 10));
+        }
+        grid.findPairs(collidables, pairs);
+        assertTrue(pairs.size() > 0);
+
+        collidables.clear();
+        pairs.clear();
+        collidables.add(new Wall(0, 0, 10, 10));
+        grid.findPairs(collidables, pairs);
+        assertTrue(pairs.isEmpty());
+    }
+}